@@ -55,21 +55,20 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
             new LongInterpreter() {
 
                 @Override
-                protected @NotNull Long doInterpret(@NotNull String string) {
+                protected @NotNull Long convert(long value) {
 
                     /*
-                     * Parse the re-balance order using the superclass. Make
-                     * sure the parsed value is unique (to an integer value) in
-                     * the account file by: 1) removing the high-end bits
-                     * greater than an ordinary integer; 2) shifting the value
-                     * to the left by the size of an ordinary integer, and 3)
-                     * adding the row. This will mean that accounts with the
-                     * same, integer re-balance order will be rebalanced by
-                     * that which occurred first in the accounts file.
+                     * Make sure the parsed re-balance order is unique (to an
+                     * integer value) in the account file by: 1) removing the
+                     * high-end bits greater than an ordinary integer; 2)
+                     * shifting the value to the left by the size of an
+                     * ordinary integer, and 3) adding the row. This will mean
+                     * that accounts with the same, integer re-balance order
+                     * will be rebalanced by that which occurred first in the
+                     * accounts file.
                      */
-                    final long parsedValue = super.doInterpret(string);
-                    return ((parsedValue & Integer.MAX_VALUE) <<
-                            Integer.SIZE) + getRow();
+                    return ((value & Integer.MAX_VALUE) << Integer.SIZE) +
+                            getRow();
                 }
 
                 @Override
@@ -156,7 +155,7 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         /*
@@ -168,23 +167,24 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
         final AccountDescription description = new AccountDescription(
 
                 // Institution and account number
-                elements[AccountFields.INSTITUTION.getPosition()],
+                cursor.getField(AccountFields.INSTITUTION.getPosition())
+                        .toString(),
                 accountNumberInterpreter.interpret(
-                        elements[AccountFields.NUMBER.getPosition()],
+                        cursor.getField(AccountFields.NUMBER.getPosition()),
                         AccountKeyLibrary.getDefaultAccountNumber()),
 
                 // Re-balancer order
-                rebalanceOrderInterpreter.interpret(
-                        elements[AccountFields.REBALANCE_ORDER.getPosition()]),
+                rebalanceOrderInterpreter.interpret(cursor.getField(
+                        AccountFields.REBALANCE_ORDER.getPosition())),
 
                 // Name and tax type
-                elements[AccountFields.NAME.getPosition()],
+                cursor.getField(AccountFields.NAME.getPosition()).toString(),
                 taxTypeInterpreter.interpret(
-                        elements[AccountFields.TAX_TYPE.getPosition()]),
+                        cursor.getField(AccountFields.TAX_TYPE.getPosition())),
 
                 // Re-balance procedure
-                rebalanceProcedureInterpreter.interpret(elements[
-                        AccountFields.REBALANCE_PROCEDURE.getPosition()]));
+                rebalanceProcedureInterpreter.interpret(cursor.getField(
+                        AccountFields.REBALANCE_PROCEDURE.getPosition())));
 
         /*
          * Check the key of the description against the default key in the
@@ -206,7 +206,7 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
         }
 
         // Get the number of line elements and the number of account fields.
-        final int elementsLength = elements.length;
+        final int elementsLength = cursor.getFieldCount();
         final int numberOfAccountFields =
                 AccountFields.PERCENTAGE_REAL_ESTATE.getPosition() + 1;
 
@@ -242,7 +242,7 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
 
             // Adjust the allocation of the associated fund type.
             description.adjustAllocation(field.getType(),
-                    allocationInterpreter.interpret(elements[i]));
+                    allocationInterpreter.interpret(cursor.getField(i)));
         }
 
         // Is there at least one more element to process?
@@ -254,7 +254,8 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
              * element, set the synthesizer type, and increment the index.
              */
             description.setSynthesizerType(
-                    synthesizerTypeInterpreter.interpret(elements[i++]));
+                    synthesizerTypeInterpreter.interpret(
+                            cursor.getField(i++)));
         }
 
         /*
@@ -263,7 +264,7 @@ public class AccountsBuilder extends ElementReader<AccountDescription> {
          */
         for (; i < elementsLength; ++i) {
             description.addReferencedAccount(
-                    accountNumberInterpreter.interpret(elements[i]));
+                    accountNumberInterpreter.interpret(cursor.getField(i)));
         }
 
         // Log some exit information.
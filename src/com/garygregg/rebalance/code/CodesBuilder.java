@@ -2,6 +2,7 @@ package com.garygregg.rebalance.code;
 
 import com.garygregg.rebalance.interpreter.CodeInterpreter;
 import com.garygregg.rebalance.toolkit.ElementReader;
+import com.garygregg.rebalance.toolkit.FieldCursor;
 import com.garygregg.rebalance.toolkit.FundType;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -16,8 +17,9 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
-                    getTarget().setDescription(processDescription(field));
+                public void processField(@NotNull CharSequence field) {
+                    getTarget().setDescription(processDescription(
+                            field.toString()));
                 }
             };
 
@@ -32,8 +34,8 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
-                    getTarget().setName(field);
+                public void processField(@NotNull CharSequence field) {
+                    getTarget().setName(field.toString());
 
                 }
             };
@@ -97,7 +99,7 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         /*
@@ -107,7 +109,7 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
         setLineNumber(lineNumber);
         final CodeDescription description = new CodeDescription(
                 interpreter.interpret(
-                        elements[CodeFields.CODE.getPosition()]));
+                        cursor.getField(CodeFields.CODE.getPosition())));
 
         /*
          * Check the key of the description against the default key in the
@@ -132,7 +134,7 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
          * elements and the number of code fields.
          */
         setTarget(description);
-        final int elementsLength = elements.length;
+        final int elementsLength = cursor.getFieldCount();
         final int numberOfCodeFields = CodeFields.values().length;
 
         /*
@@ -168,7 +170,7 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
         for (int i = getMinimumFields(); i < fieldsToProcess; ++i) {
 
             // Process the first/next field.
-            processField(i, elements[i]);
+            processField(i, cursor);
         }
 
         // Log some exit information.
@@ -324,7 +326,7 @@ public class CodesBuilder extends ElementReader<CodeDescription> {
         }
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
 
             /*
              * Interpret the field as a code, and set the code as a sub-code in
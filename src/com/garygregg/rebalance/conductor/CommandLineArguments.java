@@ -115,31 +115,54 @@ public class CommandLineArguments<TokenType extends Enum<TokenType>> {
 
     /**
      * Returns the string representation of a recognized option, or null if
-     * no option is recognized.
+     * no option is recognized. An option that is exactly the name of a
+     * recognized option matches that option. Otherwise, the option must be a
+     * prefix of exactly one recognized option.
      *
      * @param option A potential option
      * @return The string representation of a recognized option, or null if
      * none is recognized.
+     * @throws CLAException Indicates that the option is a prefix of more
+     *                      than one recognized option
      */
-    private @Nullable String match(@NotNull String option) {
+    private @Nullable String match(@NotNull String option)
+            throws CLAException {
 
-        // Declare and initialize local variables.
-        String candidate = null;
-        boolean found = false;
+        /*
+         * Return the option itself if it is exactly the name of a recognized
+         * option.
+         */
+        if (recognizedSet.contains(option)) {
+            return option;
+        }
 
         /*
-         * Get an iterator from the recognized set. Cycle while options exist,
-         * and while none is recognized.
+         * Declare and initialize the matched candidate. Cycle for each
+         * recognized option.
          */
-        final Iterator<String> iterator = recognizedSet.iterator();
-        while (iterator.hasNext() && (!found)) {
+        String matched = null;
+        for (String candidate : recognizedSet) {
+
+            // Does the first/next candidate match the option?
+            if (match(candidate, option)) {
 
-            // Try to match the first/next candidate.
-            found = match(candidate = iterator.next(), option);
+                /*
+                 * The candidate matches the option. Throw an exception if
+                 * another candidate has already matched; the option is
+                 * ambiguous. Otherwise, remember the candidate.
+                 */
+                if (null != matched) {
+                    throw new CLAException(String.format("%s: Ambiguous " +
+                            "option '%s' matches both '%s' and '%s'", name,
+                            option, matched, candidate));
+                }
+
+                matched = candidate;
+            }
         }
 
         // Return a matched candidate, or null if none is recognized.
-        return found ? candidate : null;
+        return matched;
     }
 
     /**
@@ -240,9 +263,12 @@ public class CommandLineArguments<TokenType extends Enum<TokenType>> {
      * @param tokens   A collection of tokens to receive the command line
      *                 argument
      * @param argument The command line argument
+     * @throws CLAException Indicates that the argument is an ambiguous
+     *                      option
      */
     private void processArgument(@NotNull Collection<? super Token<TokenType>> tokens,
-                                 @NotNull String argument) {
+                                 @NotNull String argument)
+            throws CLAException {
 
         /*
          * First assume the argument is a numeric value that had been negative,
@@ -278,10 +304,12 @@ public class CommandLineArguments<TokenType extends Enum<TokenType>> {
      * @param tokens   A collection of tokens to receive the command line
      *                 option
      * @param argument The command line argument containing the option
+     * @throws CLAException Indicates that the option is ambiguous
      */
     private void processOption(@NotNull Collection<? super Token<TokenType>>
                                        tokens,
-                               @NotNull String argument) {
+                               @NotNull String argument)
+            throws CLAException {
 
         /*
          * Find the separator in the command line option. Is there no
@@ -5,6 +5,7 @@ import com.garygregg.rebalance.account.AccountsBuilder;
 import com.garygregg.rebalance.cla.*;
 import com.garygregg.rebalance.code.CodeLibrary;
 import com.garygregg.rebalance.code.CodesBuilder;
+import com.garygregg.rebalance.countable.Currency;
 import com.garygregg.rebalance.detailed.DetailedLibrary;
 import com.garygregg.rebalance.detailed.DetailedsBuilder;
 import com.garygregg.rebalance.distinguished.DistinguishedAccountLibrary;
@@ -16,10 +17,8 @@ import com.garygregg.rebalance.holding.ValuationsBuilder;
 import com.garygregg.rebalance.portfolio.PortfolioLibrary;
 import com.garygregg.rebalance.portfolio.PortfoliosBuilder;
 import com.garygregg.rebalance.rebalance.PortfolioRebalancer;
-import com.garygregg.rebalance.report.ActionReportWriter;
-import com.garygregg.rebalance.report.CurrentReportWriter;
-import com.garygregg.rebalance.report.DifferenceReportWriter;
-import com.garygregg.rebalance.report.ProposedReportWriter;
+import com.garygregg.rebalance.report.ReportPipeline;
+import com.garygregg.rebalance.report.ReportType;
 import com.garygregg.rebalance.tax.*;
 import com.garygregg.rebalance.ticker.TickerLibrary;
 import com.garygregg.rebalance.ticker.TickersBuilder;
@@ -28,11 +27,16 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.logging.*;
 import java.util.prefs.Preferences;
 
@@ -136,6 +140,10 @@ public class Conductor implements Dispatch<CommandLineId> {
     // Produces a portfolio library
     private final Factory portfolio = PortfolioLibrary::getInstance;
 
+    // The prior reads of data files, keyed by element processor prefix
+    private final Map<String, PriorRead> priorReads =
+            new ConcurrentHashMap<>();
+
     // Produces a ticker library
     private final Factory ticker = TickerLibrary::getInstance;
 
@@ -414,16 +422,79 @@ public class Conductor implements Dispatch<CommandLineId> {
                 preferences, outputStream, false));
 
         /*
-         * Add preference dispatches for: 1) backup; 2) set minimum settings,
-         * and; 3) preferences.
+         * Add a preference dispatch for whether consideration patterns are
+         * pruned by bound.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.NARROW,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for the number of consideration patterns
+         * evaluated concurrently per batch.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.FANOUT,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for the time budget of the share solver
+         * per account.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.WHOLESHARES,
+                preferences, outputStream, false));
+
+        /*
+         * Add preference dispatches for the time budgets of reallocation
+         * iterations per account and per run.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.QUOTA,
+                preferences, outputStream, false));
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.GLOBALQUOTA,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for the number of cents of currency
+         * interned either side of zero.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.ZEROCENTS,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for the minimum size of a data file to be
+         * memory-mapped.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.KBMAP,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for the minimum size of a data file to
+         * have its records cached.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.KBCACHE,
+                preferences, outputStream, false));
+
+        // Add a preference dispatch for the threads for concurrent work.
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.JOBS,
+                preferences, outputStream, false));
+
+        /*
+         * Add a preference dispatch for whether holdings are streamed
+         * directly into hierarchies.
+         */
+        dispatchList.add(new IntPreferenceDispatch<>(CommandLineId.FEED,
+                preferences, outputStream, false));
+
+        /*
+         * Add preference dispatches for: 1) backup; 2) vintages; 3) set
+         * minimum settings, and; 4) preferences.
          */
         dispatchList.add(new Backup(outputStream));
+        dispatchList.add(new Vintages(outputStream));
         dispatchList.add(new Minimum(outputStream));
         dispatchList.add(new Preference(outputStream));
 
         /*
-         * Add preferences for: 4) reset; 5) use expected prefix and suffix,
-         * and; 6) assistance.
+         * Add preferences for: 5) reset; 6) use expected prefix and suffix,
+         * and; 7) assistance.
          */
         dispatchList.add(new Reset(outputStream));
         dispatchList.add(new Use(preferences, outputStream));
@@ -650,6 +721,19 @@ public class Conductor implements Dispatch<CommandLineId> {
                 HoldingLineType.TICKER);
     }
 
+    /**
+     * Determines whether holdings are streamed directly into hierarchies.
+     *
+     * @return True if holdings are streamed directly into hierarchies, false
+     * otherwise
+     */
+    private static boolean isStreaming() {
+
+        // Holdings are streamed if the preference is set, and not zero.
+        final Integer feed = preferenceManager.getFeed();
+        return (null != feed) && (0 != feed);
+    }
+
     /**
      * Iterates over a list, and performs an action on each element.
      *
@@ -683,6 +767,26 @@ public class Conductor implements Dispatch<CommandLineId> {
         conduct(arguments);
     }
 
+    /**
+     * Prepares to work with portfolios.
+     */
+    private static void prepareForWork() {
+
+        // Configure logging.
+        MessageLogger.stream(MessageLogger.getExtraordinary(), "I am " +
+                "configuring logging (this message will not appear in the " +
+                "log file)...");
+        configureLogging();
+
+        /*
+         * Set inflation in the inflation caddy, and the range of interned
+         * currency, using the preference manager.
+         */
+        final PreferenceManager manager = PreferenceManager.getInstance();
+        InflationCaddy.getInstance().setPercent(manager.getInflation());
+        Currency.setInternRange(manager.getZeroCents());
+    }
+
     /**
      * Removes any console handlers from the root logger.
      */
@@ -728,83 +832,112 @@ public class Conductor implements Dispatch<CommandLineId> {
      */
     private static void workWithPortfolios() {
 
-        // Configure logging.
-        final Level level = MessageLogger.getExtraordinary();
-        MessageLogger.stream(level, "I am " +
-                "configuring logging (this message will not appear in the " +
-                "log file)...");
-        configureLogging();
+        /*
+         * Prepare for work, and work with the most recent holdings using a
+         * conductor instance.
+         */
+        prepareForWork();
+        getInstance().workWithHoldings(null);
+    }
+
+    /**
+     * Works with portfolios for each holding file dated in a range.
+     *
+     * @param first The first date of the range (inclusive; maybe null for no
+     *              lower bound)
+     * @param last  The last date of the range (inclusive; maybe null for no
+     *              upper bound)
+     * @throws CLAException Indicates that one or more required preferences
+     *                      have not yet been set
+     */
+    static void workWithSeries(Date first, Date last) throws CLAException {
 
-        // Set inflation in the inflation caddy using the preference manager.
-        InflationCaddy.getInstance().setPercent(
-                PreferenceManager.getInstance().getInflation());
+        /*
+         * Check that all required preferences have been set, and prepare for
+         * work.
+         */
+        checkPreferences();
+        prepareForWork();
 
-        // Get a conductor instance and its logger.
+        /*
+         * Get the logging level for extraordinary informational messages. Get
+         * a conductor instance and its logger.
+         */
+        final Level level = MessageLogger.getExtraordinary();
         final Conductor conductor = getInstance();
         final MessageLogger logger = conductor.getMessageLogger();
 
-        // Build the libraries. Was the build not successful?
-        logger.streamAndLog(level, "I am building libraries...");
-        if (!conductor.buildLibraries()) {
-
-            /*
-             * Building libraries was not successful. Stream and log
-             * information and return.
-             */
-            logger.streamAndLog(level, "I am canceling my work because I " +
-                    "could not successfully build the libraries...");
-            return;
+        /*
+         * Get the dates of the holding files in the range. Are there no such
+         * dates?
+         */
+        final Collection<Date> dates =
+                new ValuationsBuilder().getFileDates(first, last);
+        if (dates.isEmpty()) {
+
+            // There are no holding files in the range. Say so.
+            logger.streamAndLog(level, String.format("I found no holding " +
+                            "files dated from %s to %s...", (null == first) ?
+                            "the first" : DateUtilities.format(first),
+                    (null == last) ? "the last" : DateUtilities.format(last)));
         }
 
         /*
-         * Return if either the valuation hierarchy or the basis hierarchy
-         * could not be built.
+         * Forget any prior reads of data files. Watch the data directories
+         * for changes while working with the series; files may be added or
+         * replaced between dates.
          */
-        if (!(conductor.buildHierarchy(HoldingType.VALUATION) &&
-                conductor.buildHierarchy(HoldingType.BASIS))) {
-            return;
+        conductor.priorReads.clear();
+        final FileIndex index = FileIndex.getInstance();
+        try {
+            index.startWatching();
         }
 
-        try {
+        // Catch any I/O exception that may have occurred.
+        catch (@NotNull IOException exception) {
 
             /*
-             * Try to write a report for current holdings for each portfolio in
-             * the default hierarchy.
+             * Log a warning, and continue without watching. Data files
+             * indexed for the first date will be used for later dates.
              */
-            Hierarchy hierarchy = Hierarchy.getInstance();
-            new CurrentReportWriter().writeLines(hierarchy, null);
+            logger.log(Level.WARNING, String.format("This exception " +
+                    "occurred while trying to watch the data directories: " +
+                    "'%s'.", exception));
+        }
 
-            /*
-             * Now rebalance the hierarchy by account. Try to write a report
-             * for proposed holdings for each portfolio in the default
-             * hierarchy.
-             */
-            PortfolioRebalancer.getInstance().rebalanceByAccount(hierarchy);
-            new ProposedReportWriter().writeLines(hierarchy, null);
+        try {
 
-            /*
-             * Try to write a report for the difference between proposed and
-             * considered values for each line in the holding file. Then try to
-             * write a report for actions to be taken to rebalance the
-             * portfolio.
-             */
-            new DifferenceReportWriter().writeLines(hierarchy, null);
-            new ActionReportWriter().writeLines(hierarchy, null);
+            // Cycle for each date in the range.
+            for (Date date : dates) {
+
+                /*
+                 * Stream and log a message about the first/next date, and
+                 * work with the holdings of that date. Libraries whose data
+                 * files do not change between dates will be reused.
+                 */
+                logger.streamAndLog(level, String.format("I am working " +
+                                "with the holdings dated %s...",
+                        DateUtilities.format(date)));
+                conductor.workWithHoldings(date);
+            }
         }
 
-        // Oops, an I/O exception occurred while trying to write the reports.
-        catch (IOException exception) {
+        // Stop watching the data directories whatever happens.
+        finally {
 
-            // Stream and log some information about the exception, and return.
-            logger.streamAndLog(level, String.format("I received an I/O " +
-                    "exception with message '%s' while attempting to write " +
-                    "my reports, sorry.", exception.getMessage()));
-            return;
-        }
+            try {
+                index.stopWatching();
+            }
 
-        // Stream and log a success message if we get this far.
-        logger.streamAndLog(level, "Congratulations; it seems I have " +
-                "completed my work correctly!");
+            // Catch any I/O exception that may have occurred.
+            catch (@NotNull IOException exception) {
+
+                // Log a warning.
+                logger.log(Level.WARNING, String.format("This exception " +
+                        "occurred while trying to stop watching the data " +
+                        "directories: '%s'.", exception));
+            }
+        }
     }
 
     /**
@@ -853,9 +986,12 @@ public class Conductor implements Dispatch<CommandLineId> {
      * Builds a hierarchy for a given holding type.
      *
      * @param holdingType The given holding type
+     * @param date        The date floor for the holding file (maybe null for
+     *                    the most recent)
      * @return True if the hierarchy build was successful; false otherwise
      */
-    private boolean buildHierarchy(@NotNull HoldingType holdingType) {
+    private boolean buildHierarchy(@NotNull HoldingType holdingType,
+                                   Date date) {
 
         /*
          * Declare and initialize the result to success. Create a hierarchy for
@@ -880,9 +1016,20 @@ public class Conductor implements Dispatch<CommandLineId> {
                         "hierarchy and synthesizing required accounts...",
                 hierarchyName));
 
-        // Build the hierarchy. Was the build not successful?
-        hierarchy.buildHierarchy();
-        if (hierarchy.hadProblem()) {
+        /*
+         * Build the hierarchy, either by streaming holdings into it, or from
+         * the already built holding library. Was the build not successful?
+         */
+        boolean read = true;
+        if (isStreaming()) {
+            read = streamHierarchy(hierarchy, date);
+        }
+
+        else {
+            hierarchy.buildHierarchy();
+        }
+
+        if ((!read) || hierarchy.hadProblem()) {
 
             /*
              * Building the hierarchy was not successful. Stream and log
@@ -937,57 +1084,52 @@ public class Conductor implements Dispatch<CommandLineId> {
     /**
      * Builds the libraries.
      *
+     * @param date The date floor for the holding file (maybe null for the
+     *             most recent)
      * @return True if the build had no warnings or errors, false otherwise
      */
-    @SuppressWarnings("UnusedReturnValue")
-    private boolean buildLibraries() {
+    private boolean buildLibraries(Date date) {
 
         // Declare the return value.
         boolean result;
         try {
 
             /*
-             * Initialize the parent tracker instance. Build the valuation
-             * library with no date floor.
+             * Initialize the parent tracker instance. Declare the date floor
+             * for the remaining libraries. Are holdings to be streamed
+             * directly into hierarchies?
              */
             initialize();
-            result = buildLibrary(new ValuationsBuilder(), null, valuation);
+            final Date floor;
+            if (isStreaming()) {
 
-            /*
-             * Get the date of the valuation library, and use it to build the
-             * basis library.
-             */
-            final Date floor =
-                    HoldingLibrary.getInstance(HoldingType.VALUATION).getDate();
-            result = buildLibrary(new BasesBuilder(), floor, basis) && result;
+                /*
+                 * Holdings are to be streamed directly into hierarchies, and
+                 * they will be read after the remaining libraries are built.
+                 * The date floor is the date of the valuation file, which is
+                 * found in its name without reading it.
+                 */
+                result = true;
+                floor = new ValuationsBuilder().getFileDate(date);
+            }
 
             /*
-             * Use the date floor to build the code library, the income tax
-             * libraries, and the capital gains tax libraries.
+             * Holdings are not to be streamed. Build the valuation library
+             * with the given date floor. Its date is the only dependency of
+             * the remaining libraries.
              */
-            result = buildLibrary(new CodesBuilder(), floor, code) && result;
-            result = buildIncomeTaxLibraries(floor) && result;
-            result = buildGainsTaxLibraries(floor) && result;
+            else {
 
-            // Use the date floor to build the portfolio library.
-            result = buildLibrary(new PortfoliosBuilder(), floor, portfolio) &&
-                    result;
-
-            // Use the date floor to build the account library.
-            result = buildLibrary(new AccountsBuilder(), floor, account) &&
-                    result;
-
-            // Use the date floor to build the detailed library.
-            result = buildLibrary(new DetailedsBuilder(), floor, detailed) &&
-                    result;
-
-            // Use the date floor to build the ticker library.
-            result = buildLibrary(new TickersBuilder(), floor, ticker) &&
-                    result;
+                result = buildLibrary(new ValuationsBuilder(), date,
+                        valuation);
+                floor = HoldingLibrary.getInstance(
+                        HoldingType.VALUATION).getDate();
+            }
 
-            // Use the date floor to build the distinguished libraries.
-            result = buildLibrary(new DistinguishedsBuilder(), floor,
-                    distinguished) && result;
+            // Build the remaining libraries concurrently or sequentially.
+            result = (ConcurrencyUtilities.isConcurrent() ?
+                    buildLibrariesConcurrently(floor) :
+                    buildLibrariesSequentially(floor)) && result;
         }
 
         // Catch any I/O exception that may have occurred.
@@ -1007,6 +1149,179 @@ public class Conductor implements Dispatch<CommandLineId> {
         return result;
     }
 
+    /**
+     * Builds the libraries that depend on the valuation library date, with
+     * each independent build running concurrently.
+     *
+     * @param floor The date floor for the data files
+     * @return True if the builds had no warnings or errors, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean buildLibrariesConcurrently(Date floor)
+            throws IOException {
+
+        /*
+         * Create the basis and distinguished builds. These both use the
+         * parent tracker instance, so they will run one after the other in
+         * the same task. The basis build is skipped if holdings are to be
+         * streamed directly into hierarchies.
+         */
+        final boolean streaming = isStreaming();
+        final LibraryBuild basisBuild =
+                new LibraryBuild(new BasesBuilder(), basis);
+        final LibraryBuild distinguishedBuild =
+                new LibraryBuild(new DistinguishedsBuilder(), distinguished);
+
+        /*
+         * Create the list of builds in the same order that they would be done
+         * sequentially. Start with any basis build, then the code and income
+         * tax builds...
+         */
+        final List<LibraryBuild> builds = new ArrayList<>();
+        if (!streaming) {
+            builds.add(basisBuild);
+        }
+
+        builds.addAll(List.of(new LibraryBuild(new CodesBuilder(), code),
+                new LibraryBuild(new IncomeHeadTaxesBuilder(), incomeHead),
+                new LibraryBuild(new IncomeJointTaxesBuilder(), incomeJoint),
+                new LibraryBuild(new IncomeSeparateTaxesBuilder(),
+                        incomeSeparate),
+                new LibraryBuild(new IncomeSingleTaxesBuilder(),
+                        incomeSingle),
+
+                // ...the capital gains tax builds...
+                new LibraryBuild(new GainsHeadTaxesBuilder(), gainsHead),
+                new LibraryBuild(new GainsJointTaxesBuilder(), gainsJoint),
+                new LibraryBuild(new GainsSeparateTaxesBuilder(),
+                        gainsSeparate),
+                new LibraryBuild(new GainsSingleTaxesBuilder(), gainsSingle),
+
+                // ...and the portfolio, account, detailed and ticker builds.
+                new LibraryBuild(new PortfoliosBuilder(), portfolio),
+                new LibraryBuild(new AccountsBuilder(), account),
+                new LibraryBuild(new DetailedsBuilder(), detailed),
+                new LibraryBuild(new TickersBuilder(), ticker),
+                distinguishedBuild));
+
+        /*
+         * Create an executor, and a list for the futures of the tasks that
+         * will be submitted to it.
+         */
+        final ExecutorService executor =
+                ConcurrencyUtilities.createIoExecutor();
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+
+            /*
+             * Submit the basis and distinguished builds together in one task.
+             * Cycle for each build, and submit any other in a task of its own.
+             */
+            futures.add(executor.submit(() -> {
+
+                if (!streaming) {
+                    basisBuild.build(floor);
+                }
+
+                distinguishedBuild.build(floor);
+                return null;
+            }));
+
+            for (LibraryBuild build : builds) {
+                if (!((build == basisBuild) ||
+                        (build == distinguishedBuild))) {
+                    futures.add(executor.submit(() -> {
+
+                        build.build(floor);
+                        return null;
+                    }));
+                }
+            }
+
+            // Cycle for each future, and wait for its task to complete.
+            for (Future<?> future : futures) {
+                join(future);
+            }
+        }
+
+        // Shut down the executor whether the builds succeeded or not.
+        finally {
+            executor.shutdown();
+        }
+
+        /*
+         * All the builds are complete. Cycle for each build in sequential
+         * order, and report its deferred log records and the date of its
+         * library.
+         */
+        boolean result = true;
+        for (LibraryBuild build : builds) {
+            result = build.report() && result;
+        }
+
+        // It is a horrible problem if an income tax library is missing.
+        if (result && (!(result = IncomeTaxLibrary.checkContract()))) {
+            getMessageLogger().streamAndLog(Level.SEVERE,
+                    String.format(missingTaxLibrary, "Income"));
+        }
+
+        // It is a horrible problem if a capital gains tax library is missing.
+        if (result && (!(result = GainsTaxLibrary.checkContract()))) {
+            getMessageLogger().streamAndLog(Level.SEVERE,
+                    String.format(missingTaxLibrary, "Capital gains"));
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Builds the libraries that depend on the valuation library date, one
+     * after the other.
+     *
+     * @param floor The date floor for the data files
+     * @return True if the builds had no warnings or errors, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean buildLibrariesSequentially(Date floor)
+            throws IOException {
+
+        /*
+         * Use the date floor to build the basis library unless holdings are
+         * to be streamed directly into hierarchies.
+         */
+        boolean result = isStreaming() ||
+                buildLibrary(new BasesBuilder(), floor, basis);
+
+        /*
+         * Use the date floor to build the code library, the income tax
+         * libraries, and the capital gains tax libraries.
+         */
+        result = buildLibrary(new CodesBuilder(), floor, code) && result;
+        result = buildIncomeTaxLibraries(floor) && result;
+        result = buildGainsTaxLibraries(floor) && result;
+
+        // Use the date floor to build the portfolio library.
+        result = buildLibrary(new PortfoliosBuilder(), floor, portfolio) &&
+                result;
+
+        // Use the date floor to build the account library.
+        result = buildLibrary(new AccountsBuilder(), floor, account) &&
+                result;
+
+        // Use the date floor to build the detailed library.
+        result = buildLibrary(new DetailedsBuilder(), floor, detailed) &&
+                result;
+
+        // Use the date floor to build the ticker library.
+        result = buildLibrary(new TickersBuilder(), floor, ticker) &&
+                result;
+
+        // Use the date floor to build the distinguished libraries.
+        return buildLibrary(new DistinguishedsBuilder(), floor,
+                distinguished) && result;
+    }
+
     /**
      * Builds a library.
      *
@@ -1021,16 +1336,11 @@ public class Conductor implements Dispatch<CommandLineId> {
             throws IOException {
 
         /*
-         * Read the data lines using the date floor. The floor can be null,
-         * indicating no date floor.
+         * Read the data lines, or reuse a prior read of the same file. Log
+         * the date of the library.
          */
-        final boolean result = (null == floor) ? processor.readLines() :
-                processor.readLines(floor);
-
-        // Stream and log the date of the library.
-        getMessageLogger().streamAndLog(MessageLogger.getExtraordinary(),
-                String.format(dateMessageFormat, processor.getPrefix(),
-                        DateUtilities.format(factory.produce().getDate())));
+        final boolean result = readOrReuseLines(processor, floor);
+        logDate(processor, factory);
 
         // Return the result of reading the data lines.
         return result;
@@ -1061,6 +1371,140 @@ public class Conductor implements Dispatch<CommandLineId> {
         return messageLogger;
     }
 
+    /**
+     * Waits for the task of a future to complete.
+     *
+     * @param future The future of the task
+     * @throws IOException Indicates an I/O exception occurred in the task, or
+     *                     the wait was interrupted
+     */
+    private void join(@NotNull Future<?> future) throws IOException {
+
+        try {
+
+            // Try to wait for the task to complete.
+            future.get();
+        }
+
+        /*
+         * Catch any execution exception that may occur. Rethrow its cause if
+         * it is an I/O exception or a runtime exception, or wrap it in a
+         * runtime exception otherwise.
+         */
+        catch (@NotNull ExecutionException exception) {
+
+            final Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+
+        /*
+         * Catch any interrupted exception that may occur. Restore the
+         * interrupt, and throw an I/O exception.
+         */
+        catch (@NotNull InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(String.format("Interrupted " +
+                    "while waiting for a task: '%s'.", exception));
+        }
+    }
+
+    /**
+     * Streams and logs the date of a library.
+     *
+     * @param processor The element processor that built the library
+     * @param factory   A factory for producing the filled library
+     */
+    private void logDate(@NotNull ElementReader<?> processor,
+                         @NotNull Factory factory) {
+        getMessageLogger().streamAndLog(MessageLogger.getExtraordinary(),
+                String.format(dateMessageFormat, processor.getPrefix(),
+                        DateUtilities.format(factory.produce().getDate())));
+    }
+
+    /**
+     * Reads the data lines for a library unless the library was built by a
+     * prior read of the same, unchanged file. In that case the library is
+     * reused as is.
+     *
+     * @param processor The element processor that builds the library
+     * @param floor     The date floor for the data file
+     * @return True if the read (or the reused read) had no warnings or
+     * errors, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean readOrReuseLines(@NotNull ElementReader<?> processor,
+                                     Date floor) throws IOException {
+
+        /*
+         * Get the prefix of the processor, the file that it would read, and
+         * any prior read by a processor with the same prefix. Was the file
+         * read before, and has it not changed since?
+         */
+        final String prefix = processor.getPrefix();
+        final Path path = processor.getFilePath(floor);
+        final PriorRead priorRead = priorReads.get(prefix);
+        final boolean result;
+        if ((null != path) && (null != priorRead) &&
+                priorRead.isCurrent(path)) {
+
+            /*
+             * The file was read before, and has not changed. Log a message,
+             * and reuse the result of the prior read.
+             */
+            getMessageLogger().log(MessageLogger.getOrdinary(),
+                    String.format("I am reusing the %s library read from " +
+                            "'%s'.", prefix, path));
+            result = priorRead.getResult();
+        }
+
+        /*
+         * The file was not read before, or it has changed. Read the data
+         * lines, and record the read if there was a file.
+         */
+        else {
+
+            result = readLines(processor, floor);
+            if (null == path) {
+                priorReads.remove(prefix);
+            }
+
+            else {
+                priorReads.put(prefix, new PriorRead(path, result));
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Reads the data lines for a library.
+     *
+     * @param processor The element processor that builds the library
+     * @param floor     The date floor for the data file
+     * @return True if the read had no warnings or errors, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean readLines(@NotNull ElementReader<?> processor,
+                              Date floor) throws IOException {
+
+        /*
+         * Read the data lines using the date floor. The floor can be null,
+         * indicating no date floor.
+         */
+        return (null == floor) ? processor.readLines() :
+                processor.readLines(floor);
+    }
+
     /**
      * Sets the specific class/subclass logger.
      *
@@ -1070,6 +1514,148 @@ public class Conductor implements Dispatch<CommandLineId> {
         messageLogger.setLogger(logger);
     }
 
+    /**
+     * Streams holdings directly into a hierarchy.
+     *
+     * @param hierarchy The hierarchy
+     * @param date      The date floor for the holding file (maybe null for
+     *                  the most recent)
+     * @return True if the holdings were read with no warnings or errors,
+     * false otherwise
+     */
+    private boolean streamHierarchy(@NotNull Hierarchy hierarchy,
+                                    Date date) {
+
+        // Declare the result.
+        boolean result;
+        try {
+
+            /*
+             * Is this the valuation hierarchy? If so, create a valuation
+             * builder that streams holdings into the hierarchy. Read its data
+             * lines with the given date floor, and log the date of the
+             * library. The read is never reused; the hierarchy needs the
+             * holdings.
+             */
+            if (HoldingType.VALUATION.equals(hierarchy.getHoldingType())) {
+
+                final ValuationsBuilder builder = new ValuationsBuilder();
+                builder.setReceiver(hierarchy);
+                result = readLines(builder, date);
+                logDate(builder, valuation);
+            }
+
+            /*
+             * This is the basis hierarchy. Create a basis builder that streams
+             * holdings into the hierarchy. Read its data lines using the date
+             * of the valuation library as a floor, and log the date of the
+             * library.
+             */
+            else {
+
+                final BasesBuilder builder = new BasesBuilder();
+                builder.setReceiver(hierarchy);
+                result = readLines(builder, HoldingLibrary.getInstance(
+                        HoldingType.VALUATION).getDate());
+                logDate(builder, basis);
+            }
+        }
+
+        // Catch any I/O exception that may have occurred.
+        catch (IOException exception) {
+
+            /*
+             * Stream a descriptive error message to system error. Clear the
+             * return value.
+             */
+            MessageLogger.stream(Level.SEVERE, String.format("This " +
+                    "exception occurred while trying to stream holdings " +
+                    "into a hierarchy: '%s'.", exception));
+            result = false;
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Works with the holdings of a date.
+     *
+     * @param date The date floor for the holding file (maybe null for the
+     *             most recent)
+     */
+    private void workWithHoldings(Date date) {
+
+        /*
+         * Get the logging level for extraordinary informational messages. Get
+         * our message logger.
+         */
+        final Level level = MessageLogger.getExtraordinary();
+        final MessageLogger logger = getMessageLogger();
+
+        // Build the libraries. Was the build not successful?
+        logger.streamAndLog(level, "I am building libraries...");
+        if (!buildLibraries(date)) {
+
+            /*
+             * Building libraries was not successful. Stream and log
+             * information and return.
+             */
+            logger.streamAndLog(level, "I am canceling my work because I " +
+                    "could not successfully build the libraries...");
+            return;
+        }
+
+        /*
+         * Return if either the valuation hierarchy or the basis hierarchy
+         * could not be built.
+         */
+        if (!(buildHierarchy(HoldingType.VALUATION, date) &&
+                buildHierarchy(HoldingType.BASIS, date))) {
+            return;
+        }
+
+        try {
+
+            /*
+             * Try to write a report for current holdings for each portfolio in
+             * the default hierarchy.
+             */
+            Hierarchy hierarchy = Hierarchy.getInstance();
+            new ReportPipeline(ReportType.CURRENT).writeLines(hierarchy,
+                    null);
+
+            /*
+             * Now rebalance the hierarchy by account. Try to write a report
+             * for proposed holdings for each portfolio in the default
+             * hierarchy, a report for the difference between proposed and
+             * considered values for each line in the holding file, and a
+             * report for actions to be taken to rebalance the portfolio. These
+             * reports only read the rebalanced hierarchy, so the pipeline may
+             * write them together.
+             */
+            PortfolioRebalancer.getInstance().rebalanceByAccount(hierarchy);
+            new ReportPipeline(ReportType.PROPOSED, ReportType.DIFFERENCE,
+                    ReportType.ACTION).writeLines(hierarchy, null);
+        }
+
+        // Oops, an I/O exception occurred while trying to write the reports.
+        catch (IOException exception) {
+
+            // Stream and log some information about the exception, and return.
+            logger.streamAndLog(level, String.format("I received an I/O " +
+                    "exception with message '%s' while attempting to write " +
+                    "my reports, sorry.", exception.getMessage()));
+            return;
+        }
+
+        // Stream and log a success message if we get this far.
+        logger.streamAndLog(level, "Congratulations; it seems I have " +
+                "completed my work correctly!");
+    }
+
+
+
     @FunctionalInterface
     private interface Action<T> {
 
@@ -1092,6 +1678,72 @@ public class Conductor implements Dispatch<CommandLineId> {
         @NotNull Library<?, ?> produce();
     }
 
+    private class LibraryBuild {
+
+        // A factory for producing the filled library
+        private final Factory factory;
+
+        // The element processor that builds the library
+        private final ElementReader<?> processor;
+
+        // The log records deferred while building the library
+        private List<Pair<Logger, LogRecord>> records = new ArrayList<>();
+
+        // True if the build had no warnings or errors, false otherwise
+        private boolean result;
+
+        /**
+         * Constructs the library build.
+         *
+         * @param processor The element processor that builds the library
+         * @param factory   A factory for producing the filled library
+         */
+        public LibraryBuild(@NotNull ElementReader<?> processor,
+                            @NotNull Factory factory) {
+
+            // Set the member variables.
+            this.processor = processor;
+            this.factory = factory;
+        }
+
+        /**
+         * Builds the library, deferring its log records.
+         *
+         * @param floor The date floor for the data file
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        public void build(Date floor) throws IOException {
+
+            /*
+             * Start deferring log records. Read the data lines, or reuse a
+             * prior read of the same file.
+             */
+            MessageLogger.startDeferring();
+            try {
+                result = readOrReuseLines(processor, floor);
+            }
+
+            // Stop deferring log records even if an exception occurred.
+            finally {
+                records = MessageLogger.stopDeferring();
+            }
+        }
+
+        /**
+         * Publishes the deferred log records of the build, and logs the date
+         * of the library.
+         *
+         * @return True if the build had no warnings or errors, false otherwise
+         */
+        public boolean report() {
+
+            // Publish the deferred records, and log the date of the library.
+            MessageLogger.publish(records);
+            logDate(processor, factory);
+            return result;
+        }
+    }
+
     private static class BuildOptionAction
             implements Action<Pair<String, String>> {
 
@@ -1203,4 +1855,52 @@ public class Conductor implements Dispatch<CommandLineId> {
             maxLength = 0;
         }
     }
+
+    private static class PriorRead {
+
+        // The time the file was last modified when it was read
+        private final long modified;
+
+        // The path of the file that was read
+        private final Path path;
+
+        // True if the read had no warnings or errors, false otherwise
+        private final boolean result;
+
+        /**
+         * Constructs the prior read.
+         *
+         * @param path   The path of the file that was read
+         * @param result True if the read had no warnings or errors, false
+         *               otherwise
+         */
+        public PriorRead(@NotNull Path path, boolean result) {
+
+            // Set the member variables.
+            this.path = path;
+            this.result = result;
+            modified = path.toFile().lastModified();
+        }
+
+        /**
+         * Gets the result of the read.
+         *
+         * @return True if the read had no warnings or errors, false otherwise
+         */
+        public boolean getResult() {
+            return result;
+        }
+
+        /**
+         * Determines whether the read is current for a file.
+         *
+         * @param path The path of the file
+         * @return True if the read was of the same file, and the file has not
+         * been modified since; false otherwise
+         */
+        public boolean isCurrent(@NotNull Path path) {
+            return this.path.equals(path) &&
+                    (modified == path.toFile().lastModified());
+        }
+    }
 }
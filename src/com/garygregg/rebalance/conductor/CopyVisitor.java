@@ -1,5 +1,6 @@
 package com.garygregg.rebalance.conductor;
 
+import com.garygregg.rebalance.toolkit.RecordCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
@@ -69,6 +70,15 @@ class CopyVisitor extends SimpleFileVisitor<Path> {
          * already exists or can be created, otherwise return 'skip subtree.'
          */
 
+        /*
+         * Skip the subdirectory of the source that holds caches; they can be
+         * recreated, and need not be copied.
+         */
+        if (source.equals(Paths.get(getSourceDirectory(),
+                RecordCache.getCacheDirectoryName()))) {
+            return FileVisitResult.SKIP_SUBTREE;
+        }
+
         /*
          * Get the destination directory. Does the destination directory not
          * exist?
@@ -84,6 +84,58 @@ class Preference extends Informer implements Dispatch<CommandLineId> {
         displayPreference(CommandLineId.X, manager.getLimit());
         displayPreference(CommandLineId.Y, manager.getMaxLevel());
 
+        /*
+         * Display the preference for whether consideration patterns are
+         * pruned by bound.
+         */
+        displayPreference(CommandLineId.NARROW, manager.getNarrow());
+
+        /*
+         * Display the preference for the number of consideration patterns
+         * evaluated concurrently per batch.
+         */
+        displayPreference(CommandLineId.FANOUT, manager.getFanout());
+
+        /*
+         * Display the preference for the time budget of the share solver per
+         * account.
+         */
+        displayPreference(CommandLineId.WHOLESHARES, manager.getWholeShares());
+
+        /*
+         * Display the preferences for the time budgets of reallocation
+         * iterations per account and per run.
+         */
+        displayPreference(CommandLineId.QUOTA, manager.getQuota());
+        displayPreference(CommandLineId.GLOBALQUOTA, manager.getGlobalQuota());
+
+        /*
+         * Display the preference for the number of cents of currency interned
+         * either side of zero.
+         */
+        displayPreference(CommandLineId.ZEROCENTS, manager.getZeroCents());
+
+        /*
+         * Display the preference for the minimum size of a data file to be
+         * memory-mapped.
+         */
+        displayPreference(CommandLineId.KBMAP, manager.getKbMap());
+
+        /*
+         * Display the preference for the minimum size of a data file to have
+         * its records cached.
+         */
+        displayPreference(CommandLineId.KBCACHE, manager.getKbCache());
+
+        // Display the preference for the threads for concurrent work.
+        displayPreference(CommandLineId.JOBS, manager.getJobs());
+
+        /*
+         * Display the preference for whether holdings are streamed directly
+         * into hierarchies.
+         */
+        displayPreference(CommandLineId.FEED, manager.getFeed());
+
         // Display the preferences for source and destination.
         displayPreference(CommandLineId.SOURCE, manager.getSource());
         displayPreference(CommandLineId.DESTINATION, manager.getDestination());
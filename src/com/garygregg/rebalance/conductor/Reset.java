@@ -36,26 +36,50 @@ class Reset extends Informer implements Dispatch<CommandLineId> {
         manager.setDestination(null);
         manager.setExtraordinary(null);
 
-        // Set the S&P 500 high and the expected annual inflation rate.
+        /*
+         * Set the number of consideration patterns evaluated concurrently per
+         * batch, whether holdings are streamed into hierarchies, and the time
+         * budget of reallocation iterations per run.
+         */
+        manager.setFanout(null);
+        manager.setFeed(null);
+        manager.setGlobalQuota(null);
+
+        /*
+         * Set the S&P 500 high, the expected annual inflation rate, the
+         * threads for concurrent work, the minimum size of a data file to have
+         * its records cached, and the minimum size of a data file to be
+         * memory-mapped.
+         */
         manager.setHigh(null);
         manager.setInflation(null);
+        manager.setJobs(null);
+        manager.setKbCache(null);
+        manager.setKbMap(null);
 
         /*
          * Set the desired logging level. Set the limit of per-account
-         * reallocation iterations, and the maximum level that is allowed
-         * reallocation iterations.
+         * reallocation iterations, the maximum level that is allowed
+         * reallocation iterations, and whether consideration patterns are
+         * pruned by bound.
          */
         manager.setLevel(null);
         manager.setLimit(null);
         manager.setMaxLevel(null);
+        manager.setNarrow(null);
 
         /*
-         * Set the logging level for ordinary informational messages, the path
-         * of the data files, and the S&P 500 today.
+         * Set the logging level for ordinary informational messages, the time
+         * budget of reallocation iterations per account, the path of the data
+         * files, the S&P 500 today, the time budget of the share solver, and
+         * the number of cents of currency interned either side of zero.
          */
         manager.setOrdinary(null);
+        manager.setQuota(null);
         manager.setSource(null);
         manager.setToday(null);
+        manager.setWholeShares(null);
+        manager.setZeroCents(null);
     }
 
     @Override
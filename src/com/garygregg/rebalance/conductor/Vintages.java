@@ -0,0 +1,105 @@
+package com.garygregg.rebalance.conductor;
+
+import com.garygregg.rebalance.cla.CLAException;
+import com.garygregg.rebalance.cla.Dispatch;
+import com.garygregg.rebalance.cla.Informer;
+import com.garygregg.rebalance.toolkit.CommandLineId;
+import com.garygregg.rebalance.toolkit.DateUtilities;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.text.ParseException;
+import java.util.Date;
+
+class Vintages extends Informer implements Dispatch<CommandLineId> {
+
+    // The separator between the first and last dates of a range
+    private static final String separator = ",";
+
+    /**
+     * Constructs the vintages dispatch.
+     *
+     * @param stream The output stream for messages
+     */
+    public Vintages(@NotNull PrintStream stream) {
+        super(stream);
+    }
+
+    /**
+     * Parses a bound of a date range.
+     *
+     * @param bound The bound to parse
+     * @return The date of the bound, or null if the bound is empty
+     * @throws CLAException Indicates the bound is not a date
+     */
+    private static Date parseBound(@NotNull String bound)
+            throws CLAException {
+
+        // Declare the result. Is the bound not empty?
+        Date result = null;
+        if (!bound.isBlank()) {
+
+            try {
+
+                // Try to parse the bound as a date.
+                result = DateUtilities.parse(bound.strip());
+            }
+
+            /*
+             * Catch any parse exception that may occur. Wrap it in a new CLA
+             * exception, and throw the CLA exception.
+             */
+            catch (@NotNull ParseException exception) {
+                throw new CLAException(exception);
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    @Override
+    public void dispatch(String argument) throws CLAException {
+
+        /*
+         * Declare the first and last dates of the range. There are no bounds
+         * if there is no argument.
+         */
+        Date first = null, last = null;
+        if (null != argument) {
+
+            /*
+             * There is an argument. Split it into no more than two bounds. Is
+             * the argument malformed?
+             */
+            final String[] bounds = argument.split(separator, -1);
+            if (2 < bounds.length) {
+                throw new CLAException(String.format("Vintages failed " +
+                        "because '%s' is not a date range.", argument));
+            }
+
+            /*
+             * Parse the first bound, and any last bound. Is the first date
+             * after the last?
+             */
+            first = parseBound(bounds[0]);
+            last = (1 < bounds.length) ? parseBound(bounds[1]) : null;
+            if ((null != first) && (null != last) && first.after(last)) {
+
+                // The first date is after the last. Throw a new CLA exception.
+                throw new CLAException(String.format("Vintages failed " +
+                        "because the first date of '%s' is after the last.",
+                        argument));
+            }
+        }
+
+        // Work with portfolios for each holding file dated in the range.
+        Conductor.workWithSeries(first, last);
+        printNoException(getKey().toString());
+    }
+
+    @Override
+    public @NotNull CommandLineId getKey() {
+        return CommandLineId.VINTAGES;
+    }
+}
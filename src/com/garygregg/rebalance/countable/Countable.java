@@ -14,8 +14,19 @@ public abstract class Countable implements ICountable {
      */
     Countable(double value, int precision,
               @SuppressWarnings("SameParameterValue") boolean truncate) {
-        this.value = truncate ? ICountable.truncate(value, precision) :
-                ICountable.round(value, precision);
+        this(truncate ? FixedPoint.toUnitsTruncated(value, precision) :
+                FixedPoint.toUnits(value, precision), precision);
+    }
+
+    /**
+     * Constructs a countable from whole units of its precision.
+     *
+     * @param units     The value of the countable in whole units of its
+     *                  precision
+     * @param precision The precision of the countable
+     */
+    Countable(long units, int precision) {
+        this.value = FixedPoint.toValue(units, precision);
     }
 
     /**
@@ -28,6 +39,16 @@ public abstract class Countable implements ICountable {
         this(value, precision, false);
     }
 
+    @Override
+    public long getUnits() {
+
+        /*
+         * The value is a whole number of units of the precision, so
+         * converting it back to units is exact.
+         */
+        return FixedPoint.toUnits(getValue(), getPrecision());
+    }
+
     @Override
     public double getValue() {
         return value;
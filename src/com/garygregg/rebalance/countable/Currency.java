@@ -20,9 +20,10 @@ public class Currency extends Countable implements Comparable<Currency> {
     // The precision of currency
     private static final int precision = ICountable.getCurrencyPrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A known cent
     private static final Currency cent =
@@ -31,6 +32,13 @@ public class Currency extends Countable implements Comparable<Currency> {
     // A known zero
     private static final Currency zero = new Currency(0.);
 
+    // The default number of cents interned either side of zero
+    private static final int defaultRange = 10000;
+
+    // An interner of currency with few enough cents
+    private static volatile Interner<Currency> interner =
+            createInterner(defaultRange);
+
     /**
      * Constructs currency with a default truncate flag.
      *
@@ -41,12 +49,30 @@ public class Currency extends Countable implements Comparable<Currency> {
     }
 
     /**
-     * Constructs currency from mutable currency.
+     * Constructs currency from whole cents.
      *
-     * @param currency Mutable currency
+     * @param units The value of the currency in whole cents
      */
-    Currency(@NotNull MutableCurrency currency) {
-        super(currency.getValue(), precision);
+    private Currency(long units) {
+        super(units, precision);
+    }
+
+    /**
+     * Creates an interner of currency, seeded with the known currency.
+     *
+     * @param range The number of cents interned either side of zero
+     * @return An interner of currency
+     */
+    private static @NotNull Interner<Currency> createInterner(long range) {
+
+        // Create the interner, and seed it with the known currency.
+        final Interner<Currency> interner = new Interner<>(Currency::new,
+                -range, range);
+        interner.seed(zero);
+        interner.seed(one);
+        interner.seed(minusOne);
+        interner.seed(cent);
+        return interner;
     }
 
     /**
@@ -56,7 +82,19 @@ public class Currency extends Countable implements Comparable<Currency> {
      * @return The formatted value
      */
     public static String format(Double value) {
-        return (null == value) ? null : formatter.format(value);
+        return (null == value) ? null : formatter.get().format(value);
+    }
+
+    /**
+     * Gets currency from whole cents. Currency with few enough cents is
+     * interned, so repeated values share an instance.
+     *
+     * @param units The value of the currency in whole cents
+     * @return Currency with the given value; a known currency if the value
+     * is known
+     */
+    public static @NotNull Currency fromUnits(long units) {
+        return interner.intern(units);
     }
 
     /**
@@ -95,6 +133,17 @@ public class Currency extends Countable implements Comparable<Currency> {
         return zero;
     }
 
+    /**
+     * Sets the number of cents of currency interned either side of zero.
+     *
+     * @param cents The number of cents of currency interned either side of
+     *              zero; null or negative for a default
+     */
+    public static void setInternRange(Integer cents) {
+        interner = createInterner(((null == cents) || (0 > cents)) ?
+                defaultRange : cents);
+    }
+
     @Override
     public boolean areNotEqual(double value) {
         return !ICountable.areEqual(value, getValue(), getPrecision());
@@ -137,6 +186,6 @@ public class Currency extends Countable implements Comparable<Currency> {
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
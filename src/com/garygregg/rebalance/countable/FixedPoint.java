@@ -0,0 +1,77 @@
+package com.garygregg.rebalance.countable;
+
+public final class FixedPoint {
+
+    /*
+     * Factors of ten for each precision that a long can represent in whole
+     * units, indexed by precision
+     */
+    private static final double[] factors = new double[19];
+
+    static {
+
+        /*
+         * Calculate each factor by multiplying the factor of the next lower
+         * precision by ten. Powers of ten in this range are exact in double
+         * precision, so each factor is exact.
+         */
+        double factor = 1.;
+        for (int i = 0; i < factors.length; ++i) {
+
+            factors[i] = factor;
+            factor *= 10.;
+        }
+    }
+
+    /**
+     * Constructs the fixed-point utilities object.
+     */
+    private FixedPoint() {
+
+        // Nothing to do here currently.
+    }
+
+    /**
+     * Gets a factor of ten for a precision.
+     *
+     * @param precision The given precision
+     * @return A factor of ten for the given precision
+     */
+    public static double getFactor(int precision) {
+        return ((0 <= precision) && (precision < factors.length)) ?
+                factors[precision] : Math.pow(10., precision);
+    }
+
+    /**
+     * Converts a value to whole units of a precision by rounding.
+     *
+     * @param value     The given value
+     * @param precision The given precision
+     * @return The value in whole units of the precision, rounded
+     */
+    public static long toUnits(double value, int precision) {
+        return Math.round(value * getFactor(precision));
+    }
+
+    /**
+     * Converts a value to whole units of a precision by truncation.
+     *
+     * @param value     The given value
+     * @param precision The given precision
+     * @return The value in whole units of the precision, truncated
+     */
+    public static long toUnitsTruncated(double value, int precision) {
+        return (long) (value * getFactor(precision));
+    }
+
+    /**
+     * Converts whole units of a precision to a value.
+     *
+     * @param units     Whole units of the precision
+     * @param precision The given precision
+     * @return The value of the units
+     */
+    public static double toValue(long units, int precision) {
+        return units / getFactor(precision);
+    }
+}
@@ -101,7 +101,7 @@ public interface ICountable {
      * @return A factor of ten based on the given precision
      */
     static double calculateFactor(int precision) {
-        return Math.pow(10., precision);
+        return FixedPoint.getFactor(precision);
     }
 
     /**
@@ -194,11 +194,11 @@ public interface ICountable {
     static double round(double value, int precision) {
 
         /*
-         * Calculate the factor with the given precision, round the value
-         * and return it.
+         * Round the value to whole units of the given precision, and return
+         * the value of the units.
          */
-        final double factor = calculateFactor(precision);
-        return Math.round(value * factor) / factor;
+        return FixedPoint.toValue(FixedPoint.toUnits(value, precision),
+                precision);
     }
 
     /**
@@ -211,11 +211,11 @@ public interface ICountable {
     static double truncate(double value, int precision) {
 
         /*
-         * Calculate the factor with the given precision, truncate the value
-         * and return it.
+         * Truncate the value to whole units of the given precision, and
+         * return the value of the units.
          */
-        final double factor = calculateFactor(precision);
-        return ((long) (value * factor)) / factor;
+        return FixedPoint.toValue(FixedPoint.toUnitsTruncated(value,
+                precision), precision);
     }
 
     /**
@@ -235,6 +235,13 @@ public interface ICountable {
      */
     int getPrecision();
 
+    /**
+     * Gets the value of the countable in whole units of its precision.
+     *
+     * @return The value of the countable in whole units of its precision
+     */
+    long getUnits();
+
     /**
      * Gets the value of the countable.
      *
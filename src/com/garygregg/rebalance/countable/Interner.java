@@ -0,0 +1,155 @@
+package com.garygregg.rebalance.countable;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+class Interner<T extends ICountable> {
+
+    // The binary logarithm of the number of countables in a chunk
+    private static final int shift = 10;
+
+    // A mask for the index of a countable within its chunk
+    private static final int mask = (1 << shift) - 1;
+
+    /*
+     * Chunks of interned countables, created when first needed so that only
+     * the ranges of units actually used take space
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> chunks;
+
+    // A factory for countables from whole units of their precision
+    private final LongFunction<? extends T> factory;
+
+    // The smallest units of an interned countable
+    private final long minimum;
+
+    // The number of units that are interned
+    private final long size;
+
+    /**
+     * Constructs the interner.
+     *
+     * @param factory A factory for countables from whole units of their
+     *                precision
+     * @param minimum The smallest units of an interned countable
+     * @param maximum The largest units of an interned countable
+     */
+    public Interner(@NotNull LongFunction<? extends T> factory, long minimum,
+                    long maximum) {
+
+        /*
+         * Set the member variables. Create the array of chunks, but no
+         * chunks.
+         */
+        this.factory = factory;
+        this.minimum = minimum;
+        this.size = Math.max(0L, maximum - minimum + 1L);
+        this.chunks = new AtomicReferenceArray<>((int) ((size + mask) >>
+                shift));
+    }
+
+    /**
+     * Gets the chunk for an index, creating it if it does not exist.
+     *
+     * @param index The index of interned units
+     * @return The chunk for the index
+     */
+    private @NotNull AtomicReferenceArray<T> getChunk(int index) {
+
+        // Get the chunk for the index. Is there no chunk?
+        final int chunkIndex = index >> shift;
+        AtomicReferenceArray<T> chunk = chunks.get(chunkIndex);
+        if (null == chunk) {
+
+            /*
+             * There is no chunk. Create one, and set it unless another thread
+             * has set one first. Either way, receive the chunk that is set.
+             */
+            final AtomicReferenceArray<T> created =
+                    new AtomicReferenceArray<>(1 << shift);
+            chunk = chunks.compareAndExchange(chunkIndex, null, created);
+            if (null == chunk) {
+                chunk = created;
+            }
+        }
+
+        // Return the chunk.
+        return chunk;
+    }
+
+    /**
+     * Gets the index of units in the interned countables.
+     *
+     * @param units Whole units of the precision of the countables
+     * @return The index of the units, or -1 if countables with the units are
+     * not interned
+     */
+    private int getIndex(long units) {
+
+        // Return -1 if the units are outside the interned range.
+        final long index = units - minimum;
+        return ((0L <= index) && (index < size)) ? (int) index : -1;
+    }
+
+    /**
+     * Gets a countable with the given units, interning it if countables with
+     * the units are interned. Interned countables are shared by all threads,
+     * so the first countable interned for any units is the only one returned
+     * for those units.
+     *
+     * @param units Whole units of the precision of the countable
+     * @return A countable with the given units
+     */
+    public @NotNull T intern(long units) {
+
+        /*
+         * Get the index of the units. Produce a new countable if countables
+         * with the units are not interned.
+         */
+        final int index = getIndex(units);
+        if (0 > index) {
+            return factory.apply(units);
+        }
+
+        /*
+         * Get the chunk for the index, and any interned countable for the
+         * units. Is there no interned countable?
+         */
+        final AtomicReferenceArray<T> chunk = getChunk(index);
+        T countable = chunk.get(index & mask);
+        if (null == countable) {
+
+            /*
+             * There is no interned countable. Produce one, and intern it
+             * unless another thread has interned one first. Either way,
+             * receive the interned countable.
+             */
+            final T produced = factory.apply(units);
+            countable = chunk.compareAndExchange(index & mask, null,
+                    produced);
+            if (null == countable) {
+                countable = produced;
+            }
+        }
+
+        // Return the interned countable.
+        return countable;
+    }
+
+    /**
+     * Interns a known countable, if countables with its units are interned
+     * and none has been interned yet.
+     *
+     * @param countable A known countable
+     */
+    public void seed(@NotNull T countable) {
+
+        // Intern the countable if its units are interned.
+        final int index = getIndex(countable.getUnits());
+        if (0 <= index) {
+            getChunk(index).compareAndSet(index & mask, null, countable);
+        }
+    }
+}
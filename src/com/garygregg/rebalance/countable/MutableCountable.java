@@ -2,6 +2,9 @@ package com.garygregg.rebalance.countable;
 
 public abstract class MutableCountable implements IMutableCountable {
 
+    // The value of the countable in whole units of its precision
+    private long units;
+
     // The value of the countable
     private double value;
 
@@ -28,6 +31,11 @@ public abstract class MutableCountable implements IMutableCountable {
         return ICountable.calculateFactor(getPrecision());
     }
 
+    @Override
+    public long getUnits() {
+        return units;
+    }
+
     @Override
     public double getValue() {
         return value;
@@ -36,18 +44,40 @@ public abstract class MutableCountable implements IMutableCountable {
     @Override
     public double set(double value, boolean truncate) {
 
-        /*
-         * Clear any immutable value container. Set the value by truncation,
-         * or rounding, as specified. Return the value that was set.
-         */
-        clear();
-        this.value = truncate ? ICountable.truncate(value, getPrecision()) :
-                ICountable.round(value, getPrecision());
-        return getValue();
+        // Set the units by truncation, or rounding, as specified.
+        final int precision = getPrecision();
+        return setUnits(truncate ?
+                FixedPoint.toUnitsTruncated(value, precision) :
+                FixedPoint.toUnits(value, precision));
     }
 
     @Override
     public double set(double value) {
         return set(value, false);
     }
+
+    /**
+     * Sets the value of the countable in whole units of its precision. Any
+     * immutable value container is kept if the units do not change.
+     *
+     * @param units The value of the countable in whole units of its
+     *              precision
+     * @return The value that was set
+     */
+    public double setUnits(long units) {
+
+        /*
+         * Are the units changing? If so, clear any immutable value container,
+         * and set the units and their value.
+         */
+        if (this.units != units) {
+
+            clear();
+            this.units = units;
+            value = FixedPoint.toValue(units, getPrecision());
+        }
+
+        // Return the value that was set.
+        return getValue();
+    }
 }
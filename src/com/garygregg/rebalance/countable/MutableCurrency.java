@@ -14,9 +14,10 @@ public class MutableCurrency extends MutableCountable
     // The precision of currency
     private static final int precision = ICountable.getCurrencyPrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A container for immutable currency
     private final Container<Currency> container = new Container<>(this);
@@ -65,7 +66,7 @@ public class MutableCurrency extends MutableCountable
     public double add(@NotNull Currency currency) {
 
         // Add the value, and return the result.
-        set(getValue() + currency.getValue());
+        setUnits(getUnits() + currency.getUnits());
         return getValue();
     }
 
@@ -79,7 +80,7 @@ public class MutableCurrency extends MutableCountable
     public double add(@NotNull MutableCurrency currency) {
 
         // Add the value, and return the result.
-        set(getValue() + currency.getValue());
+        setUnits(getUnits() + currency.getUnits());
         return getValue();
     }
 
@@ -220,7 +221,7 @@ public class MutableCurrency extends MutableCountable
 
     @Override
     public @NotNull Currency produce() {
-        return new Currency(this);
+        return Currency.fromUnits(getUnits());
     }
 
     /**
@@ -233,7 +234,7 @@ public class MutableCurrency extends MutableCountable
     public double set(@NotNull Currency currency) {
 
         // Set the value, and return the result.
-        set(currency.getValue());
+        setUnits(currency.getUnits());
         return getValue();
     }
 
@@ -246,7 +247,7 @@ public class MutableCurrency extends MutableCountable
     public double set(@NotNull MutableCurrency currency) {
 
         // Set the value, and return the result.
-        set(currency.getValue());
+        setUnits(currency.getUnits());
         return getValue();
     }
 
@@ -260,7 +261,7 @@ public class MutableCurrency extends MutableCountable
     public double subtract(@NotNull Currency currency) {
 
         // Subtract the value, and return the result.
-        set(getValue() - currency.getValue());
+        setUnits(getUnits() - currency.getUnits());
         return getValue();
     }
 
@@ -273,12 +274,12 @@ public class MutableCurrency extends MutableCountable
     public double subtract(@NotNull MutableCurrency currency) {
 
         // Subtract the value, and return the result.
-        set(getValue() - currency.getValue());
+        setUnits(getUnits() - currency.getUnits());
         return getValue();
     }
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
@@ -14,9 +14,10 @@ public class MutablePercent extends MutableCountable
     // The precision of percent
     private static final int precision = ICountable.getPercentPrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A container for immutable currency
     private final Container<Percent> container = new Container<>(this);
@@ -48,7 +49,7 @@ public class MutablePercent extends MutableCountable
     public double add(@NotNull Percent percent) {
 
         // Add the value, and return the result.
-        set(getValue() + percent.getValue());
+        setUnits(getUnits() + percent.getUnits());
         return getValue();
     }
 
@@ -61,7 +62,7 @@ public class MutablePercent extends MutableCountable
     public double add(@NotNull MutablePercent percent) {
 
         // Add the value, and return the result.
-        set(getValue() + percent.getValue());
+        setUnits(getUnits() + percent.getUnits());
         return getValue();
     }
 
@@ -138,7 +139,7 @@ public class MutablePercent extends MutableCountable
 
     @Override
     public @NotNull Percent produce() {
-        return new Percent(this);
+        return Percent.fromUnits(getUnits());
     }
 
     /**
@@ -150,7 +151,7 @@ public class MutablePercent extends MutableCountable
     public double set(@NotNull MutablePercent percent) {
 
         // Set the value, and return the result.
-        set(percent.getValue());
+        setUnits(percent.getUnits());
         return getValue();
     }
 
@@ -163,7 +164,7 @@ public class MutablePercent extends MutableCountable
     public double subtract(@NotNull Percent percent) {
 
         // Subtract the value, and return the result.
-        set(getValue() - percent.getValue());
+        setUnits(getUnits() - percent.getUnits());
         return getValue();
     }
 
@@ -176,12 +177,12 @@ public class MutablePercent extends MutableCountable
     public double subtract(@NotNull MutablePercent percent) {
 
         // Subtract the value, and return the result.
-        set(getValue() - percent.getValue());
+        setUnits(getUnits() - percent.getUnits());
         return getValue();
     }
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
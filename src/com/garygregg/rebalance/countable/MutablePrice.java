@@ -14,9 +14,10 @@ public class MutablePrice extends MutableCountable
     // The precision of price
     private static final int precision = ICountable.getPricePrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A container for immutable price
     private final Container<Price> container = new Container<>(this);
@@ -39,7 +40,7 @@ public class MutablePrice extends MutableCountable
     public double add(@NotNull Price price) {
 
         // Add the value, and return the result.
-        set(getValue() + price.getValue());
+        setUnits(getUnits() + price.getUnits());
         return getValue();
     }
 
@@ -52,7 +53,7 @@ public class MutablePrice extends MutableCountable
     public double add(@NotNull MutablePrice price) {
 
         // Add the value, and return the result.
-        set(getValue() + price.getValue());
+        setUnits(getUnits() + price.getUnits());
         return getValue();
     }
 
@@ -195,7 +196,7 @@ public class MutablePrice extends MutableCountable
     public double set(@NotNull Price price) {
 
         // Set the value, and return the result.
-        set(price.getValue());
+        setUnits(price.getUnits());
         return getValue();
     }
 
@@ -208,7 +209,7 @@ public class MutablePrice extends MutableCountable
     public double set(@NotNull MutablePrice price) {
 
         // Set the value, and return the result.
-        set(price.getValue());
+        setUnits(price.getUnits());
         return getValue();
     }
 
@@ -221,7 +222,7 @@ public class MutablePrice extends MutableCountable
     public double subtract(@NotNull Price price) {
 
         // Subtract the value, and return the result.
-        set(getValue() - price.getValue());
+        setUnits(getUnits() - price.getUnits());
         return getValue();
     }
 
@@ -234,12 +235,12 @@ public class MutablePrice extends MutableCountable
     public double subtract(@NotNull MutablePrice price) {
 
         // Subtract the value, and return the result.
-        set(getValue() - price.getValue());
+        setUnits(getUnits() - price.getUnits());
         return getValue();
     }
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
@@ -14,9 +14,10 @@ public class MutableShares extends MutableCountable
     // The precision of shares
     private static final int precision = ICountable.getSharesPrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A container for immutable currency
     private final Container<Shares> container = new Container<>(this);
@@ -55,7 +56,7 @@ public class MutableShares extends MutableCountable
     public double add(@NotNull Shares shares) {
 
         // Add the value, and return the result.
-        set(getValue() + shares.getValue());
+        setUnits(getUnits() + shares.getUnits());
         return getValue();
     }
 
@@ -68,7 +69,7 @@ public class MutableShares extends MutableCountable
     public double add(@NotNull MutableShares shares) {
 
         // Add the value, and return the result.
-        set(getValue() + shares.getValue());
+        setUnits(getUnits() + shares.getUnits());
         return getValue();
     }
 
@@ -158,7 +159,7 @@ public class MutableShares extends MutableCountable
 
     @Override
     public @NotNull Shares produce() {
-        return new Shares(this);
+        return Shares.fromUnits(getUnits());
     }
 
     /**
@@ -170,7 +171,7 @@ public class MutableShares extends MutableCountable
     public double set(@NotNull MutableShares shares) {
 
         // Set the value, and return the result.
-        set(shares.getValue());
+        setUnits(shares.getUnits());
         return getValue();
     }
 
@@ -184,7 +185,7 @@ public class MutableShares extends MutableCountable
     public double set(@NotNull Shares shares) {
 
         // Set the value, and return the result.
-        set(shares.getValue());
+        setUnits(shares.getUnits());
         return getValue();
     }
 
@@ -198,7 +199,7 @@ public class MutableShares extends MutableCountable
     public double subtract(@NotNull Shares shares) {
 
         // Subtract the value, and return the result.
-        set(getValue() - shares.getValue());
+        setUnits(getUnits() - shares.getUnits());
         return getValue();
     }
 
@@ -211,12 +212,12 @@ public class MutableShares extends MutableCountable
     public double subtract(@NotNull MutableShares shares) {
 
         // Subtract the value, and return the result.
-        set(getValue() - shares.getValue());
+        setUnits(getUnits() - shares.getUnits());
         return getValue();
     }
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
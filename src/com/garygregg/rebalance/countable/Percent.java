@@ -21,13 +21,17 @@ public class Percent extends Countable implements Comparable<Percent> {
     private static final Percent minimum =
             new Percent(1. / ICountable.calculateFactor(precision));
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A known zero
     private static final Percent zero = new Percent(0.);
 
+    // An interner of every percent from zero to one hundred
+    private static final Interner<Percent> interner = createInterner();
+
     /**
      * Constructs percent with a default truncate flag.
      *
@@ -38,12 +42,32 @@ public class Percent extends Countable implements Comparable<Percent> {
     }
 
     /**
-     * Constructs percent from mutable percent.
+     * Constructs percent from whole units of its precision.
+     *
+     * @param units The value of the percent in whole units of its precision
+     */
+    private Percent(long units) {
+        super(units, precision);
+    }
+
+    /**
+     * Creates an interner of every percent from zero to one hundred, seeded
+     * with the known percents.
      *
-     * @param percent Mutable percent
+     * @return An interner of percent
      */
-    Percent(@NotNull MutablePercent percent) {
-        super(percent.getValue(), precision);
+    private static @NotNull Interner<Percent> createInterner() {
+
+        /*
+         * Create the interner, and seed it with the known percents. Return
+         * the interner.
+         */
+        final Interner<Percent> interner = new Interner<>(Percent::new,
+                zero.getUnits(), oneHundred.getUnits());
+        interner.seed(zero);
+        interner.seed(minimum);
+        interner.seed(oneHundred);
+        return interner;
     }
 
     /**
@@ -53,7 +77,18 @@ public class Percent extends Countable implements Comparable<Percent> {
      * @return The formatted value
      */
     public static String format(Double value) {
-        return (null == value) ? null : formatter.format(value);
+        return (null == value) ? null : formatter.get().format(value);
+    }
+
+    /**
+     * Gets percent from whole units of its precision. Every percent from
+     * zero to one hundred is interned, so repeated values share an instance.
+     *
+     * @param units The value of the percent in whole units of its precision
+     * @return Percent with the given value
+     */
+    public static @NotNull Percent fromUnits(long units) {
+        return interner.intern(units);
     }
 
     /**
@@ -145,6 +180,6 @@ public class Percent extends Countable implements Comparable<Percent> {
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
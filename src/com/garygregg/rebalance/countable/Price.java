@@ -17,9 +17,10 @@ public class Price extends Countable implements Comparable<Price> {
     // The precision of price
     private static final int precision = ICountable.getPricePrecision();
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A known cent
     private static final Price cent =
@@ -43,7 +44,16 @@ public class Price extends Countable implements Comparable<Price> {
      * @param price Mutable price
      */
     Price(@NotNull MutablePrice price) {
-        super(price.getValue(), precision);
+        super(price.getUnits(), precision);
+    }
+
+    /**
+     * Constructs price from whole units of its precision.
+     *
+     * @param units The value of the price in whole units of its precision
+     */
+    private Price(long units) {
+        super(units, precision);
     }
 
     /**
@@ -53,7 +63,17 @@ public class Price extends Countable implements Comparable<Price> {
      * @return The formatted value
      */
     public static String format(Double value) {
-        return (null == value) ? null : formatter.format(value);
+        return (null == value) ? null : formatter.get().format(value);
+    }
+
+    /**
+     * Gets price from whole units of its precision.
+     *
+     * @param units The value of the price in whole units of its precision
+     * @return Price with the given value
+     */
+    public static @NotNull Price fromUnits(long units) {
+        return new Price(units);
     }
 
     /**
@@ -135,6 +155,6 @@ public class Price extends Countable implements Comparable<Price> {
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
@@ -0,0 +1,354 @@
+package com.garygregg.rebalance.countable;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+public class PurseStore {
+
+    // The default capacity of a purse store
+    private static final int defaultCapacity = 16;
+
+    // The default price in whole units of its precision
+    private static final long defaultPrice;
+
+    // The default number of shares in whole units of their precision
+    private static final long defaultShares;
+
+    // The flag indicating that a purse has a price
+    private static final byte hasPrice = 1;
+
+    // The flag indicating that a purse has shares
+    private static final byte hasShares = 1 << 1;
+
+    // The flag indicating that a purse has a value
+    private static final byte hasValue = 1 << 2;
+
+    // The precision of price
+    private static final int pricePrecision = ICountable.getPricePrecision();
+
+    // The precision of shares
+    private static final int sharesPrecision =
+            ICountable.getSharesPrecision();
+
+    // The precision of value
+    private static final int valuePrecision =
+            ICountable.getCurrencyPrecision();
+
+    static {
+
+        // Calculate the default price and the default number of shares.
+        defaultPrice = FixedPoint.toUnits(1., pricePrecision);
+        defaultShares = FixedPoint.toUnits(1., sharesPrecision);
+    }
+
+    // The flags of each purse, indicating which of its countables are set
+    private byte[] flags;
+
+    // The price of each purse in whole units of its precision
+    private long[] prices;
+
+    // The shares of each purse in whole units of their precision
+    private long[] shares;
+
+    // The number of purses in the store
+    private int size;
+
+    // The value of each purse in whole units of its precision
+    private long[] values;
+
+    /**
+     * Constructs the purse store with a default capacity.
+     */
+    public PurseStore() {
+        this(defaultCapacity);
+    }
+
+    /**
+     * Constructs the purse store.
+     *
+     * @param capacity The initial number of purses the store can hold
+     */
+    public PurseStore(int capacity) {
+
+        // Create the columns of the store with the given capacity.
+        flags = new byte[capacity];
+        prices = new long[capacity];
+        shares = new long[capacity];
+        values = new long[capacity];
+    }
+
+    /**
+     * Adds an empty purse to the store. Purses should be added only while
+     * no other thread uses the store.
+     *
+     * @return The index of the new purse
+     */
+    public synchronized int add() {
+
+        /*
+         * Is the store full? If so, double the capacity of each of its
+         * columns.
+         */
+        if (flags.length == size) {
+
+            final int capacity = Math.max(1, size << 1);
+            flags = Arrays.copyOf(flags, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            shares = Arrays.copyOf(shares, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        // Return the index of the new purse, and increment the size.
+        return size++;
+    }
+
+    /**
+     * Calculates the number of shares required to result in a given value,
+     * considering the current price of a purse.
+     *
+     * @param purse The index of the purse
+     * @param value The given value
+     * @return The number of shares required to result in a given value,
+     * considering the current price
+     */
+    public Double calculateShares(int purse, @NotNull Currency value) {
+
+        /*
+         * Return the value divided by the price if it is okay to reset the
+         * shares. Otherwise, return null.
+         */
+        return isOkayToResetShares(purse) ? (value.getValue() /
+                (has(purse, hasPrice) ? getPriceValue(purse) : 0.)) : null;
+    }
+
+    /**
+     * Copies the price, shares and value of a purse in another store into
+     * a purse in this store.
+     *
+     * @param purse The index of the purse to receive the copy
+     * @param store The store of the purse to copy
+     * @param from  The index of the purse to copy
+     */
+    public void copy(int purse, @NotNull PurseStore store, int from) {
+
+        /*
+         * Copy the price, shares and value. Copy them directly; setting them
+         * one at a time would recalculate value from shares and price.
+         */
+        flags[purse] = store.flags[from];
+        prices[purse] = store.prices[from];
+        shares[purse] = store.shares[from];
+        values[purse] = store.values[from];
+    }
+
+    /**
+     * Gets the price of a purse.
+     *
+     * @param purse The index of the purse
+     * @return The price
+     */
+    public Price getPrice(int purse) {
+        return has(purse, hasPrice) ? Price.fromUnits(prices[purse]) : null;
+    }
+
+    /**
+     * Gets the price of a purse as a floating point value.
+     *
+     * @param purse The index of the purse
+     * @return The price as a floating point value
+     */
+    private double getPriceValue(int purse) {
+        return FixedPoint.toValue(prices[purse], pricePrecision);
+    }
+
+    /**
+     * Gets the shares of a purse.
+     *
+     * @param purse The index of the purse
+     * @return The shares
+     */
+    public Shares getShares(int purse) {
+        return has(purse, hasShares) ? Shares.fromUnits(shares[purse]) :
+                null;
+    }
+
+    /**
+     * Gets the shares of a purse as a floating point value.
+     *
+     * @param purse The index of the purse
+     * @return The shares as a floating point value
+     */
+    private double getSharesValue(int purse) {
+        return FixedPoint.toValue(shares[purse], sharesPrecision);
+    }
+
+    /**
+     * Gets the value of a purse.
+     *
+     * @param purse The index of the purse
+     * @return The value
+     */
+    public Currency getValue(int purse) {
+        return has(purse, hasValue) ? Currency.fromUnits(values[purse]) :
+                null;
+    }
+
+    /**
+     * Gets the value of a purse as a floating point value.
+     *
+     * @param purse The index of the purse
+     * @return The value as a floating point value
+     */
+    private double getValueValue(int purse) {
+        return FixedPoint.toValue(values[purse], valuePrecision);
+    }
+
+    /**
+     * Determines whether a countable of a purse is set.
+     *
+     * @param purse The index of the purse
+     * @param flag  The flag of the countable
+     * @return True if the countable is set, false otherwise
+     */
+    private boolean has(int purse, byte flag) {
+        return 0 != (flags[purse] & flag);
+    }
+
+    /**
+     * Determines whether it is okay to reset the price of a purse.
+     *
+     * @param purse The index of the purse
+     * @return True if it is okay to reset the price, false otherwise
+     */
+    private boolean isOkayToResetPrice(int purse) {
+        return (!has(purse, hasShares)) || (0L != shares[purse]);
+    }
+
+    /**
+     * Determines whether it is okay to reset the shares of a purse.
+     *
+     * @param purse The index of the purse
+     * @return True if it is okay to reset the shares, false otherwise
+     */
+    private boolean isOkayToResetShares(int purse) {
+        return (!has(purse, hasPrice)) || (0L != prices[purse]);
+    }
+
+    /**
+     * Resets the value of a purse if there has been a change in either price
+     * or shares.
+     *
+     * @param purse The index of the purse
+     */
+    private void resetValue(int purse) {
+
+        // Are both shares and price set?
+        if (has(purse, hasShares) && has(purse, hasPrice)) {
+
+            /*
+             * Shares and price are both set. Set the value as the product of
+             * shares and price.
+             */
+            setValue(purse, getSharesValue(purse) * getPriceValue(purse));
+        }
+    }
+
+    /**
+     * Sets the price of a purse.
+     *
+     * @param purse    The index of the purse
+     * @param newPrice The new value for price
+     */
+    public void setPrice(int purse, double newPrice) {
+
+        // Set the price, then reset the value.
+        prices[purse] = FixedPoint.toUnits(newPrice, pricePrecision);
+        flags[purse] |= hasPrice;
+        resetValue(purse);
+    }
+
+    /**
+     * Set the shares of a purse.
+     *
+     * @param purse     The index of the purse
+     * @param newShares The new value for shares
+     */
+    public void setShares(int purse, double newShares) {
+
+        // Set the shares, then reset the value.
+        shares[purse] = FixedPoint.toUnits(newShares, sharesPrecision);
+        flags[purse] |= hasShares;
+        resetValue(purse);
+    }
+
+    /**
+     * Sets the value of a purse without any adjustment.
+     *
+     * @param purse    The index of the purse
+     * @param newValue The new value
+     */
+    private void setValue(int purse, double newValue) {
+
+        // Set the value, and flag it as set.
+        values[purse] = FixedPoint.toUnits(newValue, valuePrecision);
+        flags[purse] |= hasValue;
+    }
+
+    /**
+     * Sets the value of a purse, adjusting price.
+     *
+     * @param purse    The index of the purse
+     * @param newValue The new value to set
+     */
+    @SuppressWarnings("unused")
+    public void setValueAdjustPrice(int purse, double newValue) {
+
+        // Is it okay to reset the price?
+        if (isOkayToResetPrice(purse)) {
+
+            /*
+             * It is okay to reset the price. Set the new value. Make sure
+             * there is at least one share, then set the price.
+             */
+            setValue(purse, newValue);
+            if (!has(purse, hasShares)) {
+
+                shares[purse] = defaultShares;
+                flags[purse] |= hasShares;
+            }
+
+            prices[purse] = FixedPoint.toUnits(getValueValue(purse) /
+                    getSharesValue(purse), pricePrecision);
+            flags[purse] |= hasPrice;
+        }
+    }
+
+    /**
+     * Sets the value of a purse, adjusting shares.
+     *
+     * @param purse    The index of the purse
+     * @param newValue The new value to set
+     */
+    public void setValueAdjustShares(int purse, double newValue) {
+
+        // Is it okay to reset the shares?
+        if (isOkayToResetShares(purse)) {
+
+            /*
+             * It is okay to reset the shares. Set the new value. Make sure
+             * there is a price of at least 1.00, then set the shares.
+             */
+            setValue(purse, newValue);
+            if (!has(purse, hasPrice)) {
+
+                prices[purse] = defaultPrice;
+                flags[purse] |= hasPrice;
+            }
+
+            shares[purse] = FixedPoint.toUnits(getValueValue(purse) /
+                    getPriceValue(purse), sharesPrecision);
+            flags[purse] |= hasShares;
+        }
+    }
+}
@@ -24,13 +24,20 @@ public class Shares extends Countable implements Comparable<Shares> {
     private static final Shares minimum =
             new Shares(1. / ICountable.calculateFactor(precision));
 
-    // Our number formatter
-    private static final NumberFormat formatter =
-            ICountable.createFormat(precision);
+    // Our number formatter (number formats are not thread-safe)
+    private static final ThreadLocal<NumberFormat> formatter =
+            ThreadLocal.withInitial(() ->
+                    ICountable.createFormat(precision));
 
     // A known zero
     private static final Shares zero = new Shares(0.);
 
+    // The number of units of shares interned either side of zero
+    private static final int range = 10000;
+
+    // An interner of shares with few enough units
+    private static final Interner<Shares> interner = createInterner();
+
     /**
      * Constructs shares with a default truncate flag.
      *
@@ -41,12 +48,30 @@ public class Shares extends Countable implements Comparable<Shares> {
     }
 
     /**
-     * Constructs shares from mutable shares.
+     * Constructs shares from whole units of their precision.
      *
-     * @param shares Mutable shares
+     * @param units The value of the shares in whole units of their precision
      */
-    Shares(@NotNull MutableShares shares) {
-        super(shares.getValue(), precision);
+    private Shares(long units) {
+        super(units, precision);
+    }
+
+    /**
+     * Creates an interner of shares, seeded with the known shares.
+     *
+     * @return An interner of shares
+     */
+    private static @NotNull Interner<Shares> createInterner() {
+
+        /*
+         * Create the interner, and seed it with the known shares. Return the
+         * interner.
+         */
+        final Interner<Shares> interner = new Interner<>(Shares::new,
+                -range, range);
+        interner.seed(zero);
+        interner.seed(minimum);
+        return interner;
     }
 
     /**
@@ -56,7 +81,18 @@ public class Shares extends Countable implements Comparable<Shares> {
      * @return The formatted value
      */
     public static String format(Double value) {
-        return (null == value) ? null : formatter.format(value);
+        return (null == value) ? null : formatter.get().format(value);
+    }
+
+    /**
+     * Gets shares from whole units of their precision. Shares with few
+     * enough units are interned, so repeated values share an instance.
+     *
+     * @param units The value of the shares in whole units of their precision
+     * @return Shares with the given value
+     */
+    public static @NotNull Shares fromUnits(long units) {
+        return interner.intern(units);
     }
 
     /**
@@ -156,6 +192,6 @@ public class Shares extends Countable implements Comparable<Shares> {
 
     @Override
     public String toString() {
-        return formatter.format(getValue());
+        return formatter.get().format(getValue());
     }
 }
@@ -5,6 +5,7 @@ import com.garygregg.rebalance.interpreter.LongInterpreter;
 import com.garygregg.rebalance.interpreter.NonNegativeInterpreter;
 import com.garygregg.rebalance.toolkit.AccountKeyLibrary;
 import com.garygregg.rebalance.toolkit.ElementReader;
+import com.garygregg.rebalance.toolkit.FieldCursor;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -78,7 +79,7 @@ public class DetailedsBuilder extends ElementReader<DetailedDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         /*
@@ -88,11 +89,12 @@ public class DetailedsBuilder extends ElementReader<DetailedDescription> {
         setLineNumber(lineNumber);
         final DetailedDescription description = new DetailedDescription(
 
-                elements[DetailedFields.INSTITUTION.getPosition()],
+                cursor.getField(DetailedFields.INSTITUTION.getPosition())
+                        .toString(),
                 accountNumberInterpreter.interpret(
-                        elements[DetailedFields.NUMBER.getPosition()],
+                        cursor.getField(DetailedFields.NUMBER.getPosition()),
                         AccountKeyLibrary.getDefaultAccountNumber()),
-                elements[DetailedFields.NAME.getPosition()]);
+                cursor.getField(DetailedFields.NAME.getPosition()).toString());
 
         /*
          * Check the key of the description against the default key in the
@@ -114,7 +116,7 @@ public class DetailedsBuilder extends ElementReader<DetailedDescription> {
         }
 
         // Get the number of line elements and the number of detailed fields.
-        final int elementsLength = elements.length;
+        final int elementsLength = cursor.getFieldCount();
         final int numberOfDetailedFields = DetailedFields.values().length;
 
         /*
@@ -159,7 +161,7 @@ public class DetailedsBuilder extends ElementReader<DetailedDescription> {
 
             // Adjust the allocation of the associated fund type.
             description.adjustAllocation(field.getType(),
-                    allocationInterpreter.interpret(elements[i]));
+                    allocationInterpreter.interpret(cursor.getField(i)));
         }
 
         // Log some exit information.
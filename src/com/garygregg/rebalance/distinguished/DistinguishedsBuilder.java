@@ -501,13 +501,13 @@ public class DistinguishedsBuilder extends
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         // Set the line number and get the line code.
         setLineNumber(lineNumber);
         final Character lineCode = interpreter.interpret(
-                elements[DistinguishedFields.LINE_TYPE.getPosition()]);
+                cursor.getField(DistinguishedFields.LINE_TYPE.getPosition()));
 
         // Determine the line type from the code. Is the line type known?
         final HoldingLineType lineType =
@@ -525,7 +525,8 @@ public class DistinguishedsBuilder extends
 
             // Get the key string.
             final String keyString =
-                    elements[DistinguishedFields.KEY.getPosition()];
+                    cursor.getField(DistinguishedFields.KEY.getPosition())
+                            .toString();
 
             /*
              * Create a new value. Note: the tracker is creating a 'key' for a
@@ -533,7 +534,8 @@ public class DistinguishedsBuilder extends
              * a distinguished value library the key is actually a value.
              */
             final Pair<String, String> value = tracker.constructKey(lineCode,
-                    elements[DistinguishedFields.VALUE.getPosition()]);
+                    cursor.getField(DistinguishedFields.VALUE.getPosition())
+                            .toString());
 
             /*
              * Dispatch the processor for the line type, key string, value and
@@ -16,8 +16,12 @@ public class Account extends Aggregate<AccountKey, Ticker, AccountDescription>
     // A factory for producing artificial accounts
     private static final Factory<Account> factory = Account::getNewArtificial;
 
-    // A lazy boy for an artificial account
-    private static final LazyBoy<Account> lazyBoy = new LazyBoy<>(factory);
+    /*
+     * A lazy boy for an artificial account; each thread gets its own because
+     * artificial accounts receive values during breakdown
+     */
+    private static final ThreadLocal<LazyBoy<Account>> lazyBoy =
+            ThreadLocal.withInitial(() -> new LazyBoy<>(factory));
 
     // A map of synthesizer types to synthesizer instances
     private static final Map<SynthesizerType, Synthesizer>
@@ -72,7 +76,7 @@ public class Account extends Aggregate<AccountKey, Ticker, AccountDescription>
      * @return An artificial account
      */
     public static @NotNull Account getArtificial() {
-        return lazyBoy.getLazily();
+        return lazyBoy.get().getLazily();
     }
 
     /**
@@ -29,12 +29,17 @@ abstract class Aggregate<KeyType,
     // The 'proposed' valuator
     private final Valuator byProposed = ValueByProposed.getInstance();
 
-    // Breaks down values in each child
+    /*
+     * Breaks down values in each child, then accumulates the values of the
+     * child by type while the child is at hand
+     */
     private final Operation doBreakdown = new Operation() {
 
         @Override
         public void perform(@NotNull ChildType child) {
+
             child.breakdown();
+            accumulate(child);
         }
     };
 
@@ -69,21 +74,6 @@ abstract class Aggregate<KeyType,
     private final WeightBreakdownManager<ChildType> weightTypeManager =
             new WeightBreakdownManager<>();
 
-    // Accumulate values by weight type in each child
-    private final Operation weightTypeAccumulate = new Operation() {
-
-        @Override
-        public void perform(@NotNull ChildType child) {
-
-            final WeightBreakdownManager<ChildType> weightTypeManager =
-                    getWeightTypeManager();
-
-            for (WeightType type : WeightType.values()) {
-                weightTypeManager.add(type, child);
-            }
-        }
-    };
-
     // A known zero that we will use repeatedly
     private final Currency zero = Currency.getZero();
 
@@ -112,10 +102,17 @@ abstract class Aggregate<KeyType,
     }
 
     /**
-     * Accumulates values by weight type in each child.
+     * Accumulates the values of a child by type.
+     *
+     * @param child A child of this aggregate
      */
-    protected void accumulateWeightType() {
-        doOperation(weightTypeAccumulate);
+    protected void accumulate(@NotNull ChildType child) {
+
+        /*
+         * Add the values of the child for every weight type to each active
+         * breakdown of the weight type manager.
+         */
+        getWeightTypeManager().addAll(child);
     }
 
     /**
@@ -130,23 +127,44 @@ abstract class Aggregate<KeyType,
     @SuppressWarnings({"unchecked", "UnusedReturnValue"})
     ChildType addChild(@NotNull Common<?, ?, ?> hierarchyObject)
             throws ClassCastException {
-        return map.put(hierarchyObject.getKey(), (ChildType) hierarchyObject);
+
+        /*
+         * Cast the hierarchy object to a child. Set this aggregate as its
+         * parent, and mark the breakdown of this aggregate as out of date.
+         */
+        final ChildType child = (ChildType) hierarchyObject;
+        child.setParent(this);
+        markDirty();
+
+        // Add the child to the map.
+        return map.put(child.getKey(), child);
     }
 
     @Override
     void breakdown() {
 
         /*
-         * Clear breakdown values in the artificial child. Break down child
-         * values, then accumulate values by weight type.
+         * Break down the aggregate only if its breakdown is out of date.
+         * Children whose breakdowns are up-to-date keep their values, so only
+         * dirty subtrees are broken down again.
          */
-        getArtificialChild().clear();
-        breakdownChildren();
-        accumulateWeightType();
+        if (isDirty()) {
+
+            /*
+             * Clear breakdown values in this aggregate, and in the artificial
+             * child. Break down child values, accumulating the values of each
+             * child by type in the same pass. The breakdown is now up-to-date.
+             */
+            clearBreakdown();
+            getArtificialChild().clear();
+            breakdownChildren();
+            markClean();
+        }
     }
 
     /**
-     * Breaks down values in each child.
+     * Breaks down values in each child, and accumulates the values of each
+     * child by type.
      */
     protected void breakdownChildren() {
         doOperation(doBreakdown);
@@ -155,8 +173,20 @@ abstract class Aggregate<KeyType,
     @Override
     void clear() {
 
-        // Clear children, then clear the weight type manager.
+        /*
+         * Clear children, then clear the breakdown values of this aggregate.
+         * Mark the breakdown as out of date.
+         */
         clearChildren();
+        clearBreakdown();
+        markDirty();
+    }
+
+    /**
+     * Clears the breakdown values of this aggregate, but not those of its
+     * children.
+     */
+    protected void clearBreakdown() {
         getWeightTypeManager().clear();
     }
 
@@ -411,6 +441,9 @@ abstract class Aggregate<KeyType,
         else {
             considered.set(value);
         }
+
+        // The breakdown of this aggregate is now out of date.
+        markDirty();
     }
 
     @Override
@@ -439,6 +472,9 @@ abstract class Aggregate<KeyType,
         else {
             notConsidered.set(value);
         }
+
+        // The breakdown of this aggregate is now out of date.
+        markDirty();
     }
 
     @Override
@@ -1,70 +1,79 @@
 package com.garygregg.rebalance.hierarchy;
 
 import com.garygregg.rebalance.countable.Currency;
-import com.garygregg.rebalance.countable.MutableCurrency;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 abstract class Breakdown<EnumType extends Enum<EnumType>,
         HierarchyType extends Common<?, ?, ?>>
         implements IBreakdown<EnumType, HierarchyType> {
 
-    // A breakdown of value by type
-    private final Map<EnumType, MutableCurrency> breakdown = new HashMap<>();
+    // The types of the breakdown, indexed by ordinal
+    private final EnumType[] types;
 
-    @Override
-    public void clear() {
-        breakdown.clear();
-    }
+    /*
+     * A breakdown of value in cents, indexed by the ordinal of the type;
+     * created when value is first added
+     */
+    private long[] units;
 
     /**
-     * Gets a value from the breakdown map for a type.
+     * Constructs the breakdown.
      *
-     * @param type The given type
-     * @return The existing value for the type
+     * @param types The types of the breakdown, indexed by ordinal
      */
-    public @NotNull Currency get(EnumType type) {
-        return getMutable(type).getImmutable();
+    public Breakdown(@NotNull EnumType[] types) {
+        this.types = types;
     }
 
     /**
-     * Gets a value from the breakdown map for a type.
+     * Adds value for a type.
      *
-     * @param type The given type
-     * @return A value from the breakdown map for the type
+     * @param type     The given type
+     * @param currency The value to add for the type
      */
-    protected @NotNull MutableCurrency getMutable(EnumType type) {
+    protected void add(@NotNull EnumType type, @NotNull Currency currency) {
 
-        /*
-         * Get the current mutable value from the breakdown map for the type.
-         * Is the current value null?
-         */
-        MutableCurrency currency = breakdown.get(type);
-        if (null == currency) {
+        // Create the breakdown if it does not yet exist.
+        if (null == units) {
+            units = new long[types.length];
+        }
 
-            /*
-             * The current value is null. Add a new, zero value to the map for
-             * the type.
-             */
-            put(type, currency = new MutableCurrency());
+        // Add the value in cents for the type.
+        units[type.ordinal()] += currency.getUnits();
+    }
+
+    /**
+     * Adds value from a hierarchy object for every type.
+     *
+     * @param hierarchyObject A hierarchy object
+     */
+    public void addAll(@NotNull HierarchyType hierarchyObject) {
+
+        // Cycle for each type, and add value for the first/next type.
+        for (EnumType type : types) {
+            add(type, hierarchyObject);
         }
+    }
+
+    @Override
+    public void clear() {
 
-        // Return the value.
-        return currency;
+        // Zero the breakdown if it exists.
+        if (null != units) {
+            Arrays.fill(units, 0L);
+        }
     }
 
     /**
-     * Puts a value in the breakdown map.
+     * Gets a value from the breakdown for a type.
      *
-     * @param type     The key value
-     * @param currency The value to insert into the map
-     * @return Any previous value that was previously mapped using the same key
+     * @param type The given type
+     * @return The existing value for the type
      */
-    @SuppressWarnings("UnusedReturnValue")
-    protected MutableCurrency put(EnumType type,
-                                  @NotNull MutableCurrency currency) {
-        return breakdown.put(type, currency);
+    public @NotNull Currency get(@NotNull EnumType type) {
+        return Currency.fromUnits((null == units) ? 0L :
+                units[type.ordinal()]);
     }
 }
@@ -14,7 +14,7 @@ abstract class BreakdownManager<EnumType extends Enum<EnumType>,
     private final AddOperation addOperation = new AddOperation();
 
     // Our list of breakdown lists
-    private final List<List<IBreakdown<EnumType, HierarchyType>>>
+    private final List<List<Breakdown<EnumType, HierarchyType>>>
             breakdownLists = new ArrayList<>();
 
     // Our operation to clear a breakdown
@@ -39,7 +39,7 @@ abstract class BreakdownManager<EnumType extends Enum<EnumType>,
          * Create a list to receive current values, and add the 'considered'
          * values breakdown.
          */
-        List<IBreakdown<EnumType, HierarchyType>> list = new ArrayList<>();
+        List<Breakdown<EnumType, HierarchyType>> list = new ArrayList<>();
         list.add(considered = createByConsidered());
 
         /*
@@ -81,6 +81,21 @@ abstract class BreakdownManager<EnumType extends Enum<EnumType>,
         doOperation(addOperation);
     }
 
+    /**
+     * Adds value from a hierarchy object for every type to each active
+     * breakdown in a single pass.
+     *
+     * @param hierarchyObject A hierarchy object
+     */
+    public void addAll(@NotNull HierarchyType hierarchyObject) {
+
+        // Cycle for each active breakdown, and add value for every type.
+        for (Breakdown<EnumType, HierarchyType> breakdown :
+                breakdownLists.get(index)) {
+            breakdown.addAll(hierarchyObject);
+        }
+    }
+
     @Override
     public void clear() {
         doOperation(clearOperation);
@@ -122,9 +137,9 @@ abstract class BreakdownManager<EnumType extends Enum<EnumType>,
          * Get the list of active breakdowns. Cycle for each breakdown in the
          * list.
          */
-        final List<IBreakdown<EnumType, HierarchyType>> breakdownList =
+        final List<Breakdown<EnumType, HierarchyType>> breakdownList =
                 breakdownLists.get(index);
-        for (IBreakdown<EnumType, HierarchyType> breakdown : breakdownList) {
+        for (Breakdown<EnumType, HierarchyType> breakdown : breakdownList) {
 
             // Perform the indicated operation on the first/next breakdown.
             operation.perform(breakdown);
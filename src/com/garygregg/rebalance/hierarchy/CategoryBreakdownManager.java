@@ -6,15 +6,18 @@ import org.jetbrains.annotations.NotNull;
 class CategoryBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
         extends BreakdownManager<CategoryType, HierarchyType> {
 
+    // The category types, indexed by ordinal
+    private static final CategoryType[] types = CategoryType.values();
+
     @Override
     protected @NotNull Breakdown<CategoryType, HierarchyType>
     createByConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(CategoryType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getConsidered(type));
+                add(type, hierarchyObject.getConsidered(type));
             }
         };
     }
@@ -22,12 +25,12 @@ class CategoryBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
     @Override
     protected @NotNull Breakdown<CategoryType, HierarchyType>
     createByNotConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(CategoryType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getNotConsidered(type));
+                add(type, hierarchyObject.getNotConsidered(type));
             }
         };
     }
@@ -35,12 +38,12 @@ class CategoryBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
     @Override
     protected @NotNull Breakdown<CategoryType, HierarchyType>
     createByProposed() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(CategoryType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getProposed(type));
+                add(type, hierarchyObject.getProposed(type));
             }
         };
     }
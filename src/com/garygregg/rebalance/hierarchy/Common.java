@@ -17,6 +17,12 @@ abstract class Common<KeyType,
     // The description of this hierarchy object
     private DescriptionType description;
 
+    // True if the breakdown of this hierarchy object is out of date
+    private boolean dirty = true;
+
+    // The parent of this hierarchy object, if any
+    private Common<?, ?, ?> parent;
+
     /**
      * Constructs this common hierarchy object.
      *
@@ -107,6 +113,44 @@ abstract class Common<KeyType,
      */
     public abstract @NotNull Currency getProposed(@NotNull WeightType type);
 
+    /**
+     * Determines whether the breakdown of the hierarchy object is out of
+     * date.
+     *
+     * @return True if the breakdown of the hierarchy object is out of date,
+     * false otherwise
+     */
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks the breakdown of the hierarchy object as up-to-date.
+     */
+    void markClean() {
+        dirty = false;
+    }
+
+    /**
+     * Marks the breakdown of the hierarchy object, and those of its
+     * ancestors, as out of date.
+     */
+    void markDirty() {
+
+        /*
+         * Cycle for this hierarchy object and each of its ancestors. Stop at
+         * the first that is already dirty; its own ancestors will already be
+         * dirty as well.
+         */
+        Common<?, ?, ?> hierarchyObject = this;
+        while ((null != hierarchyObject) && (!hierarchyObject.dirty)) {
+
+            // Mark the first/next hierarchy object as dirty.
+            hierarchyObject.dirty = true;
+            hierarchyObject = hierarchyObject.parent;
+        }
+    }
+
     /**
      * Sets the value of the hierarchy object that is available for
      * rebalancing.
@@ -137,6 +181,15 @@ abstract class Common<KeyType,
      */
     abstract void setNotConsidered(double value);
 
+    /**
+     * Sets the parent of the hierarchy object.
+     *
+     * @param parent The parent of the hierarchy object
+     */
+    void setParent(Common<?, ?, ?> parent) {
+        this.parent = parent;
+    }
+
     /**
      * Sets the breakdown managers to work with proposed values.
      */
@@ -7,6 +7,9 @@ import org.jetbrains.annotations.NotNull;
 class FullValueBreakdownManager<HierarchyType extends Common<?, ?, ?>>
         extends BreakdownManager<WeightType, HierarchyType> {
 
+    // The weight types, indexed by ordinal
+    private static final WeightType[] types = WeightType.values();
+
     /**
      * Checks for null currency; returns zero if null, the argument itself if
      * not.
@@ -21,12 +24,12 @@ class FullValueBreakdownManager<HierarchyType extends Common<?, ?, ?>>
     @Override
     protected @NotNull Breakdown<WeightType, HierarchyType>
     createByConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(checkNull(hierarchyObject.getConsidered()));
+                add(type, checkNull(hierarchyObject.getConsidered()));
             }
         };
     }
@@ -34,12 +37,12 @@ class FullValueBreakdownManager<HierarchyType extends Common<?, ?, ?>>
     @Override
     protected @NotNull Breakdown<WeightType, HierarchyType>
     createByNotConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(checkNull(hierarchyObject.getNotConsidered()));
+                add(type, checkNull(hierarchyObject.getNotConsidered()));
             }
         };
     }
@@ -47,12 +50,12 @@ class FullValueBreakdownManager<HierarchyType extends Common<?, ?, ?>>
     @Override
     protected @NotNull Breakdown<WeightType, HierarchyType>
     createByProposed() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(checkNull(hierarchyObject.getProposed()));
+                add(type, checkNull(hierarchyObject.getProposed()));
             }
         };
     }
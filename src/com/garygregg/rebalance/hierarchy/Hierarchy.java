@@ -5,8 +5,10 @@ import com.garygregg.rebalance.account.AccountLibrary;
 import com.garygregg.rebalance.countable.Currency;
 import com.garygregg.rebalance.countable.ICountable;
 import com.garygregg.rebalance.countable.MutableCurrency;
+import com.garygregg.rebalance.countable.PurseStore;
 import com.garygregg.rebalance.holding.HoldingDescription;
 import com.garygregg.rebalance.holding.HoldingLibrary;
+import com.garygregg.rebalance.holding.HoldingReceiver;
 import com.garygregg.rebalance.portfolio.PortfolioDescription;
 import com.garygregg.rebalance.portfolio.PortfolioLibrary;
 import com.garygregg.rebalance.ticker.TickerDescription;
@@ -19,7 +21,7 @@ import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public final class Hierarchy {
+public final class Hierarchy implements HoldingReceiver {
 
     // The logging level for ordinary informational messages
     private static final Level ordinary = MessageLogger.getOrdinary();
@@ -251,6 +253,9 @@ public final class Hierarchy {
     // The most recent portfolio description encountered in the hierarchy
     private PortfolioDescription mostRecentDescription;
 
+    // The store holding the purses of all the tickers in the hierarchy
+    private PurseStore purses = new PurseStore();
+
     // An action to add an account
     private final OneParameterAction<HoldingDescription> addAccountAction =
             this::addAccount;
@@ -413,36 +418,12 @@ public final class Hierarchy {
      */
     private static @Nullable Currency sum(Currency first, Currency second) {
 
-        // Declare and initialize the result. Is the first value not null?
-        MutableCurrency result = null;
-        if (null != first) {
-
-            /*
-             * The first value is not null. Re-initialize the result with the
-             * first value.
-             */
-            result = new MutableCurrency(first);
-        }
-
-        // Is the second value not null?
-        if (null != second) {
-
-            /*
-             * The second value is not null. Re-initialize the result with the
-             * second value if the result is not yet set...
-             */
-            if (null == result) {
-                result = new MutableCurrency(second);
-            }
-
-            // ...otherwise add the second value to the first.
-            else {
-                result.add(second);
-            }
-        }
-
-        // Return the result.
-        return (null == result) ? null : result.getImmutable();
+        /*
+         * Return the other value if either value is null. Otherwise, return
+         * the sum of the values in whole cents.
+         */
+        return (null == first) ? second : ((null == second) ? first :
+                Currency.fromUnits(first.getUnits() + second.getUnits()));
     }
 
     /**
@@ -800,11 +781,11 @@ public final class Hierarchy {
 
         /*
          * Create a new ticker object with the ticker symbol and rebalancing
-         * weight. Try to add and push the ticker. Could this not be
-         * accomplished?
+         * weight, keeping its purses in the store of the hierarchy. Try to
+         * add and push the ticker. Could this not be accomplished?
          */
         final Ticker ticker = new Ticker(tickerSymbol,
-                holdingDescription.getWeight());
+                holdingDescription.getWeight(), purses);
         if (!addAndPush(ticker)) {
 
             // The ticker could not be added and pushed. Do not continue.
@@ -876,13 +857,19 @@ public final class Hierarchy {
      */
     public void buildHierarchy() {
 
-        // Clear any existing hierarchy. Add the holding descriptions.
-        clearHierarchy();
-        dispatchAction(addMap);
+        /*
+         * Get the holding library. Start the hierarchy with the date of the
+         * library, and add its holding descriptions.
+         */
+        final HoldingLibrary library =
+                HoldingLibrary.getInstance(getHoldingType());
+        startHoldings(library.getDate());
+        for (HoldingDescription description : library.getCatalog()) {
+            receiveHolding(description);
+        }
 
-        // Pop and set any remaining sum checkers, and lock the hierarchy.
-        popAndSum();
-        setLocked();
+        // Stop the hierarchy.
+        stopHoldings();
     }
 
     /**
@@ -983,8 +970,12 @@ public final class Hierarchy {
         setDate(null);
         portfolios.clear();
 
-        // Clear the accounts and reset the problem flag.
+        /*
+         * Clear the accounts, and replace the store of ticker purses. Reset
+         * the problem flag.
+         */
         accounts.clear();
+        purses = new PurseStore();
         resetProblem();
     }
 
@@ -992,65 +983,51 @@ public final class Hierarchy {
      * Dispatches an appropriate action for a holding line given the type of
      * the holding line.
      *
-     * @param map A map of holding line types to action objects (these each
-     *            take holding descriptions as an argument)
+     * @param map         A map of holding line types to action objects (these
+     *                    each take holding descriptions as an argument)
+     * @param description The holding description
      */
     private void dispatchAction(@NotNull Map<HoldingLineType,
-            ? extends @NotNull OneParameterAction<HoldingDescription>> map) {
+            ? extends @NotNull OneParameterAction<HoldingDescription>> map,
+                                @NotNull HoldingDescription description) {
 
-        /*
-         * Declare a variable to contain a holding line type. Get the holding
-         * library.
-         */
-        HoldingLineType lineType;
-        final HoldingLibrary library =
-                HoldingLibrary.getInstance(getHoldingType());
+        // Get the line type from the description. Is the line type null?
+        final HoldingLineType lineType = description.getLineType();
+        if (null == lineType) {
 
-        /*
-         * Reflect the date of the holding library in the hierarchy. Cycle for
-         * each holding.
-         */
-        setDate(library.getDate());
-        for (HoldingDescription description : library.getCatalog()) {
+            /*
+             * The line type is null. There is nothing to be done with this
+             * holding description. Log an error.
+             */
+            logMessage(Level.SEVERE, String.format("Holding description " +
+                            "with key '%s' has a null line type; skipping.",
+                    description.getKey()));
+        }
+
+        // The line type is not null.
+        else {
 
-            // Get the line type from the description. Is the line type null?
-            lineType = description.getLineType();
-            if (null == lineType) {
+            // Get an action from the provided map. Is the action null?
+            final OneParameterAction<HoldingDescription> action =
+                    map.get(lineType);
+            if (null == action) {
 
                 /*
-                 * The line type is null. There is nothing to be done with
-                 * this holding description. Log an error.
+                 * The action is null. We only get here if there is a line
+                 * type that is not known to this class. Log an error.
                  */
-                logMessage(Level.SEVERE, String.format("Holding description " +
-                                "with key '%s' has a null line type; " +
-                                "skipping.", description.getKey()));
+                logMessage(Level.SEVERE, String.format("Holding " +
+                                "description with key '%s' has unknown line " +
+                                "type %s; skipping.", description.getKey(),
+                        lineType));
             }
 
-            // The line type is not null.
+            /*
+             * The action is not null. Perform the action using the holding
+             * description.
+             */
             else {
-
-                // Get an action from the provided map. Is the action null?
-                final OneParameterAction<HoldingDescription> action =
-                        map.get(lineType);
-                if (null == action) {
-
-                    /*
-                     * The action is null. We only get here if there is a line
-                     * type that is not known to this class. Log an error.
-                     */
-                    logMessage(Level.SEVERE, String.format("Holding " +
-                                    "description with key '%s' has " +
-                                    "unknown line type %s; skipping.",
-                            description.getKey(), lineType));
-                }
-
-                /*
-                 * The action is not null. Perform the action using the
-                 * first/next holding description.
-                 */
-                else {
-                    action.perform(description);
-                }
+                action.perform(description);
             }
         }
     }
@@ -1206,6 +1183,11 @@ public final class Hierarchy {
         popAndSum(aggregates.size());
     }
 
+    @Override
+    public void receiveHolding(@NotNull HoldingDescription description) {
+        dispatchAction(addMap, description);
+    }
+
     /**
      * Resets the problem flag.
      */
@@ -1280,6 +1262,22 @@ public final class Hierarchy {
         set(setNotConsidered, ticker, holdingDescription.getValue());
     }
 
+    @Override
+    public void startHoldings(Date date) {
+
+        // Clear any existing hierarchy, and set the date of the holdings.
+        clearHierarchy();
+        setDate(date);
+    }
+
+    @Override
+    public void stopHoldings() {
+
+        // Pop and set any remaining sum checkers, and lock the hierarchy.
+        popAndSum();
+        setLocked();
+    }
+
     /**
      * Sums and sets the 'considered' and 'not considered' values using the
      * children of an aggregate.
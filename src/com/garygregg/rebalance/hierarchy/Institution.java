@@ -10,9 +10,13 @@ public class Institution extends SuperAggregate<String, Account,
     private static final Factory<Institution> factoryForInstitutions =
             Institution::getNewArtificial;
 
-    // A lazy boy for an artificial institution
-    private static final LazyBoy<Institution> lazyBoyForInstitutions =
-            new LazyBoy<>(factoryForInstitutions);
+    /*
+     * A lazy boy for an artificial institution; each thread gets its own
+     * because artificial institutions receive values during breakdown
+     */
+    private static final ThreadLocal<LazyBoy<Institution>>
+            lazyBoyForInstitutions = ThreadLocal.withInitial(() ->
+            new LazyBoy<>(factoryForInstitutions));
 
     // A factory for producing the last account
     private final Factory<Account> factoryForAccounts = () -> {
@@ -74,7 +78,7 @@ public class Institution extends SuperAggregate<String, Account,
      * @return An artificial institution
      */
     public static @NotNull Institution getArtificial() {
-        return lazyBoyForInstitutions.getLazily();
+        return lazyBoyForInstitutions.get().getLazily();
     }
 
     /**
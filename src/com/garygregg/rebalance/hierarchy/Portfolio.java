@@ -44,6 +44,9 @@ public class Portfolio
     // A lazy boy for producing the last account
     private final LazyBoy<Account> lazyBoy = new LazyBoy<>(factory);
 
+    // The valuation type of the last breakdown, if any
+    private BreakdownType breakdownType;
+
     /**
      * Constructs the portfolio hierarchy object.
      *
@@ -71,28 +74,42 @@ public class Portfolio
     public void breakdown(@NotNull BreakdownType type) {
 
         /*
-         * Clear the existing breakdown values. Is the indicated valuation type
-         * proposed?
+         * Is the indicated valuation type different from that of the last
+         * breakdown?
          */
-        clear();
-        if (BreakdownType.PROPOSED.equals(type)) {
+        if (!type.equals(breakdownType)) {
 
             /*
-             * The indicated valuation type is proposed, so set proposed
-             * values.
+             * The indicated valuation type is different from that of the last
+             * breakdown. Clear the existing breakdown values, and remember the
+             * valuation type. Is the indicated valuation type proposed?
              */
-            setProposed();
+            clear();
+            breakdownType = type;
+            if (BreakdownType.PROPOSED.equals(type)) {
+
+                /*
+                 * The indicated valuation type is proposed, so set proposed
+                 * values.
+                 */
+                setProposed();
+            }
+
+            /*
+             * The indicated valuation type is not proposed, so assume current
+             * values are intended. Set current values.
+             */
+            else {
+                setCurrent();
+            }
         }
 
         /*
-         * The indicated valuation type is not proposed, so assume current
-         * values are intended. Set current values.
+         * Break down the portfolio object. When the valuation type is the
+         * same as that of the last breakdown, the breakdown values of
+         * hierarchy objects that have not changed since are kept, and only
+         * the subtrees that are out of date are broken down again.
          */
-        else {
-            setCurrent();
-        }
-
-        // Break down the portfolio object.
         breakdown();
     }
 
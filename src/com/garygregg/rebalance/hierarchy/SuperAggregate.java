@@ -15,50 +15,10 @@ abstract class SuperAggregate<KeyType,
     private final CategoryBreakdownManager<ChildType> categoryTypeManager =
             new CategoryBreakdownManager<>();
 
-    // Accumulate values by category type in each child
-    private final Operation categoryTypeAccumulate = new Operation() {
-
-        @Override
-        public void perform(@NotNull ChildType child) {
-
-            // The breakdown manager for the category type
-            final CategoryBreakdownManager<ChildType> categoryTypeManager =
-                    getCategoryTypeManager();
-
-            /*
-             * Cycle for each category type, and add the value specified for
-             * the child for that category type.
-             */
-            for (CategoryType type : CategoryType.values()) {
-                categoryTypeManager.add(type, child);
-            }
-        }
-    };
-
     // Our breakdown manager for the tax type
     private final TaxBreakdownManager<ChildType> taxTypeManager =
             new TaxBreakdownManager<>();
 
-    // Accumulate values by tax type in each child
-    private final Operation taxTypeAccumulate = new Operation() {
-
-        @Override
-        public void perform(@NotNull ChildType child) {
-
-            // The breakdown manager for the tax type
-            final TaxBreakdownManager<ChildType> taxTypeManager =
-                    getTaxTypeManager();
-
-            /*
-             * Cycle for each tax type, and add the value specified for the
-             * child for that tax type.
-             */
-            for (TaxType type : TaxType.values()) {
-                taxTypeManager.add(type, child);
-            }
-        }
-    };
-
     /**
      * Constructs the super-aggregate hierarchy object.
      *
@@ -68,40 +28,26 @@ abstract class SuperAggregate<KeyType,
         super(key);
     }
 
-    /**
-     * Accumulates values by category type in each child.
-     */
-    protected void accumulateCategoryType() {
-        doOperation(categoryTypeAccumulate);
-    }
-
-    /**
-     * Accumulates values by tax type in each child.
-     */
-    protected void accumulateTaxType() {
-        doOperation(taxTypeAccumulate);
-    }
-
     @Override
-    void breakdown() {
+    protected void accumulate(@NotNull ChildType child) {
 
         /*
-         * Call the superclass method, then accumulate values by tax type and
-         * category type.
+         * Call the superclass method, then add the values of the child for
+         * every tax type and every category type.
          */
-        super.breakdown();
-        accumulateTaxType();
-        accumulateCategoryType();
+        super.accumulate(child);
+        getTaxTypeManager().addAll(child);
+        getCategoryTypeManager().addAll(child);
     }
 
     @Override
-    void clear() {
+    protected void clearBreakdown() {
 
         /*
          * Call the superclass method, then clear both the tax type
          * and category type managers.
          */
-        super.clear();
+        super.clearBreakdown();
         getTaxTypeManager().clear();
         getCategoryTypeManager().clear();
     }
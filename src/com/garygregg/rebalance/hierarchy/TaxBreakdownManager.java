@@ -6,15 +6,18 @@ import org.jetbrains.annotations.NotNull;
 class TaxBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
         extends BreakdownManager<TaxType, HierarchyType> {
 
+    // The tax types, indexed by ordinal
+    private static final TaxType[] types = TaxType.values();
+
     @Override
     protected @NotNull
     Breakdown<TaxType, HierarchyType> createByConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(TaxType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getConsidered(type));
+                add(type, hierarchyObject.getConsidered(type));
             }
         };
     }
@@ -22,12 +25,12 @@ class TaxBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
     @Override
     protected @NotNull
     Breakdown<TaxType, HierarchyType> createByNotConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(TaxType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getNotConsidered(type));
+                add(type, hierarchyObject.getNotConsidered(type));
             }
         };
     }
@@ -35,12 +38,12 @@ class TaxBreakdownManager<HierarchyType extends Aggregate<?, ?, ?>>
     @Override
     protected @NotNull
     Breakdown<TaxType, HierarchyType> createByProposed() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(TaxType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getProposed(type));
+                add(type, hierarchyObject.getProposed(type));
             }
         };
     }
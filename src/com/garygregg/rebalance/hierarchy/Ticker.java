@@ -8,7 +8,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,28 +16,12 @@ public class Ticker extends
         Common<String, Common<?, ?, ?>, TickerDescription> implements
         CurrencyReceiver {
 
-    // A factory for producing artificial tickers
-    private static final Factory<Ticker> factory = Ticker::getNewArtificial;
-
-    // A lazy boy for an artificial ticker
-    private static final LazyBoy<Ticker> lazyBoy = new LazyBoy<>(factory);
-
-    // The preference manager
-    private static final PreferenceManager manager =
-            PreferenceManager.getInstance();
-
-    // Zero currency
-    private static final Currency zeroCurrency = Currency.getZero();
-
-    // Zero shares
-    private static final double zeroShares = Shares.getZero().getValue();
-
-    // The map of weight type to activities
-    private final Map<WeightType, Activity> associationMap =
+    // The map of weight type to activities, shared by all tickers
+    private static final Map<WeightType, Activity> associationMap =
             new EnumMap<>(WeightType.class);
 
     // Our ceiling function
-    private final SharesFunction ceiling = new SharesFunction() {
+    private static final SharesFunction ceiling = new SharesFunction() {
 
         @Override
         public double perform(@NotNull Double argument) {
@@ -46,24 +29,26 @@ public class Ticker extends
         }
     };
 
-    // The considered value of the ticker
-    private final Purse considered = new Purse();
-
-    // Our breakdown manager for the weight type
-    private final FullValueBreakdownManager<Ticker> fullValueManager =
-            new FullValueBreakdownManager<>();
+    // A factory for producing artificial tickers
+    private static final Factory<Ticker> factory = Ticker::getNewArtificial;
 
-    // Our message logger
-    private final MessageLogger messageLogger = new MessageLogger();
+    /*
+     * A lazy boy for an artificial ticker; each thread gets its own because
+     * artificial tickers receive values during breakdown
+     */
+    private static final ThreadLocal<LazyBoy<Ticker>> lazyBoy =
+            ThreadLocal.withInitial(() -> new LazyBoy<>(factory));
 
-    // The "not considered" value of the ticker
-    private final Purse notConsidered = new Purse();
+    // The preference manager
+    private static final PreferenceManager manager =
+            PreferenceManager.getInstance();
 
-    // The proposed value of the ticker
-    private final Purse proposed = new Purse();
+    // A message logger for each thread
+    private static final ThreadLocal<MessageLogger> messageLogger =
+            ThreadLocal.withInitial(Ticker::createMessageLogger);
 
     // Our round function
-    private final SharesFunction round = new SharesFunction() {
+    private static final SharesFunction round = new SharesFunction() {
 
         @Override
         public double perform(@NotNull Double argument) {
@@ -71,24 +56,41 @@ public class Ticker extends
         }
     };
 
-    /*
-     * A map of snapshot keys to the of the number of proposed shares in the
-     * snapshot
-     */
-    private final Map<SnapshotKey, Double> snapshotMap = new HashMap<>();
+    // The number of purses in each ticker
+    private static final int purseCount = 3;
+
+    // Zero currency
+    private static final Currency zeroCurrency = Currency.getZero();
+
+    // Zero shares
+    private static final double zeroShares = Shares.getZero().getValue();
+
+    // The index of the considered purse of the ticker
+    private final int considered;
+
+    // Our breakdown manager for the weight type
+    private final FullValueBreakdownManager<Ticker> fullValueManager =
+            new FullValueBreakdownManager<>();
+
+    // The index of the "not considered" purse of the ticker
+    private final int notConsidered;
+
+    // The index of the proposed purse of the ticker
+    private final int proposed;
+
+    // The store holding the purses of the ticker
+    private final PurseStore purses;
 
     // The rebalancing weight of the ticker
     private final double weight;
 
-    {
+    static {
 
         /*
-         * This common initialization block builds the association map of
-         * weight type to activities. First set the logger in the message
-         * logger. Declare a weight type. Level 0: WeightType.ALL.
+         * This static initialization block builds the association map of
+         * weight type to activities, which is the same for every ticker.
+         * Declare a weight type. Level 0: WeightType.ALL.
          */
-        messageLogger.setLogger(Logger.getLogger(
-                Ticker.class.getCanonicalName()));
         WeightType type;
 
         // Level 1: Bond, cash, real-estate or stock.
@@ -259,6 +261,19 @@ public class Ticker extends
      * @param weight The rebalancing weight of the ticker
      */
     Ticker(@NotNull String ticker, Double weight) {
+        this(ticker, weight, null);
+    }
+
+    /**
+     * Creates the ticker hierarchy object with an explicit rebalancing weight
+     * and an optional, shared store for its purses.
+     *
+     * @param ticker The key of the ticker hierarchy object
+     * @param weight The rebalancing weight of the ticker
+     * @param purses A store shared by many tickers for their purses, or null
+     *               if the ticker is to have a store of its own
+     */
+    Ticker(@NotNull String ticker, Double weight, PurseStore purses) {
 
         /*
          * Call the super class method with the ticker key. Set a default
@@ -267,6 +282,16 @@ public class Ticker extends
          */
         super(ticker);
         this.weight = (null == weight) ? 1. : weight;
+
+        /*
+         * Use the given purse store, or create one just large enough for
+         * this ticker if there is none. Add the purses of the ticker to the
+         * store.
+         */
+        this.purses = (null == purses) ? new PurseStore(purseCount) : purses;
+        considered = this.purses.add();
+        notConsidered = this.purses.add();
+        proposed = this.purses.add();
     }
 
     /**
@@ -278,13 +303,27 @@ public class Ticker extends
         this(ticker, null);
     }
 
+    /**
+     * Creates a message logger for ticker messages.
+     *
+     * @return A message logger for ticker messages
+     */
+    private static @NotNull MessageLogger createMessageLogger() {
+
+        // Create the message logger, set its logger, and return it.
+        final MessageLogger messageLogger = new MessageLogger();
+        messageLogger.setLogger(Logger.getLogger(
+                Ticker.class.getCanonicalName()));
+        return messageLogger;
+    }
+
     /**
      * Gets an artificial ticker.
      *
      * @return An artificial ticker
      */
     static @NotNull Ticker getArtificial() {
-        return lazyBoy.getLazily();
+        return lazyBoy.get().getLazily();
     }
 
     /**
@@ -298,7 +337,18 @@ public class Ticker extends
 
     @Override
     void breakdown() {
-        performActivity(WeightType.ALL);
+
+        /*
+         * Break down the ticker only if its breakdown is out of date. Clear
+         * the existing breakdown values, perform the activity for all weight
+         * types, and mark the breakdown as up-to-date.
+         */
+        if (isDirty()) {
+
+            getFullValueManager().clear();
+            performActivity(WeightType.ALL);
+            markClean();
+        }
     }
 
     /**
@@ -310,17 +360,39 @@ public class Ticker extends
      * value considering the current price
      */
     public Double calculateShares(@NotNull Currency value) {
-        return proposed.calculateShares(value);
+        return purses.calculateShares(proposed, value);
     }
 
     @Override
     void clear() {
+
+        // Clear breakdown values, and mark the breakdown as out of date.
         getFullValueManager().clear();
+        markDirty();
     }
 
-    @Override
-    public void clearSnapshot(@NotNull SnapshotKey key) {
-        snapshotMap.remove(key);
+    /**
+     * Copies the ticker for a rebalance. The copy has the same key,
+     * description, rebalancing weight, price and shares as this ticker, but
+     * no breakdown values. Changes to the proposed shares of the copy do not
+     * affect this ticker.
+     *
+     * @return A copy of the ticker
+     */
+    public @NotNull Ticker copy() {
+
+        /*
+         * Create a new ticker with the same key and rebalancing weight. Set
+         * the same description.
+         */
+        final Ticker copy = new Ticker(getKey(), getWeight());
+        copy.setDescription(getDescription());
+
+        // Copy the purses, and return the copy.
+        copy.purses.copy(copy.considered, purses, considered);
+        copy.purses.copy(copy.notConsidered, purses, notConsidered);
+        copy.purses.copy(copy.proposed, purses, proposed);
+        return copy;
     }
 
     /**
@@ -346,7 +418,7 @@ public class Ticker extends
      */
     private void enumerate(@NotNull WeightType type,
                            @NotNull WeightEnumerator enumerator) {
-        associationMap.get(type).enumerate(enumerator);
+        associationMap.get(type).enumerate(this, enumerator);
     }
 
     /**
@@ -378,7 +450,7 @@ public class Ticker extends
 
     @Override
     public Currency getConsidered() {
-        return considered.getValue();
+        return purses.getValue(considered);
     }
 
     /**
@@ -387,7 +459,7 @@ public class Ticker extends
      * @return The shares of the queryable that can be considered for rebalance
      */
     public Shares getConsideredShares() {
-        return considered.getShares();
+        return purses.getShares(considered);
     }
 
     @Override
@@ -423,7 +495,7 @@ public class Ticker extends
 
     @Override
     public Currency getNotConsidered() {
-        return notConsidered.getValue();
+        return purses.getValue(notConsidered);
     }
 
     /**
@@ -435,7 +507,7 @@ public class Ticker extends
      */
     @SuppressWarnings("unused")
     public @NotNull Shares getNotConsideredShares() {
-        return notConsidered.getShares();
+        return purses.getShares(notConsidered);
     }
 
     /**
@@ -444,7 +516,7 @@ public class Ticker extends
      * @return The price of the ticker
      */
     public Price getPrice() {
-        return considered.getPrice();
+        return purses.getPrice(considered);
     }
 
     @Override
@@ -454,7 +526,7 @@ public class Ticker extends
 
     @Override
     public Currency getProposed() {
-        return proposed.getValue();
+        return purses.getValue(proposed);
     }
 
     /**
@@ -463,7 +535,18 @@ public class Ticker extends
      * @return The proposed shares of the ticker
      */
     public Shares getProposedShares() {
-        return proposed.getShares();
+        return purses.getShares(proposed);
+    }
+
+    @Override
+    public double getState() {
+
+        /*
+         * The state of the ticker is its number of proposed shares, or
+         * not-a-number if the number of proposed shares is null.
+         */
+        final Shares shares = getProposedShares();
+        return (null == shares) ? Double.NaN : shares.getValue();
     }
 
     /**
@@ -491,11 +574,6 @@ public class Ticker extends
         return (null != description) && description.hasType(type);
     }
 
-    @Override
-    public boolean hasNoSnapshots() {
-        return snapshotMap.isEmpty();
-    }
-
     @Override
     public boolean hasTaxType(@NotNull TaxType type) {
         return type.equals(TaxType.NOT_AN_ACCOUNT);
@@ -547,7 +625,7 @@ public class Ticker extends
     public void passThrough() {
 
         // Is the proposed value not yet set?
-        if (null == proposed.getValue()) {
+        if (null == purses.getValue(proposed)) {
 
             /*
              * The proposed value is not yet set. Get the number of considered
@@ -558,9 +636,11 @@ public class Ticker extends
 
                 /*
                  * The number of considered shares is not null. Set the number
-                 * of proposed shares to the same value.
+                 * of proposed shares to the same value. The breakdown of the
+                 * ticker is now out of date.
                  */
-                proposed.setShares(consideredShares.getValue());
+                purses.setShares(proposed, consideredShares.getValue());
+                markDirty();
             }
         }
     }
@@ -571,24 +651,27 @@ public class Ticker extends
      * @param type The given weight type
      */
     private void performActivity(@NotNull WeightType type) {
-        associationMap.get(type).performActivity();
+        associationMap.get(type).performActivity(this);
     }
 
     @Override
-    public void recoverSnapshot(@NotNull SnapshotKey key) {
+    public void restoreState(double state) {
 
         /*
-         * Get the snapshot from the snapshot map. Set zero proposed shares if
-         * the snapshot is null. Otherwise, set the snapshot as the proposed
-         * number of shares.
+         * Set zero proposed shares if the state is not-a-number. Otherwise,
+         * set the state as the proposed number of shares. The breakdown of
+         * the ticker is now out of date.
          */
-        final Double snapshot = snapshotMap.get(key);
-        proposed.setShares((null == snapshot) ? zeroShares : snapshot);
+        purses.setShares(proposed, Double.isNaN(state) ? zeroShares : state);
+        markDirty();
     }
 
     @Override
     void setConsidered(double value) {
-        considered.setValueAdjustShares(value);
+
+        // Set the value, and mark the breakdown as out of date.
+        purses.setValueAdjustShares(considered, value);
+        markDirty();
     }
 
     /**
@@ -599,7 +682,10 @@ public class Ticker extends
      *               rebalancing
      */
     void setConsideredShares(double shares) {
-        considered.setShares(shares);
+
+        // Set the shares, and mark the breakdown as out of date.
+        purses.setShares(considered, shares);
+        markDirty();
     }
 
     @Override
@@ -609,7 +695,10 @@ public class Ticker extends
 
     @Override
     void setNotConsidered(double value) {
-        notConsidered.setValueAdjustShares(value);
+
+        // Set the value, and mark the breakdown as out of date.
+        purses.setValueAdjustShares(notConsidered, value);
+        markDirty();
     }
 
     /**
@@ -620,7 +709,10 @@ public class Ticker extends
      *               for rebalancing
      */
     void setNotConsideredShares(double shares) {
-        notConsidered.setShares(shares);
+
+        // Set the shares, and mark the breakdown as out of date.
+        purses.setShares(notConsidered, shares);
+        markDirty();
     }
 
     /**
@@ -630,10 +722,14 @@ public class Ticker extends
      */
     void setPrice(double price) {
 
-        // Keep price consistent in all purses.
-        considered.setPrice(price);
-        notConsidered.setPrice(price);
-        proposed.setPrice(price);
+        /*
+         * Keep price consistent in all purses, and mark the breakdown as out
+         * of date.
+         */
+        purses.setPrice(considered, price);
+        purses.setPrice(notConsidered, price);
+        purses.setPrice(proposed, price);
+        markDirty();
     }
 
     @Override
@@ -646,27 +742,27 @@ public class Ticker extends
                                          boolean isRelative) {
 
         /*
-         * Declare a mutable currency value, and initialize it to the incoming
-         * value. Get the existing value. Is the existing value set, and is
-         * the incoming value relative?
+         * Initialize the value to set to the incoming value. Get the existing
+         * value. Is the existing value set, and is the incoming value
+         * relative?
          */
-        final MutableCurrency mutableCurrency = new MutableCurrency(currency);
+        Currency valueToSet = currency;
         Currency valueSet = getProposed();
         if ((null != valueSet) && isRelative) {
 
             /*
              * The existing value is set, and the incoming value is relative.
-             * Add the existing value to the incoming value.
+             * Add the existing value to the incoming value in whole cents.
              */
-            mutableCurrency.add(valueSet);
+            valueToSet = Currency.fromUnits(currency.getUnits() +
+                    valueSet.getUnits());
         }
 
         /*
          * Calculate the proposed shares for the new proposed value. Are the
          * proposed shares not null?
          */
-        final Double proposedShares =
-                calculateShares(mutableCurrency.getImmutable());
+        final Double proposedShares = calculateShares(valueToSet);
         if (null != proposedShares) {
 
             // The proposed shares are not null. Set them.
@@ -674,21 +770,15 @@ public class Ticker extends
         }
 
         /*
-         * Get the new, proposed value. Is the proposed value not null? Because
-         * it better not be null; we just set it!
+         * Get the new, proposed value. Return the value we tried to set if
+         * the proposed value is null (it better not be null; we just set
+         * it!). Otherwise, return the difference in whole cents as the
+         * residual.
          */
         valueSet = getProposed();
-        if (null != valueSet) {
-
-            /*
-             * The proposed value is not null. Subtract it from the value we
-             * tried to set.
-             */
-            mutableCurrency.subtract(valueSet);
-        }
-
-        // Return the residual.
-        return mutableCurrency.getImmutable();
+        return (null == valueSet) ? valueToSet :
+                Currency.fromUnits(valueToSet.getUnits() -
+                        valueSet.getUnits());
     }
 
     /***
@@ -699,10 +789,11 @@ public class Ticker extends
     public void setProposedShares(double shares) {
 
         /*
-         * Reset any problems in the message logger. Declare and initialize
-         * a logging level for ordinary messages. Format a prefix for logger
-         * messages.
+         * Get the message logger for this thread, and reset any problems in
+         * it. Declare and initialize a logging level for ordinary messages.
+         * Format a prefix for logger messages.
          */
+        final MessageLogger messageLogger = Ticker.messageLogger.get();
         messageLogger.resetProblem();
         final Level ordinary = manager.getOrdinary();
         final String prefix = String.format("Ticker '%s': ", getKey());
@@ -712,7 +803,7 @@ public class Ticker extends
          * Are the rounded number of shares not equal to the given number of
          * shares?
          */
-        final double rounded = round.getRoundedShares(shares);
+        final double rounded = round.getRoundedShares(this, shares);
         final Shares roundedShares = new Shares(rounded);
         if (roundedShares.areNotEqual(shares)) {
 
@@ -778,8 +869,8 @@ public class Ticker extends
                     Currency.getZero() : minimumFromDescription;
 
             // Now calculate the minimum number of shares.
-            minimumShares = ceiling.getRoundedShares(minimumValue.getValue() /
-                    price.getValue());
+            minimumShares = ceiling.getRoundedShares(this,
+                    minimumValue.getValue() / price.getValue());
         }
 
         /*
@@ -817,28 +908,12 @@ public class Ticker extends
                     Shares.format(shares)));
         }
 
-        // Set the (possibly modified) number of shares.
-        proposed.setShares(shares);
-    }
-
-    @Override
-    public void takeSnapshot(@NotNull SnapshotKey key) {
-
         /*
-         * Get the number of proposed shares. Is the number of proposed shares
-         * null?
+         * Set the (possibly modified) number of shares, and mark the
+         * breakdown as out of date.
          */
-        final Shares shares = proposed.getShares();
-        if (null == shares) {
-
-            // The number of proposed shares is null. Clear the snapshot.
-            clearSnapshot(key);
-        }
-
-        // The number of proposed shares is not null. Take the snapshot.
-        else {
-            snapshotMap.put(key, shares.getValue());
-        }
+        purses.setShares(proposed, shares);
+        markDirty();
     }
 
     @Override
@@ -849,7 +924,9 @@ public class Ticker extends
          * value as that contained in the queryable.
          */
         super.transferValue(queryable);
-        proposed.setValueAdjustShares(getValue(queryable.getProposed()));
+        purses.setValueAdjustShares(proposed,
+                getValue(queryable.getProposed()));
+        markDirty();
     }
 
     @FunctionalInterface
@@ -898,21 +975,24 @@ public class Ticker extends
         }
     }
 
-    private abstract class SharesFunction implements Function<Double> {
+    private abstract static class SharesFunction
+            implements Function<Double> {
 
         /**
          * Gets the rounded number of shares.
          *
+         * @param ticker The ticker whose shares are to be rounded
          * @param shares The input number of shares
          * @return The rounded number of shares
          */
-        public double getRoundedShares(double shares) {
+        public double getRoundedShares(@NotNull Ticker ticker,
+                                       double shares) {
 
             /*
              * Get the balance rounding. Use one if the balance rounding is
              * null. Otherwise, use the given balance rounding.
              */
-            final Shares balanceRounding = getBalanceRounding();
+            final Shares balanceRounding = ticker.getBalanceRounding();
             final double roundingValue = (null == balanceRounding) ?
                     Shares.getOne().getValue() : balanceRounding.getValue();
 
@@ -921,7 +1001,7 @@ public class Ticker extends
         }
     }
 
-    private class Activity {
+    private static class Activity {
 
         // Associations of contained fund types to weight types
         private final Association[] associations;
@@ -954,23 +1034,25 @@ public class Ticker extends
         /**
          * Enumerates the weight types of a ticker.
          *
+         * @param ticker     The ticker whose weight types are enumerated
          * @param enumerator The enumerator receiving the weight types
          */
-        public void enumerate(@NotNull WeightEnumerator enumerator) {
+        public void enumerate(@NotNull Ticker ticker,
+                              @NotNull WeightEnumerator enumerator) {
 
             /*
              * Tell the enumerator about the current weight type. Get a child
              * weight type. Is the child weight type not null?
              */
             enumerator.receive(getWeightType());
-            final WeightType child = getChild();
+            final WeightType child = getChild(ticker);
             if (null != child) {
 
                 /*
                  * The child weight type is not null. Perform the enumeration
                  * for the non-null child weight type.
                  */
-                Ticker.this.enumerate(child, enumerator);
+                ticker.enumerate(child, enumerator);
             }
         }
 
@@ -986,9 +1068,10 @@ public class Ticker extends
         /**
          * Gets a child weight type.
          *
+         * @param ticker The ticker for which to get a child weight type
          * @return A child weight type
          */
-        private WeightType getChild() {
+        private WeightType getChild(@NotNull Ticker ticker) {
 
             /*
              * Declare a variable to hold an association. Get the variable
@@ -1007,11 +1090,11 @@ public class Ticker extends
             for (int i = 0; (i < associationsLength) && (null == child); ++i) {
 
                 /*
-                 * Get the first/next association. Does this ticker have the
+                 * Get the first/next association. Does the ticker have the
                  * indicated fund type?
                  */
                 association = associations[i];
-                if (hasFundType(association.getFirst())) {
+                if (ticker.hasFundType(association.getFirst())) {
 
                     /*
                      * The ticker has the associated fund type. Set the child
@@ -1055,22 +1138,24 @@ public class Ticker extends
 
         /**
          * Performs the activity.
+         *
+         * @param ticker The ticker for which to perform the activity
          */
-        public void performActivity() {
+        public void performActivity(@NotNull Ticker ticker) {
 
             // Get a child weight type. Is the child weight type not null?
-            WeightType child = getChild();
+            WeightType child = getChild(ticker);
             if (null != child) {
 
                 /*
                  * The child weight type is not null. Perform an activity for
                  * the non-null child weight type.
                  */
-                Ticker.this.performActivity(child);
+                ticker.performActivity(child);
             }
 
             // Add value for the weight type.
-            getFullValueManager().add(getWeightType(), Ticker.this);
+            ticker.getFullValueManager().add(getWeightType(), ticker);
         }
     }
 }
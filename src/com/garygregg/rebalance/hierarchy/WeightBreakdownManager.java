@@ -6,15 +6,18 @@ import org.jetbrains.annotations.NotNull;
 class WeightBreakdownManager<HierarchyType extends Common<?, ?, ?>>
         extends BreakdownManager<WeightType, HierarchyType> {
 
+    // The weight types, indexed by ordinal
+    private static final WeightType[] types = WeightType.values();
+
     @Override
     protected @NotNull
     Breakdown<WeightType, HierarchyType> createByConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getConsidered(type));
+                add(type, hierarchyObject.getConsidered(type));
             }
         };
     }
@@ -22,12 +25,12 @@ class WeightBreakdownManager<HierarchyType extends Common<?, ?, ?>>
     @Override
     protected @NotNull
     Breakdown<WeightType, HierarchyType> createByNotConsidered() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getNotConsidered(type));
+                add(type, hierarchyObject.getNotConsidered(type));
             }
         };
     }
@@ -35,12 +38,12 @@ class WeightBreakdownManager<HierarchyType extends Common<?, ?, ?>>
     @Override
     protected @NotNull
     Breakdown<WeightType, HierarchyType> createByProposed() {
-        return new Breakdown<>() {
+        return new Breakdown<>(types) {
 
             @Override
             public void add(WeightType type,
                             @NotNull HierarchyType hierarchyObject) {
-                getMutable(type).add(hierarchyObject.getProposed(type));
+                add(type, hierarchyObject.getProposed(type));
             }
         };
     }
@@ -0,0 +1,29 @@
+package com.garygregg.rebalance.holding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Date;
+
+public interface HoldingReceiver {
+
+    /**
+     * Receives a holding description. Descriptions are received in the order
+     * they occur in the holding file, each after all its fields have been
+     * processed.
+     *
+     * @param description The holding description
+     */
+    void receiveHolding(@NotNull HoldingDescription description);
+
+    /**
+     * Starts receiving holding descriptions.
+     *
+     * @param date The date of the holding file
+     */
+    void startHoldings(Date date);
+
+    /**
+     * Stops receiving holding descriptions; there will be no more.
+     */
+    void stopHoldings();
+}
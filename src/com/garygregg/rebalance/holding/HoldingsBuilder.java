@@ -21,8 +21,8 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
-                    getTarget().setName(field);
+                public void processField(@NotNull CharSequence field) {
+                    getTarget().setName(field.toString());
                 }
             };
 
@@ -46,7 +46,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
             new FieldProcessorIfNotEmpty<>() {
 
                 @Override
-                public void processNotEmptyField(@NotNull String field) {
+                public void processNotEmptyField(@NotNull CharSequence field) {
                     getTarget().setPrice(priceInterpreter.interpret(field,
                             1.));
                 }
@@ -72,7 +72,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
             new FieldProcessorIfNotEmpty<>() {
 
                 @Override
-                public void processNotEmptyField(@NotNull String field) {
+                public void processNotEmptyField(@NotNull CharSequence field) {
                     getTarget().setShares(sharesInterpreter.interpret(field,
                             0.));
                 }
@@ -81,6 +81,12 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
     // The parent tracker
     private final ParentTracker tracker = ParentTracker.getInstance();
 
+    /*
+     * A receiver for holding descriptions as they are built; null if the
+     * descriptions are to be kept in the holding library instead
+     */
+    private HoldingReceiver receiver;
+
     // Our value interpreter
     private final DoubleInterpreter valueInterpreter =
             new DoubleInterpreter() {
@@ -101,7 +107,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
             new FieldProcessorIfNotEmpty<>() {
 
                 @Override
-                public void processNotEmptyField(@NotNull String field) {
+                public void processNotEmptyField(@NotNull CharSequence field) {
 
                     // Get the holding description and its current value.
                     final HoldingDescription description = getTarget();
@@ -140,7 +146,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setWeight(weightInterpreter.interpret(field,
                             0.));
                 }
@@ -195,13 +201,13 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         // Set the line number and get the line code.
         setLineNumber(lineNumber);
         final Character lineCode = codeInterpreter.interpret(
-                elements[HoldingFields.LINE_TYPE.getPosition()]);
+                cursor.getField(HoldingFields.LINE_TYPE.getPosition()));
 
         // Determine the line type from the code. Is the line type known?
         final HoldingLineType lineType =
@@ -217,7 +223,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
 
         // Create a new holding description key.
         final HoldingKey key = new HoldingKey(tracker.constructKey(lineCode,
-                elements[HoldingFields.KEY.getPosition()]));
+                cursor.getField(HoldingFields.KEY.getPosition()).toString()));
 
         /*
          * Create a new holding description with the key. Set the line type
@@ -231,10 +237,12 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
          * Get the holding library. Check the key of the description against
          * the default key in the library. Try to add the new holding
          * description, receiving any existing description with the same key.
+         * Descriptions are not added if there is a receiver for them.
          */
         final HoldingLibrary library = getLibrary();
         checkKey(library, description, lineNumber);
-        if (null != library.addDescription(description)) {
+        if ((null == receiver) &&
+                (null != library.addDescription(description))) {
 
             /*
              * Log a message describing where the duplicate portfolio
@@ -251,7 +259,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
          * elements and the number of holding fields.
          */
         setTarget(description);
-        final int elementsLength = elements.length;
+        final int elementsLength = cursor.getFieldCount();
         final int numberOfPortfolioFields = HoldingFields.values().length;
 
         /*
@@ -288,7 +296,7 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
 
         // Cycle for each remaining field-to-process, and process it.
         for (int i = getMinimumFields(); i < fieldsToProcess; ++i) {
-            processField(i, elements[i]);
+            processField(i, cursor);
         }
 
         // Log some exit information.
@@ -296,6 +304,11 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
                         "holding with key '%s' at line %d was%s successful.",
                 description.getHoldingParentChild().getSecond(), lineNumber,
                 hadLineProblem() ? " not" : ""));
+
+        // Pass the completed description to any receiver.
+        if (null != receiver) {
+            receiver.receiveHolding(description);
+        }
     }
 
     @SuppressWarnings("GrazieInspection")
@@ -318,6 +331,18 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
         weightInterpreter.setRow(lineNumber);
     }
 
+    /**
+     * Sets a receiver for holding descriptions. When a receiver is set,
+     * descriptions are passed to it as they are built, and are not kept in
+     * the holding library. The library still receives its date.
+     *
+     * @param receiver A receiver for holding descriptions, or null if the
+     *                 descriptions are to be kept in the holding library
+     */
+    public void setReceiver(HoldingReceiver receiver) {
+        this.receiver = receiver;
+    }
+
     @Override
     protected void setTarget(@NotNull HoldingDescription description) {
 
@@ -339,5 +364,21 @@ abstract class HoldingsBuilder extends ElementReader<HoldingDescription> {
         super.startProcessing();
         tracker.reset();
         setDate(getLibrary());
+
+        // Start any receiver with the date of the library.
+        if (null != receiver) {
+            receiver.startHoldings(getLibrary().getDate());
+        }
+    }
+
+    @Override
+    protected void stopProcessing() {
+
+        // Stop any receiver, and call the superclass method.
+        if (null != receiver) {
+            receiver.stopHoldings();
+        }
+
+        super.stopProcessing();
     }
 }
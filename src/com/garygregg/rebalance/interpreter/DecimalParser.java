@@ -0,0 +1,196 @@
+package com.garygregg.rebalance.interpreter;
+
+import org.jetbrains.annotations.NotNull;
+
+public class DecimalParser {
+
+    /*
+     * ASCII characters that can never appear in a string accepted by
+     * Double.parseDouble(String), Integer.parseInt(String) or
+     * Long.parseLong(String); true if the character is one of these
+     */
+    private static final boolean[] excluded = new boolean[128];
+
+    // The most digits that may be accumulated without overflowing a long
+    private static final int maximumDigits = 18;
+
+    // The largest mantissa that a double represents exactly
+    private static final long maximumMantissa = 1L << 53;
+
+    // Powers of ten that a double represents exactly
+    private static final double[] powersOfTen = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    static {
+
+        /*
+         * Exclude each printable ASCII character that is not a digit, a sign,
+         * a decimal point, or a letter that may appear in an exponent, a
+         * hexadecimal value, a type suffix, 'NaN' or 'Infinity'. Control
+         * characters and the space may surround a double, so they are not
+         * excluded.
+         */
+        final String included = "+-.0123456789ABCDEFINPXabcdefinptxy";
+        for (char c = '!'; c < excluded.length; ++c) {
+            excluded[c] = (0 > included.indexOf(c));
+        }
+    }
+
+    // True if the most recently parsed value had no decimal point
+    private boolean integral;
+
+    // The most recently parsed value
+    private double value;
+
+    /**
+     * Gets the most recently parsed value.
+     *
+     * @return The most recently parsed value; this is meaningful only if the
+     * parse returned {@link Status#PARSED}
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Determines if the most recently parsed value had no decimal point.
+     *
+     * @return True if the most recently parsed value had no decimal point,
+     * false otherwise
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Parses a sequence of characters without allocating and without
+     * throwing. A parsed value is identical to that returned by
+     * {@link Double#parseDouble(String)} for the same characters.
+     *
+     * @param chars The characters to parse
+     * @return The status of the parse
+     */
+    public @NotNull Status parse(@NotNull CharSequence chars) {
+        return parse(chars, 0, chars.length());
+    }
+
+    /**
+     * Parses a range of a sequence of characters without allocating and
+     * without throwing. A parsed value is identical to that returned by
+     * {@link Double#parseDouble(String)} for the same characters.
+     *
+     * @param chars The characters to parse
+     * @param start The start (inclusive) of the range
+     * @param end   The end (exclusive) of the range
+     * @return The status of the parse
+     */
+    public @NotNull Status parse(@NotNull CharSequence chars, int start,
+                                 int end) {
+
+        // An empty range can never be parsed.
+        if (start >= end) {
+            return Status.INVALID;
+        }
+
+        /*
+         * Declare a variable to receive characters. Cycle for each character
+         * in the range.
+         */
+        char c;
+        for (int i = start; i < end; ++i) {
+
+            /*
+             * Get the first/next character. The range can never be parsed if
+             * the character is excluded.
+             */
+            c = chars.charAt(i);
+            if ((c < excluded.length) && excluded[c]) {
+                return Status.INVALID;
+            }
+        }
+
+        /*
+         * Initialize the position, and consume any sign. Initialize the
+         * mantissa, and the counts of digits.
+         */
+        int position = start;
+        final boolean negative = ('-' == (c = chars.charAt(position)));
+        if (negative || ('+' == c)) {
+            ++position;
+        }
+
+        long mantissa = 0L;
+        int digits = 0, fractionDigits = 0;
+
+        /*
+         * Reset the integral flag. Cycle while characters remain in the
+         * range.
+         */
+        integral = true;
+        for (; position < end; ++position) {
+
+            // Is the first/next character a digit?
+            c = chars.charAt(position);
+            if (('0' <= c) && (c <= '9')) {
+
+                /*
+                 * The character is a digit. Leave it to the slow path if the
+                 * mantissa might overflow. Otherwise, accumulate the digit.
+                 */
+                if (maximumDigits <= digits) {
+                    return Status.UNSUPPORTED;
+                }
+
+                mantissa = mantissa * 10L + (c - '0');
+                ++digits;
+                if (!integral) {
+                    ++fractionDigits;
+                }
+            }
+
+            // Is the character the first decimal point?
+            else if (('.' == c) && integral) {
+                integral = false;
+            }
+
+            /*
+             * The character is not one the fast path understands (e.g., an
+             * exponent, or a second decimal point). Leave it to the slow path.
+             */
+            else {
+                return Status.UNSUPPORTED;
+            }
+        }
+
+        /*
+         * Leave it to the slow path if there were no digits, if the mantissa
+         * is not exactly representable, or if the power of ten is not.
+         */
+        if ((0 == digits) || (maximumMantissa < mantissa) ||
+                (powersOfTen.length <= fractionDigits)) {
+            return Status.UNSUPPORTED;
+        }
+
+        /*
+         * Both the mantissa and the power of ten are exactly representable,
+         * so a single division is correctly rounded, just as the value from
+         * Double.parseDouble(String) is.
+         */
+        final double magnitude = mantissa / powersOfTen[fractionDigits];
+        value = negative ? -magnitude : magnitude;
+        return Status.PARSED;
+    }
+
+    public enum Status {
+
+        // The characters were parsed
+        PARSED,
+
+        // The characters can never be parsed as a number
+        INVALID,
+
+        // The characters could not be parsed quickly; use a slower parser
+        UNSUPPORTED
+    }
+}
@@ -4,8 +4,61 @@ import org.jetbrains.annotations.NotNull;
 
 public class DoubleInterpreter extends Interpreter<Double> {
 
+    // Our decimal parser
+    private final DecimalParser parser = new DecimalParser();
+
+    /**
+     * Converts a parsed double to the interpreted value. Both the fast path
+     * of interpretation and {@link #doInterpret(String)} call this, so
+     * subclasses that adjust parsed values should override this method.
+     *
+     * @param value The parsed double
+     * @return The interpreted value
+     */
+    protected @NotNull Double convert(double value) {
+        return value;
+    }
+
     @Override
     protected @NotNull Double doInterpret(@NotNull String string) {
-        return Double.parseDouble(string);
+        return convert(Double.parseDouble(string));
+    }
+
+    @Override
+    public Double interpret(@NotNull CharSequence chars, Double defaultValue) {
+
+        /*
+         * Try to parse the characters with the decimal parser. Convert the
+         * parsed value if it is acceptable.
+         */
+        final DecimalParser.Status status = parser.parse(chars);
+        if ((DecimalParser.Status.PARSED == status) &&
+                isAcceptable(parser.getValue())) {
+            return convert(parser.getValue());
+        }
+
+        /*
+         * Report a failure without throwing if the characters can never be
+         * parsed.
+         */
+        else if (DecimalParser.Status.INVALID == status) {
+            return reportFailure(chars.toString(), defaultValue);
+        }
+
+        /*
+         * The decimal parser could not handle the characters, or the value is
+         * not acceptable. Let the superclass interpret the characters.
+         */
+        return super.interpret(chars, defaultValue);
+    }
+
+    /**
+     * Determines whether a parsed value is acceptable to this interpreter.
+     *
+     * @param value A parsed value
+     * @return True if the value is acceptable, false otherwise
+     */
+    protected boolean isAcceptable(double value) {
+        return true;
     }
 }
@@ -4,8 +4,54 @@ import org.jetbrains.annotations.NotNull;
 
 public class IntegerInterpreter extends Interpreter<Integer> {
 
+    // Our decimal parser
+    private final DecimalParser parser = new DecimalParser();
+
+    /**
+     * Converts a parsed int to the interpreted value. Both the fast path
+     * of interpretation and {@link #doInterpret(String)} call this, so
+     * subclasses that adjust parsed values should override this method.
+     *
+     * @param value The parsed int
+     * @return The interpreted value
+     */
+    protected @NotNull Integer convert(int value) {
+        return value;
+    }
+
     @Override
     protected @NotNull Integer doInterpret(@NotNull String string) {
-        return Integer.parseInt(string);
+        return convert(Integer.parseInt(string));
+    }
+
+    @Override
+    public Integer interpret(@NotNull CharSequence chars,
+                             Integer defaultValue) {
+
+        /*
+         * Try to parse the characters with the decimal parser. Convert the
+         * parsed value if it has no decimal point, and is in range.
+         */
+        final DecimalParser.Status status = parser.parse(chars);
+        final double value = parser.getValue();
+        if ((DecimalParser.Status.PARSED == status) && parser.isIntegral() &&
+                (Integer.MIN_VALUE <= value) && (value <= Integer.MAX_VALUE)) {
+            return convert((int) value);
+        }
+
+        /*
+         * Report a failure without throwing if the characters can never be
+         * parsed.
+         */
+        else if (DecimalParser.Status.INVALID == status) {
+            return reportFailure(chars.toString(), defaultValue);
+        }
+
+        /*
+         * The decimal parser could not handle the characters, or the value
+         * has a decimal point, or is out of range. Let the superclass
+         * interpret the characters.
+         */
+        return super.interpret(chars, defaultValue);
     }
 }
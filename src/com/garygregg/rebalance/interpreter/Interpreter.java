@@ -37,16 +37,20 @@ public abstract class Interpreter<T> {
     }
 
     /**
-     * Interprets a string with an explicit default value.
+     * Interprets a sequence of characters with an explicit default value.
      *
-     * @param string       The string to interpret
+     * @param chars        The characters to interpret
      * @param defaultValue The default value to use if the procedure throws an
      *                     exception
      * @return The result of the interpretation
      */
-    public T interpret(@NotNull String string, T defaultValue) {
+    public T interpret(@NotNull CharSequence chars, T defaultValue) {
 
-        // Declare the result, and initialize it with the default.
+        /*
+         * Get the characters as a string. Declare the result, and initialize
+         * it with the default.
+         */
+        final String string = chars.toString();
         T result = defaultValue;
         try {
 
@@ -64,13 +68,14 @@ public abstract class Interpreter<T> {
     }
 
     /**
-     * Interprets a string with an implied default value (null).
+     * Interprets a sequence of characters with an implied default value
+     * (null).
      *
-     * @param string The string to interpret
+     * @param chars The characters to interpret
      * @return The result of the interpretation
      */
-    public T interpret(@NotNull String string) {
-        return interpret(string, null);
+    public T interpret(@NotNull CharSequence chars) {
+        return interpret(chars, null);
     }
 
     /**
@@ -86,6 +91,24 @@ public abstract class Interpreter<T> {
         throw new RuntimeException(exception);
     }
 
+    /**
+     * Reports a string that could not be interpreted, without throwing an
+     * exception.
+     *
+     * @param string       The string that could not be interpreted
+     * @param defaultValue The default value to be used
+     * @return The default value
+     */
+    protected T reportFailure(@NotNull String string, T defaultValue) {
+
+        /*
+         * Receive a parse failure for the string. Parse failures do not
+         * capture a stack trace, so they are inexpensive to create.
+         */
+        receiveException(new ParseFailure(string), string, defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Sets the column.
      *
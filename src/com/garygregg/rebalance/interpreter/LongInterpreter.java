@@ -4,8 +4,52 @@ import org.jetbrains.annotations.NotNull;
 
 public class LongInterpreter extends Interpreter<Long> {
 
+    // Our decimal parser
+    private final DecimalParser parser = new DecimalParser();
+
+    /**
+     * Converts a parsed long to the interpreted value. Both the fast path
+     * of interpretation and {@link #doInterpret(String)} call this, so
+     * subclasses that adjust parsed values should override this method.
+     *
+     * @param value The parsed long
+     * @return The interpreted value
+     */
+    protected @NotNull Long convert(long value) {
+        return value;
+    }
+
     @Override
     protected @NotNull Long doInterpret(@NotNull String string) {
-        return Long.parseLong(string);
+        return convert(Long.parseLong(string));
+    }
+
+    @Override
+    public Long interpret(@NotNull CharSequence chars, Long defaultValue) {
+
+        /*
+         * Try to parse the characters with the decimal parser. Convert the
+         * parsed value if it has no decimal point. The value is exact, and in
+         * range, because the decimal parser only parses mantissas that a
+         * double represents exactly.
+         */
+        final DecimalParser.Status status = parser.parse(chars);
+        if ((DecimalParser.Status.PARSED == status) && parser.isIntegral()) {
+            return convert((long) parser.getValue());
+        }
+
+        /*
+         * Report a failure without throwing if the characters can never be
+         * parsed.
+         */
+        else if (DecimalParser.Status.INVALID == status) {
+            return reportFailure(chars.toString(), defaultValue);
+        }
+
+        /*
+         * The decimal parser could not handle the characters, or the value
+         * has a decimal point. Let the superclass interpret the characters.
+         */
+        return super.interpret(chars, defaultValue);
     }
 }
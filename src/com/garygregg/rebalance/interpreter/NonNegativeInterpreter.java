@@ -19,4 +19,9 @@ public class NonNegativeInterpreter extends DoubleInterpreter {
         // Return the result.
         return result;
     }
+
+    @Override
+    protected boolean isAcceptable(double value) {
+        return 0. <= value;
+    }
 }
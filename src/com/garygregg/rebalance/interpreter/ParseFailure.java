@@ -0,0 +1,28 @@
+package com.garygregg.rebalance.interpreter;
+
+import org.jetbrains.annotations.NotNull;
+
+public class ParseFailure extends NumberFormatException {
+
+    // The serial version UID of the parse failure
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the parse failure.
+     *
+     * @param string The string that could not be parsed
+     */
+    public ParseFailure(@NotNull String string) {
+        super(String.format("For input string: \"%s\"", string));
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+
+        /*
+         * A parse failure is reported, not thrown, so there is no need for
+         * the expense of capturing a stack trace.
+         */
+        return this;
+    }
+}
@@ -25,4 +25,9 @@ public class PositiveInterpreter extends DoubleInterpreter {
         // Return the result.
         return result;
     }
+
+    @Override
+    protected boolean isAcceptable(double value) {
+        return 0. < value;
+    }
 }
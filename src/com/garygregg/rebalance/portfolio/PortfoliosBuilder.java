@@ -6,6 +6,7 @@ import com.garygregg.rebalance.interpreter.NonNegativeInterpreter;
 import com.garygregg.rebalance.interpreter.PositiveInterpreter;
 import com.garygregg.rebalance.toolkit.DateInterpreter;
 import com.garygregg.rebalance.toolkit.ElementReader;
+import com.garygregg.rebalance.toolkit.FieldCursor;
 import com.garygregg.rebalance.toolkit.FilingStatus;
 import com.garygregg.rebalance.toolkit.FilingStatusInterpreter;
 import org.jetbrains.annotations.NotNull;
@@ -46,7 +47,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     private final FieldProcessor<PortfolioDescription> birthdateProcessor =
             new FieldProcessor<>() {
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setBirthdate(
                             birthdateInterpreter.interpret(field));
                 }
@@ -73,7 +74,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     private final FieldProcessor<PortfolioDescription> cpiProcessor =
             new FieldProcessor<>() {
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setCpiMonthly(new Currency(
                             cpiInterpreter.interpret(field, 0.)));
                 }
@@ -99,7 +100,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setFilingStatus(
                             filingStatusInterpreter.interpret(field));
                 }
@@ -126,7 +127,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
             increaseAtBearProcessor = new FieldProcessor<>() {
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
             getTarget().setIncreaseAtBear(
                     increaseAtBearInterpreter.interpret(field));
         }
@@ -153,7 +154,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
             increaseAtZeroProcessor = new FieldProcessor<>() {
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
             getTarget().setIncreaseAtZero(
                     increaseAtZeroInterpreter.interpret(field));
         }
@@ -182,7 +183,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     private final FieldProcessor<PortfolioDescription> mortalityDateProcessor =
             new FieldProcessor<>() {
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setMortalityDate(
                             mortalityDateInterpreter.interpret(field));
                 }
@@ -193,8 +194,8 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
-                    getTarget().setName(field);
+                public void processField(@NotNull CharSequence field) {
+                    getTarget().setName(field.toString());
                 }
             };
 
@@ -219,7 +220,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     private final FieldProcessor<PortfolioDescription> nonCpiProcessor =
             new FieldProcessor<>() {
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setNonCpiMonthly(new Currency(
                             nonCpiInterpreter.interpret(field, 0.)));
                 }
@@ -249,7 +250,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
             socialSecurityProcessor = new FieldProcessor<>() {
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
             getTarget().setSocialSecurityMonthly(new Currency(
                     socialSecurityInterpreter.interpret(field, 0.)));
         }
@@ -273,7 +274,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     private final FieldProcessor<PortfolioDescription> taxableProcessor =
             new FieldProcessor<>() {
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
                     getTarget().setTaxableAnnual(
                             new Currency(taxableInterpreter.interpret(field,
                                     0.)));
@@ -341,7 +342,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         /*
@@ -350,7 +351,8 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
          */
         setLineNumber(lineNumber);
         final PortfolioDescription description = new PortfolioDescription(
-                elements[PortfolioFields.MNEMONIC.getPosition()]);
+                cursor.getField(PortfolioFields.MNEMONIC.getPosition())
+                        .toString());
 
         /*
          * Check the key of the description against the default key in the
@@ -374,7 +376,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
          * elements and the number of portfolio fields.
          */
         setTarget(description);
-        final int elementsLength = elements.length;
+        final int elementsLength = cursor.getFieldCount();
         final int numberOfPortfolioFields = PortfolioFields.values().length;
 
         /*
@@ -409,7 +411,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
 
         // Cycle for each remaining field-to-process, and process it.
         for (int i = getMinimumFields(); i < fieldsToProcess; ++i) {
-            processField(i, elements[i]);
+            processField(i, cursor);
         }
 
         // Log some exit information.
@@ -540,7 +542,7 @@ public class PortfoliosBuilder extends ElementReader<PortfolioDescription> {
         }
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
             getTarget().adjustAllocation(positionMap.get(
                     getColumn()).getType(), interpreter.interpret(field, 0.));
         }
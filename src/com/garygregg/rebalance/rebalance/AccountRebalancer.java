@@ -18,18 +18,10 @@ import java.util.logging.Logger;
 
 abstract class AccountRebalancer extends Rebalancer {
 
-    // A collection of weight types to account valuation pairs
-    private static final Collection<Pair<WeightType, ValueFromAccount>>
-            accountCollection = new ArrayList<>();
-
     // Our factory for creating value-from-account objects
     private static final Factory<FundType, ValueFromAccount>
             accountValueFactory = ValueFromAccount::new;
 
-    // A collection of weight types to detailed valuation pairs
-    private static final Collection<Pair<WeightType, ValueFromDetailed>>
-            detailedCollection = new ArrayList<>();
-
     // Our factory for creating value-from-detailed objects
     private static final Factory<WeightType, ValueFromDetailed>
             detailedValueFactory = ValueFromDetailed::new;
@@ -50,100 +42,101 @@ abstract class AccountRebalancer extends Rebalancer {
     private static final PreferenceManager manager =
             PreferenceManager.getInstance();
 
-    // An adjuster instance
-    private static final Adjuster adjuster = manager.getAdjuster();
-
     // The distinguished value for nothing
     private static final double nothing = Percent.getZero().getValue();
 
-    // The percentage overlay procedure
-    private static final OverlayProcedure percentage =
-            new OverlayProcedure() {
+    // Our factory for creating value-from-portfolio objects
+    private static final Factory<WeightType, ValueFromPortfolio>
+            portfolioValueFactory = ValueFromPortfolio::new;
 
-                @Override
-                public double adjustEquity(double ratio) {
+    // A collection of weight types to account valuation pairs
+    private final Collection<Pair<WeightType, ValueFromAccount>>
+            accountCollection = new ArrayList<>();
 
-                    /*
-                     * Currently, we perform no adjustment at all here.
-                     */
-                    return 0.;
-                }
+    // An adjuster instance
+    private final Adjuster adjuster = PreferenceManager.createAdjuster();
 
-                @Override
-                public void overlay(@NotNull Map<WeightType, Double> weightMap,
-                                    @NotNull Account account) {
-                    AccountRebalancer.overlay(weightMap, account);
-                }
-            };
+    // The closure overlay procedure
+    private final OverlayProcedure closure = new OverlayProcedure() {
 
-    // A list of weight types to portfolio valuation pairs
-    private static final Collection<Pair<WeightType, ValueFromPortfolio>>
-            portfolioList = new ArrayList<>();
+        @Override
+        public double adjustEquity(double ratio) {
+            return adjuster.f(ratio) - adjuster.getYHigh();
+        }
 
-    // The closure overlay procedure
-    private static final OverlayProcedure closure =
-            new OverlayProcedure() {
+        @Override
+        public void overlay(@NotNull Map<WeightType, Double> weightMap,
+                            @NotNull Account account) {
 
-                @Override
-                public double adjustEquity(double ratio) {
-                    return adjuster.f(ratio) - adjuster.getYHigh();
-                }
+            /*
+             * Overlay the weight map with weights from the account, including
+             * detailed weights as necessary. Set the description in the
+             * portfolio list. Is the description not null?
+             */
+            AccountRebalancer.this.overlay(weightMap, account);
+            if (setDescription(portfolioList,
+                    account.getPortfolioDescription())) {
+
+                /*
+                 * The description is not null. Overlay the weight map with
+                 * portfolio weights.
+                 */
+                AccountRebalancer.overlay(weightMap, portfolioList);
+            }
+        }
+    };
 
-                @Override
-                public void overlay(@NotNull Map<WeightType, Double> weightMap,
-                                    @NotNull Account account) {
+    // A collection of weight types to detailed valuation pairs
+    private final Collection<Pair<WeightType, ValueFromDetailed>>
+            detailedCollection = new ArrayList<>();
 
-                    /*
-                     * Overlay the weight map with weights from the account,
-                     * including detailed weights as necessary. Set the
-                     * description in the portfolio list. Is the description
-                     * not null?
-                     */
-                    AccountRebalancer.overlay(weightMap, account);
-                    if (setDescription(portfolioList,
-                            account.getPortfolioDescription())) {
-
-                        /*
-                         * The description is not null. Overlay the weight map
-                         * with portfolio weights.
-                         */
-                        AccountRebalancer.overlay(weightMap, portfolioList);
-                    }
-                }
-            };
+    // Our message logger
+    private final MessageLogger messageLogger = new MessageLogger();
 
-    // Our factory for creating value-from-portfolio objects
-    private static final Factory<WeightType, ValueFromPortfolio>
-            portfolioValueFactory = ValueFromPortfolio::new;
+    // The percentage overlay procedure
+    private final OverlayProcedure percentage = new OverlayProcedure() {
+
+        @Override
+        public double adjustEquity(double ratio) {
+
+            /*
+             * Currently, we perform no adjustment at all here.
+             */
+            return 0.;
+        }
+
+        @Override
+        public void overlay(@NotNull Map<WeightType, Double> weightMap,
+                            @NotNull Account account) {
+            AccountRebalancer.this.overlay(weightMap, account);
+        }
+    };
+
+    // A list of weight types to portfolio valuation pairs
+    private final Collection<Pair<WeightType, ValueFromPortfolio>>
+            portfolioList = new ArrayList<>();
 
     // A map of fund types to account description valuation objects
-    private static final Map<FundType, ValueFromAccount> valueFromAccountMap =
+    private final Map<FundType, ValueFromAccount> valueFromAccountMap =
             createMap(FundType.values(), accountValueFactory);
 
     // A map of weight types to detailed description valuation objects
-    private static final Map<WeightType, ValueFromDetailed>
-            valueFromDetailedMap = createMap(WeightType.values(),
-            detailedValueFactory);
+    private final Map<WeightType, ValueFromDetailed> valueFromDetailedMap =
+            createMap(WeightType.values(), detailedValueFactory);
 
     // A map of weight types to portfolio description valuation objects
-    private static final Map<WeightType, ValueFromPortfolio>
-            valueFromPortfolioMap = createMap(WeightType.values(),
-            portfolioValueFactory);
+    private final Map<WeightType, ValueFromPortfolio> valueFromPortfolioMap =
+            createMap(WeightType.values(), portfolioValueFactory);
 
-    static {
+    {
 
-        // Build the account list, the detailed list, and the portfolio list.
+        /*
+         * Build the account list, the detailed list, and the portfolio list.
+         * Set the logger in the message logger.
+         */
         buildAccountList();
         buildDetailedList();
         buildPortfolioList();
-    }
-
-    // Our message logger
-    private final MessageLogger messageLogger = new MessageLogger();
-
-    {
-
-        // Set the logger in the message logger.
         messageLogger.setLogger(Logger.getLogger(
                 AccountRebalancer.class.getCanonicalName()));
     }
@@ -270,174 +263,6 @@ abstract class AccountRebalancer extends Rebalancer {
         }
     }
 
-    /**
-     * Builds the account list.
-     */
-    private static void buildAccountList() {
-
-        // 1
-        accountCollection.add(new Pair<>(WeightType.BOND,
-                valueFromAccountMap.get(FundType.BOND)));
-
-        // 2
-        accountCollection.add(new Pair<>(WeightType.CASH,
-                valueFromAccountMap.get(FundType.CASH)));
-
-        // 3
-        accountCollection.add(new Pair<>(WeightType.REAL_ESTATE,
-                valueFromAccountMap.get(FundType.REAL_ESTATE)));
-
-        // 4
-        accountCollection.add(new Pair<>(WeightType.STOCK,
-                valueFromAccountMap.get(FundType.STOCK)));
-    }
-
-    /**
-     * Builds the detailed list.
-     */
-    private static void buildDetailedList() {
-
-        // 1
-        WeightType type = WeightType.BOND;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 2
-        type = WeightType.BOND_CORPORATE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 3
-        type = WeightType.BOND_FOREIGN;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 4
-        type = WeightType.BOND_GOVERNMENT;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 5
-        type = WeightType.BOND_HIGH;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 6
-        type = WeightType.BOND_INFLATION;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 7
-        type = WeightType.BOND_MORTGAGE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 8
-        type = WeightType.BOND_MUNICIPAL;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 9
-        type = WeightType.BOND_SHORT;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 10
-        type = WeightType.BOND_UNCATEGORIZED;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 11
-        type = WeightType.CASH;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 12
-        type = WeightType.CASH_GOVERNMENT;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 13
-        type = WeightType.CASH_UNCATEGORIZED;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 14
-        type = WeightType.REAL_ESTATE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 15
-        type = WeightType.STOCK;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 16
-        type = WeightType.STOCK_DOMESTIC;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 17
-        type = WeightType.STOCK_FOREIGN;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 18
-        type = WeightType.STOCK_LARGE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 19
-        type = WeightType.STOCK_GROWTH;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 20
-        type = WeightType.STOCK_GROWTH_AND_VALUE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 21
-        type = WeightType.STOCK_GROWTH_OR_VALUE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 22
-        type = WeightType.STOCK_MEDIUM;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 23
-        type = WeightType.STOCK_NOT_LARGE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 24
-        type = WeightType.STOCK_SMALL;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-
-        // 25
-        type = WeightType.STOCK_VALUE;
-        detailedCollection.add(new Pair<>(type,
-                valueFromDetailedMap.get(type)));
-    }
-
-    /**
-     * Builds the portfolio list.
-     */
-    private static void buildPortfolioList() {
-
-        /*
-         * Cycle for each level one weight type, and add a new pair to the
-         * portfolio list.
-         */
-        for (WeightType type : getLevelOne()) {
-            portfolioList.add(new Pair<>(type,
-                    valueFromPortfolioMap.get(type)));
-        }
-    }
-
     /**
      * Creates a map of identifier types to description valuation objects.
      *
@@ -541,32 +366,6 @@ abstract class AccountRebalancer extends Rebalancer {
         return weightMap;
     }
 
-    /**
-     * Creates a weight map for a closure rebalance.
-     *
-     * @param account The account for which to create a weight map
-     * @param adjust  True if the map should be adjusted for relative market
-     *                valuation; false otherwise
-     * @return A weight map for the account
-     */
-    public static @NotNull Map<WeightType, Double> getWeightsForClosure(
-            @NotNull Account account, boolean adjust) {
-        return getWeights(account, closure, adjust);
-    }
-
-    /**
-     * Creates a weight map for a percentage rebalance.
-     *
-     * @param account The account for which to create a weight map
-     * @param adjust  True if the map should be adjusted for relative market
-     *                valuation; false otherwise
-     * @return A weight map for the account
-     */
-    public static @NotNull Map<WeightType, Double> getWeightsForPercentage(
-            @NotNull Account account, boolean adjust) {
-        return getWeights(account, percentage, adjust);
-    }
-
     /**
      * Initializes a weight map to default values.
      *
@@ -604,38 +403,6 @@ abstract class AccountRebalancer extends Rebalancer {
         weightMap.put(WeightType.STOCK_VALUE, 60.);
     }
 
-    /**
-     * Overlays a weight map, first with weights specified in an account
-     * description, second with weights specified in a detailed description.
-     *
-     * @param weightMap The weight map receiving overlays
-     * @param account   An account object
-     */
-    private static void overlay(@NotNull Map<WeightType, Double> weightMap,
-                                @NotNull Account account) {
-
-        /*
-         * Set the description in the account collection and overlay the weight
-         * map if the description is not null.
-         */
-        if (setDescription(accountCollection,
-                account.getDescription())) {
-            AccountRebalancer.overlay(weightMap,
-                    accountCollection);
-        }
-
-        /*
-         * Set the description in the detailed collection, and overlay the
-         * weight map a second time if the description is not null.
-         */
-        if (setDescription(detailedCollection,
-                DetailedLibrary.getInstance().
-                        getDescription(account.getKey()))) {
-            AccountRebalancer.overlay(weightMap,
-                    detailedCollection);
-        }
-    }
-
     /**
      * Overlays values in a weight map.
      *
@@ -703,6 +470,174 @@ abstract class AccountRebalancer extends Rebalancer {
         return (null != description);
     }
 
+    /**
+     * Builds the account list.
+     */
+    private void buildAccountList() {
+
+        // 1
+        accountCollection.add(new Pair<>(WeightType.BOND,
+                valueFromAccountMap.get(FundType.BOND)));
+
+        // 2
+        accountCollection.add(new Pair<>(WeightType.CASH,
+                valueFromAccountMap.get(FundType.CASH)));
+
+        // 3
+        accountCollection.add(new Pair<>(WeightType.REAL_ESTATE,
+                valueFromAccountMap.get(FundType.REAL_ESTATE)));
+
+        // 4
+        accountCollection.add(new Pair<>(WeightType.STOCK,
+                valueFromAccountMap.get(FundType.STOCK)));
+    }
+
+    /**
+     * Builds the detailed list.
+     */
+    private void buildDetailedList() {
+
+        // 1
+        WeightType type = WeightType.BOND;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 2
+        type = WeightType.BOND_CORPORATE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 3
+        type = WeightType.BOND_FOREIGN;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 4
+        type = WeightType.BOND_GOVERNMENT;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 5
+        type = WeightType.BOND_HIGH;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 6
+        type = WeightType.BOND_INFLATION;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 7
+        type = WeightType.BOND_MORTGAGE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 8
+        type = WeightType.BOND_MUNICIPAL;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 9
+        type = WeightType.BOND_SHORT;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 10
+        type = WeightType.BOND_UNCATEGORIZED;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 11
+        type = WeightType.CASH;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 12
+        type = WeightType.CASH_GOVERNMENT;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 13
+        type = WeightType.CASH_UNCATEGORIZED;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 14
+        type = WeightType.REAL_ESTATE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 15
+        type = WeightType.STOCK;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 16
+        type = WeightType.STOCK_DOMESTIC;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 17
+        type = WeightType.STOCK_FOREIGN;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 18
+        type = WeightType.STOCK_LARGE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 19
+        type = WeightType.STOCK_GROWTH;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 20
+        type = WeightType.STOCK_GROWTH_AND_VALUE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 21
+        type = WeightType.STOCK_GROWTH_OR_VALUE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 22
+        type = WeightType.STOCK_MEDIUM;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 23
+        type = WeightType.STOCK_NOT_LARGE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 24
+        type = WeightType.STOCK_SMALL;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+
+        // 25
+        type = WeightType.STOCK_VALUE;
+        detailedCollection.add(new Pair<>(type,
+                valueFromDetailedMap.get(type)));
+    }
+
+    /**
+     * Builds the portfolio list.
+     */
+    private void buildPortfolioList() {
+
+        /*
+         * Cycle for each level one weight type, and add a new pair to the
+         * portfolio list.
+         */
+        for (WeightType type : getLevelOne()) {
+            portfolioList.add(new Pair<>(type,
+                    valueFromPortfolioMap.get(type)));
+        }
+    }
+
     /**
      * Rebalances an account.
      *
@@ -712,6 +647,15 @@ abstract class AccountRebalancer extends Rebalancer {
      */
     protected abstract Currency doRebalance(@NotNull Account account);
 
+    /**
+     * Gets the adjuster of the rebalancer.
+     *
+     * @return The adjuster of the rebalancer
+     */
+    protected @NotNull Adjuster getAdjuster() {
+        return adjuster;
+    }
+
     /**
      * Gets the message logger for the account rebalancer.
      *
@@ -721,6 +665,32 @@ abstract class AccountRebalancer extends Rebalancer {
         return messageLogger;
     }
 
+    /**
+     * Creates a weight map for a closure rebalance.
+     *
+     * @param account The account for which to create a weight map
+     * @param adjust  True if the map should be adjusted for relative market
+     *                valuation; false otherwise
+     * @return A weight map for the account
+     */
+    public @NotNull Map<WeightType, Double> getWeightsForClosure(
+            @NotNull Account account, boolean adjust) {
+        return getWeights(account, closure, adjust);
+    }
+
+    /**
+     * Creates a weight map for a percentage rebalance.
+     *
+     * @param account The account for which to create a weight map
+     * @param adjust  True if the map should be adjusted for relative market
+     *                valuation; false otherwise
+     * @return A weight map for the account
+     */
+    public @NotNull Map<WeightType, Double> getWeightsForPercentage(
+            @NotNull Account account, boolean adjust) {
+        return getWeights(account, percentage, adjust);
+    }
+
     /**
      * Returns whether there was a problem with a rebalance.
      *
@@ -736,6 +706,38 @@ abstract class AccountRebalancer extends Rebalancer {
         return logger.hadProblem1() || logger.hadProblem2();
     }
 
+    /**
+     * Overlays a weight map, first with weights specified in an account
+     * description, second with weights specified in a detailed description.
+     *
+     * @param weightMap The weight map receiving overlays
+     * @param account   An account object
+     */
+    private void overlay(@NotNull Map<WeightType, Double> weightMap,
+                                @NotNull Account account) {
+
+        /*
+         * Set the description in the account collection and overlay the weight
+         * map if the description is not null.
+         */
+        if (setDescription(accountCollection,
+                account.getDescription())) {
+            AccountRebalancer.overlay(weightMap,
+                    accountCollection);
+        }
+
+        /*
+         * Set the description in the detailed collection, and overlay the
+         * weight map a second time if the description is not null.
+         */
+        if (setDescription(detailedCollection,
+                DetailedLibrary.getInstance().
+                        getDescription(account.getKey()))) {
+            AccountRebalancer.overlay(weightMap,
+                    detailedCollection);
+        }
+    }
+
     /**
      * Rebalances an account.
      *
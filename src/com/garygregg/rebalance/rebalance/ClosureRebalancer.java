@@ -12,10 +12,6 @@ import java.util.logging.Logger;
 
 class ClosureRebalancer extends WeightRebalancer {
 
-    // An adjuster instance
-    private static final Adjuster adjuster =
-            PreferenceManager.getInstance().getAdjuster();
-
     // The default stock fraction at market high
     private static final double defaultStocksAtHigh = 0.45;
 
@@ -83,7 +79,7 @@ class ClosureRebalancer extends WeightRebalancer {
      * @param positiveLevelZeroWeight A level zero weight that is known to be
      *                                positive
      */
-    private static void checkAllocation(
+    private void checkAllocation(
             @NotNull PortfolioDescription description,
             double positiveLevelZeroWeight) {
 
@@ -105,7 +101,7 @@ class ClosureRebalancer extends WeightRebalancer {
          * the default stock fraction at market high.
          */
         else {
-            adjuster.setNearlyALine(defaultStocksAtHigh);
+            getAdjuster().setNearlyALine(defaultStocksAtHigh);
         }
     }
 
@@ -115,7 +111,7 @@ class ClosureRebalancer extends WeightRebalancer {
      *
      * @param description A portfolio description
      */
-    private static void checkDescription(PortfolioDescription description) {
+    private void checkDescription(PortfolioDescription description) {
 
         /*
          * Check for positive level zero weight if the portfolio description is
@@ -130,7 +126,7 @@ class ClosureRebalancer extends WeightRebalancer {
          * with the default stock percentage at market high.
          */
         else {
-            adjuster.setNearlyALine(defaultStocksAtHigh);
+            getAdjuster().setNearlyALine(defaultStocksAtHigh);
         }
     }
 
@@ -141,7 +137,7 @@ class ClosureRebalancer extends WeightRebalancer {
      * @param description     A portfolio description
      * @param levelZeroWeight The summed level zero weight
      */
-    private static void checkPositiveWeight(
+    private void checkPositiveWeight(
             @NotNull PortfolioDescription description,
             double levelZeroWeight) {
 
@@ -159,7 +155,7 @@ class ClosureRebalancer extends WeightRebalancer {
          * fraction at market high.
          */
         else {
-            adjuster.setNearlyALine(defaultStocksAtHigh);
+            getAdjuster().setNearlyALine(defaultStocksAtHigh);
         }
     }
 
@@ -170,7 +166,7 @@ class ClosureRebalancer extends WeightRebalancer {
      * @param description A portfolio description
      * @param high        The desired allocation to stock at market high
      */
-    private static void checkZero(@NotNull PortfolioDescription description,
+    private void checkZero(@NotNull PortfolioDescription description,
                                   double high) {
 
         /*
@@ -192,43 +188,8 @@ class ClosureRebalancer extends WeightRebalancer {
          * characteristics with the given market high.
          */
         else {
-            adjuster.setNearlyALine(high);
-        }
-    }
-
-    /**
-     * Sets the y-values of the adjuster.
-     *
-     * @param description A portfolio description
-     * @param high        The desired allocation to stocks at market high
-     * @param zero        The desired adjustment to stocks at market zero
-     */
-    private static void setAdjuster(@NotNull PortfolioDescription description,
-                                    double high, double zero) {
-
-        /*
-         * Get the desired adjustment to stocks at the bear market threshold.
-         * Is the desired adjustment to stocks at the bear market threshold
-         * null?
-         */
-        Double bear = description.getIncreaseAtBear();
-        if (null == bear) {
-
-            /*
-             * The desired adjustment to stocks at the bear market threshold is
-             * null. Use a default of half the adjustment to market zero.
-             */
-            bear = high / 2.;
+            getAdjuster().setNearlyALine(high);
         }
-
-        /*
-         * Add the desired adjustment for bear market, and market zero to high
-         * to get the total desired allocations for these circumstances. Set
-         * the y-values of the adjuster.
-         */
-        final double percentToFraction = 100.;
-        adjuster.setY(high, bear / percentToFraction + high,
-                zero / percentToFraction + high);
     }
 
     @Override
@@ -242,7 +203,7 @@ class ClosureRebalancer extends WeightRebalancer {
         final Currency currency = super.doRebalance(account);
 
         // Reset the adjuster, and return the result of the rebalance.
-        adjuster.setNearlyALine(defaultStocksAtHigh);
+        getAdjuster().setNearlyALine(defaultStocksAtHigh);
         return currency;
     }
 
@@ -297,6 +258,41 @@ class ClosureRebalancer extends WeightRebalancer {
         return weightMap;
     }
 
+    /**
+     * Sets the y-values of the adjuster.
+     *
+     * @param description A portfolio description
+     * @param high        The desired allocation to stocks at market high
+     * @param zero        The desired adjustment to stocks at market zero
+     */
+    private void setAdjuster(@NotNull PortfolioDescription description,
+                                    double high, double zero) {
+
+        /*
+         * Get the desired adjustment to stocks at the bear market threshold.
+         * Is the desired adjustment to stocks at the bear market threshold
+         * null?
+         */
+        Double bear = description.getIncreaseAtBear();
+        if (null == bear) {
+
+            /*
+             * The desired adjustment to stocks at the bear market threshold is
+             * null. Use a default of half the adjustment to market zero.
+             */
+            bear = high / 2.;
+        }
+
+        /*
+         * Add the desired adjustment for bear market, and market zero to high
+         * to get the total desired allocations for these circumstances. Set
+         * the y-values of the adjuster.
+         */
+        final double percentToFraction = 100.;
+        getAdjuster().setY(high, bear / percentToFraction + high,
+                zero / percentToFraction + high);
+    }
+
     /**
      * Sets the portfolio associated with the account to be rebalanced.
      *
@@ -0,0 +1,160 @@
+package com.garygregg.rebalance.rebalance;
+
+import com.garygregg.rebalance.countable.Currency;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+class PatternPruner {
+
+    // The value of zero currency
+    private static final Currency zero = Currency.getZero();
+
+    // The count of values that contribute to deviation
+    private int count;
+
+    // The delegate assigned to each bit of a consideration pattern
+    private int[] order = new int[0];
+
+    // The count of consideration patterns pruned since the last prepare
+    private int pruned;
+
+    // The fixed deviation squares of each delegate when not considered
+    private double[] squares = new double[0];
+
+    /**
+     * Determines whether a consideration pattern can be pruned because it
+     * cannot produce a score better than the best score. The pattern must
+     * already have been mapped to delegates.
+     *
+     * @param pattern   A consideration pattern mapped to delegates
+     * @param bestScore The best score seen so far
+     * @return True if the consideration pattern can be pruned, false
+     * otherwise
+     */
+    public boolean canPrune(int pattern,
+                            @NotNull ReallocationScore bestScore) {
+
+        /*
+         * A candidate can only be pruned by its deviation if the residual of
+         * the best score is zero. If the residual is not zero, a candidate
+         * might do better by reducing it. There is also no bound if there
+         * are no values that contribute to deviation.
+         */
+        if ((!bestScore.getResidual().equals(zero)) || (0 == count)) {
+            return false;
+        }
+
+        /*
+         * Accumulate the fixed deviation squares of the delegates that the
+         * pattern does not consider. A delegate that is not considered gets
+         * no adjustment, so its contribution to deviation is fixed. A
+         * delegate that is considered contributes a square that is never
+         * negative. The accumulation is therefore a lower bound.
+         */
+        double accumulation = 0.;
+        for (int i = 0; i < squares.length; ++i) {
+            if (0 == (pattern & (1 << i))) {
+                accumulation += squares[i];
+            }
+        }
+
+        /*
+         * The pattern can be pruned if the lower bound of its deviation
+         * exceeds the deviation of the best score. Count the pattern if so.
+         */
+        final boolean result = Math.sqrt(accumulation / count) >
+                Math.abs(bestScore.getDeviation());
+        if (result) {
+            ++pruned;
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Gets the count of consideration patterns pruned since the last prepare.
+     *
+     * @return The count of consideration patterns pruned since the last
+     * prepare
+     */
+    public int getPruned() {
+        return pruned;
+    }
+
+    /**
+     * Maps a consideration pattern so that its lowest order bits refer to the
+     * delegates that are most promising to exclude.
+     *
+     * @param pattern A consideration pattern from a patterns object
+     * @return The consideration pattern mapped to delegates
+     */
+    public int map(int pattern) {
+
+        // Cycle for each bit in the pattern, and map any bit that is set.
+        int result = 0;
+        for (int i = 0; i < order.length; ++i) {
+            if (0 != (pattern & (1 << i))) {
+                result |= (1 << order[i]);
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Prepares the pruner after a first reallocation using all delegates.
+     *
+     * @param delegates The delegates being reallocated
+     * @param action    The action that performed the first reallocation
+     * @param <T>       A receiver delegate type
+     */
+    public <T extends ReceiverDelegate<?>> void prepare(
+            @NotNull Collection<T> delegates,
+            @NotNull ResidualProducerAction action) {
+
+        /*
+         * Reset the pruned count, and get the count of values that contribute
+         * to deviation. Create arrays for the fixed deviation squares, and
+         * whether each delegate had a residual.
+         */
+        pruned = 0;
+        count = action.getActualCount();
+        final int size = delegates.size();
+        squares = new double[size];
+        final boolean[] hadResidual = new boolean[size];
+
+        /*
+         * Cycle for each delegate. Get its fixed deviation square; action
+         * indices start at one. Note whether the delegate had a residual.
+         */
+        int i = 0;
+        final List<Integer> indices = new ArrayList<>();
+        for (T delegate : delegates) {
+
+            squares[i] = action.calculateFixedSquare(i + 1);
+            hadResidual[i] = !delegate.getLastResidual().equals(zero);
+            indices.add(i++);
+        }
+
+        /*
+         * Order the delegates so that those that had a residual come first,
+         * then those with the smallest fixed deviation square. The patterns
+         * object excludes the delegates at its lowest order bits first.
+         */
+        indices.sort(Comparator.<Integer, Boolean>comparing(
+                index -> !hadResidual[index]).thenComparingDouble(
+                index -> squares[index]));
+
+        // Assign the ordered delegates to the bits of a pattern.
+        order = new int[size];
+        for (i = 0; i < size; ++i) {
+            order[i] = indices.get(i);
+        }
+    }
+}
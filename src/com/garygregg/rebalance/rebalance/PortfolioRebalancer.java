@@ -5,11 +5,15 @@ import com.garygregg.rebalance.hierarchy.Account;
 import com.garygregg.rebalance.hierarchy.Hierarchy;
 import com.garygregg.rebalance.hierarchy.Institution;
 import com.garygregg.rebalance.hierarchy.Portfolio;
-import com.garygregg.rebalance.toolkit.AccountKey;
-import com.garygregg.rebalance.toolkit.BreakdownType;
+import com.garygregg.rebalance.toolkit.*;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 public class PortfolioRebalancer extends Rebalancer {
 
@@ -18,12 +22,10 @@ public class PortfolioRebalancer extends Rebalancer {
             new PortfolioRebalancer();
 
     // The rebalancer for an account that is last
-    private static final ClosureRebalancer lastRebalancer =
-            new ClosureRebalancer();
+    private final ClosureRebalancer lastRebalancer = new ClosureRebalancer();
 
     // The rebalancer for an account that is not last
-    private static final WeightRebalancer notLastRebalancer =
-            new WeightRebalancer();
+    private final WeightRebalancer notLastRebalancer = new WeightRebalancer();
 
     /*
      * The keys of the last accounts to be rebalanced mapped to the portfolios
@@ -48,6 +50,23 @@ public class PortfolioRebalancer extends Rebalancer {
                 }
             };
 
+    // A rebalance action for a list of accounts already in rebalance order
+    private final Action<List<Account>, Account> listAction =
+            new Action<>() {
+
+                @Override
+                public @NotNull Collection<Account> doGetChildren(
+                        @NotNull List<Account> accounts) {
+                    return accounts;
+                }
+
+                @Override
+                public boolean perform(@NotNull Account child,
+                                       boolean isLast) {
+                    return rebalance(child);
+                }
+            };
+
     // A rebalance action for an institution
     private final Action<Institution, Account> institutionAction =
             new Action<>() {
@@ -104,6 +123,18 @@ public class PortfolioRebalancer extends Rebalancer {
                 }
             };
 
+    /*
+     * The time, in nanoseconds, after which reallocation iterations stop for
+     * the run, or null if the run has no deadline
+     */
+    private Long runDeadline;
+
+    /*
+     * The executor shared by the work of the run, or null if the run does no
+     * work concurrently
+     */
+    private ExecutorService runExecutor;
+
     /**
      * Breaks down a portfolio by proposed values.
      *
@@ -167,6 +198,91 @@ public class PortfolioRebalancer extends Rebalancer {
                 description.getRebalanceOrder();
     }
 
+    /**
+     * Waits for the task of a future to complete.
+     *
+     * @param future The future of the task
+     */
+    private static void join(@NotNull Future<?> future) {
+
+        try {
+
+            // Try to wait for the task to complete.
+            future.get();
+        }
+
+        /*
+         * Catch any execution exception that may occur. Rethrow its cause if
+         * it is a runtime exception, or wrap it in a runtime exception
+         * otherwise.
+         */
+        catch (@NotNull ExecutionException exception) {
+
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+
+        /*
+         * Catch any interrupted exception that may occur. Restore the
+         * interrupt, and throw a runtime exception.
+         */
+        catch (@NotNull InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Interrupted " +
+                    "while waiting for a rebalance: '%s'.", exception));
+        }
+    }
+
+    /**
+     * Partitions the accounts of a hierarchy by the portfolios that contain
+     * them.
+     *
+     * @param hierarchy A hierarchy that contains accounts
+     * @return Lists of accounts in rebalance order, keyed by the portfolios
+     * that contain them (null for accounts in no portfolio), and ordered by
+     * the first account of each portfolio to be rebalanced
+     */
+    private static @NotNull Map<Portfolio, List<Account>> partition(
+            @NotNull Hierarchy hierarchy) {
+
+        /*
+         * Create a map of account keys to the portfolios that contain the
+         * corresponding accounts. Cycle for each portfolio in the hierarchy,
+         * and each institution in the portfolio.
+         */
+        final Map<AccountKey, Portfolio> containers = new HashMap<>();
+        for (Portfolio portfolio : hierarchy.getPortfolios()) {
+            for (Institution institution : portfolio.getChildren()) {
+
+                /*
+                 * Map the key of each account in the institution to the
+                 * portfolio.
+                 */
+                for (Account account : institution.getChildren()) {
+                    containers.put(account.getKey(), portfolio);
+                }
+            }
+        }
+
+        /*
+         * Create the partition. Cycle for each account in the hierarchy, in
+         * rebalance order, and add the account to the list for the portfolio
+         * that contains it. Return the partition.
+         */
+        final Map<Portfolio, List<Account>> partition = new LinkedHashMap<>();
+        for (Account account : createAccountList(hierarchy.getAccounts())) {
+            partition.computeIfAbsent(containers.get(account.getKey()),
+                    portfolio -> new ArrayList<>()).add(account);
+        }
+
+        return partition;
+    }
+
     /**
      * Adds maps of the keys of the last account to be rebalanced in a
      * portfolio to the portfolios that contain the corresponding accounts.
@@ -198,6 +314,19 @@ public class PortfolioRebalancer extends Rebalancer {
         portfolioMap.clear();
     }
 
+    /**
+     * Ends a run by shutting down any executor shared by its work.
+     */
+    private void endRun() {
+
+        // Shut down any executor of the run, then forget it.
+        if (null != runExecutor) {
+            runExecutor.shutdown();
+        }
+
+        setRunExecutor(null);
+    }
+
     /**
      * Rebalances each institution in a portfolio
      *
@@ -266,11 +395,25 @@ public class PortfolioRebalancer extends Rebalancer {
     public boolean rebalanceByAccount(@NotNull Hierarchy hierarchy) {
 
         /*
-         * Add last accounts for each portfolio in the hierarchy. Perform the
-         * account rebalance action, receiving a result.
+         * Start the run. Add last accounts for each portfolio in the
+         * hierarchy. Rebalance the portfolios concurrently if the run has an
+         * executor. Otherwise, perform the account rebalance action. Either
+         * way, receive a result.
          */
-        addLastAccounts(hierarchy);
-        final boolean result = perform(hierarchy, accountAction);
+        startRun();
+        final boolean result;
+        try {
+
+            addLastAccounts(hierarchy);
+            result = (null == runExecutor) ?
+                    perform(hierarchy, accountAction) :
+                    rebalanceConcurrently(hierarchy);
+        }
+
+        // End the run whether the rebalance succeeded or not.
+        finally {
+            endRun();
+        }
 
         // Break down each portfolio in the hierarchy.
         for (Portfolio portfolio : hierarchy.getPortfolios()) {
@@ -292,6 +435,56 @@ public class PortfolioRebalancer extends Rebalancer {
         return rebalanceByAccount(Hierarchy.getInstance());
     }
 
+    /**
+     * Rebalances by account each portfolio in a hierarchy, rebalancing
+     * distinct portfolios concurrently. The accounts of each portfolio are
+     * rebalanced in rebalance order, with the last account of the portfolio
+     * rebalanced last.
+     *
+     * @param hierarchy The hierarchy to rebalance
+     * @return True if each portfolio was successfully rebalanced; false
+     * otherwise
+     */
+    private boolean rebalanceConcurrently(@NotNull Hierarchy hierarchy) {
+
+        /*
+         * Partition the accounts of the hierarchy by portfolio. Create a
+         * portfolio rebalance for the accounts of each portfolio.
+         */
+        final List<PortfolioRebalance> rebalances = new ArrayList<>();
+        for (List<Account> accounts : partition(hierarchy).values()) {
+            rebalances.add(new PortfolioRebalance(accounts));
+        }
+
+        /*
+         * Create a list for the futures of the tasks that will be submitted
+         * to the executor of the run. Cycle for each portfolio rebalance, and
+         * submit it in a task. The tasks share the executor with the
+         * consideration patterns they evaluate concurrently, so the threads
+         * of the run do not multiply.
+         */
+        final List<Future<?>> futures = new ArrayList<>();
+        for (PortfolioRebalance rebalance : rebalances) {
+            futures.add(runExecutor.submit(rebalance::rebalance));
+        }
+
+        // Cycle for each future, and wait for its task to complete.
+        for (Future<?> future : futures) {
+            join(future);
+        }
+
+        /*
+         * All the rebalances are complete. Cycle for each in partition order,
+         * report it, and accumulate its result. Return the result.
+         */
+        boolean result = true;
+        for (PortfolioRebalance rebalance : rebalances) {
+            result = rebalance.report() && result;
+        }
+
+        return result;
+    }
+
     /**
      * Rebalances by institution each portfolio in a hierarchy.
      *
@@ -302,11 +495,21 @@ public class PortfolioRebalancer extends Rebalancer {
     public boolean rebalanceByInstitution(@NotNull Hierarchy hierarchy) {
 
         /*
-         * Add last accounts for each portfolio in the hierarchy. Perform the
-         * hierarchy rebalance action.
+         * Start the run. Add last accounts for each portfolio in the
+         * hierarchy. Perform the hierarchy rebalance action, then end the
+         * run.
          */
-        addLastAccounts(hierarchy);
-        return perform(hierarchy, hierarchyAction);
+        startRun();
+        try {
+
+            addLastAccounts(hierarchy);
+            return perform(hierarchy, hierarchyAction);
+        }
+
+        // End the run whether the rebalance succeeded or not.
+        finally {
+            endRun();
+        }
     }
 
     /**
@@ -319,4 +522,119 @@ public class PortfolioRebalancer extends Rebalancer {
     public boolean rebalanceByInstitution() {
         return rebalanceByInstitution(Hierarchy.getInstance());
     }
+
+    /**
+     * Sets the deadline of reallocation iterations for the run.
+     *
+     * @param runDeadline The time, in nanoseconds, after which reallocation
+     *                    iterations stop for the run, or null if the run has
+     *                    no deadline
+     */
+    private void setRunDeadline(Long runDeadline) {
+
+        // Set the deadline here, and in each account rebalancer.
+        this.runDeadline = runDeadline;
+        lastRebalancer.setRunDeadline(runDeadline);
+        notLastRebalancer.setRunDeadline(runDeadline);
+    }
+
+    /**
+     * Sets the executor shared by the work of the run.
+     *
+     * @param runExecutor The executor shared by the work of the run, or null
+     *                    if the run does no work concurrently
+     */
+    private void setRunExecutor(ExecutorService runExecutor) {
+
+        // Set the executor here, and in each account rebalancer.
+        this.runExecutor = runExecutor;
+        lastRebalancer.setRunExecutor(runExecutor);
+        notLastRebalancer.setRunExecutor(runExecutor);
+    }
+
+    /**
+     * Starts a run by setting the deadline of its reallocation iterations
+     * from the preference for seconds per run, and by creating an executor
+     * to be shared by its work if work should be done concurrently.
+     */
+    private void startRun() {
+
+        /*
+         * Get the time budget of the run. Set no deadline if the budget is
+         * not set, or is not positive. Otherwise, set the deadline at the end
+         * of the budget.
+         */
+        final Integer budget =
+                PreferenceManager.getInstance().getGlobalQuota();
+        setRunDeadline(((null == budget) || (0 >= budget)) ? null :
+                System.nanoTime() + budget * 1000000000L);
+
+        // Create an executor for the run if work should be done concurrently.
+        setRunExecutor(ConcurrencyUtilities.isConcurrent() ?
+                ConcurrencyUtilities.createSharedExecutor() : null);
+    }
+
+    private class PortfolioRebalance {
+
+        // The accounts of the portfolio, in rebalance order
+        private final List<Account> accounts;
+
+        // The log records deferred while rebalancing the portfolio
+        private List<Pair<Logger, LogRecord>> records = new ArrayList<>();
+
+        // True if each account was successfully rebalanced, false otherwise
+        private boolean result;
+
+        /**
+         * Constructs the portfolio rebalance.
+         *
+         * @param accounts The accounts of the portfolio, in rebalance order
+         */
+        public PortfolioRebalance(@NotNull List<Account> accounts) {
+            this.accounts = accounts;
+        }
+
+        /**
+         * Rebalances the accounts of the portfolio, deferring log records.
+         */
+        public void rebalance() {
+
+            /*
+             * Create a portfolio rebalancer whose account rebalancers are
+             * confined to this rebalance. Give it the last accounts, and the
+             * deadline and executor of the run, of this rebalancer.
+             */
+            final PortfolioRebalancer rebalancer = new PortfolioRebalancer();
+            rebalancer.portfolioMap.putAll(portfolioMap);
+            rebalancer.setRunDeadline(runDeadline);
+            rebalancer.setRunExecutor(runExecutor);
+
+            /*
+             * Start deferring log records. Perform the list rebalance action
+             * on the accounts of the portfolio.
+             */
+            MessageLogger.startDeferring();
+            try {
+                result = perform(accounts, rebalancer.listAction);
+            }
+
+            // Stop deferring log records even if an exception occurred.
+            finally {
+                records = MessageLogger.stopDeferring();
+            }
+        }
+
+        /**
+         * Publishes the deferred log records of the rebalance.
+         *
+         * @return True if each account was successfully rebalanced, false
+         * otherwise
+         */
+        public boolean report() {
+
+            // Publish the deferred records, and return the result.
+            MessageLogger.publish(records);
+            return result;
+        }
+    }
 }
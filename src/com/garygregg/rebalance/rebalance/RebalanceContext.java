@@ -0,0 +1,295 @@
+package com.garygregg.rebalance.rebalance;
+
+import com.garygregg.rebalance.toolkit.AccountKey;
+import com.garygregg.rebalance.toolkit.Journal;
+import com.garygregg.rebalance.toolkit.MessageLogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.text.DecimalFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+class RebalanceContext {
+
+    // The logging level for ordinary informational messages
+    private static final Level ordinary = MessageLogger.getOrdinary();
+
+    // The format for reporting deviation values
+    private final DecimalFormat deviationFormat = new DecimalFormat("0.00");
+
+    // An action to calculate initial residual and deviation
+    private final InitialScoreAction initialScoreAction =
+            new InitialScoreAction();
+
+    // The journal of receiver states that may be rolled back
+    private final Journal journal = new Journal();
+
+    // Our local message logger
+    private final MessageLogger messageLogger = new MessageLogger();
+
+    /*
+     * True if the context is for speculative rebalances of copied nodes;
+     * false otherwise
+     */
+    private final boolean speculative;
+
+    // The key of the account that is being rebalanced
+    private AccountKey accountKey;
+
+    /*
+     * The time, in nanoseconds, at which the best reallocation of the account
+     * was last improved
+     */
+    private long bestTime;
+
+    /*
+     * The time, in nanoseconds, after which reallocation iterations stop, or
+     * null if there is no deadline
+     */
+    private Long deadline;
+
+    /*
+     * The executor shared by the run for evaluating consideration patterns
+     * concurrently, or null if patterns are to be evaluated one at a time
+     */
+    private ExecutorService executor;
+
+    // The count of improvements found since the deadline was set
+    private int improvements;
+
+    // The count of consideration patterns tried since the deadline was set
+    private long patterns;
+
+    // The time, in nanoseconds, at which the deadline was set
+    private long startTime;
+
+    /**
+     * Constructs the rebalance context.
+     */
+    public RebalanceContext() {
+        this(false);
+    }
+
+    /**
+     * Constructs a rebalance context for speculative rebalances of nodes
+     * copied from another context.
+     *
+     * @param context The context of the nodes that were copied
+     */
+    public RebalanceContext(@NotNull RebalanceContext context) {
+
+        /*
+         * Construct the context as speculative. Share the account key, the
+         * deadline and the executor of the other context without announcing
+         * them.
+         */
+        this(true);
+        this.accountKey = context.getAccountKey();
+        this.deadline = context.deadline;
+        this.executor = context.getExecutor();
+        this.startTime = this.bestTime = context.startTime;
+    }
+
+    /**
+     * Constructs the rebalance context.
+     *
+     * @param speculative True if the context is for speculative rebalances
+     *                    of copied nodes; false otherwise
+     */
+    private RebalanceContext(boolean speculative) {
+
+        // Set the speculative flag, and the logger inside the message logger.
+        this.speculative = speculative;
+        messageLogger.setLogger(Logger.getLogger(
+                RebalanceNode.class.getCanonicalName()));
+    }
+
+    /**
+     * Counts an improvement to the best reallocation, and notes its time.
+     */
+    public void countImprovement() {
+
+        // Increment the count of improvements, and note the time.
+        ++improvements;
+        bestTime = System.nanoTime();
+    }
+
+    /**
+     * Counts consideration patterns that were tried.
+     *
+     * @param count The count of consideration patterns that were tried
+     */
+    public void countPatterns(int count) {
+        patterns += count;
+    }
+
+    /**
+     * Gets the key of the account being rebalanced.
+     *
+     * @return The key of the account being rebalanced
+     */
+    public AccountKey getAccountKey() {
+        return accountKey;
+    }
+
+    /**
+     * Gets the format for reporting deviation values.
+     *
+     * @return The format for reporting deviation values
+     */
+    public @NotNull DecimalFormat getDeviationFormat() {
+        return deviationFormat;
+    }
+
+    /**
+     * Gets the executor shared by the run for evaluating consideration
+     * patterns concurrently.
+     *
+     * @return The executor shared by the run for evaluating consideration
+     * patterns concurrently, or null if patterns are to be evaluated one at
+     * a time
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the action to calculate initial residual and deviation.
+     *
+     * @return The action to calculate initial residual and deviation
+     */
+    public @NotNull InitialScoreAction getInitialScoreAction() {
+        return initialScoreAction;
+    }
+
+    /**
+     * Gets the journal of receiver states that may be rolled back.
+     *
+     * @return The journal of receiver states that may be rolled back
+     */
+    public @NotNull Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gets the count of improvements found since the deadline was set.
+     *
+     * @return The count of improvements found since the deadline was set
+     */
+    public int getImprovements() {
+        return improvements;
+    }
+
+    /**
+     * Gets the message logger for the context.
+     *
+     * @return The message logger for the context
+     */
+    public @NotNull MessageLogger getLogger() {
+        return messageLogger;
+    }
+
+    /**
+     * Gets the count of consideration patterns tried since the deadline was
+     * set.
+     *
+     * @return The count of consideration patterns tried since the deadline
+     * was set
+     */
+    public long getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Gets the time from when the deadline was set to the last improvement.
+     *
+     * @return The time from when the deadline was set to the last
+     * improvement, in milliseconds
+     */
+    public long getTimeToBest() {
+        return (bestTime - startTime) / 1000000L;
+    }
+
+    /**
+     * Returns whether there was a problem with a rebalance.
+     *
+     * @return True if there was a problem with a rebalance, false otherwise
+     */
+    public boolean hadProblem() {
+
+        /*
+         * Get the message logger and return whether the problem one or problem
+         * two flags are set.
+         */
+        final MessageLogger logger = getLogger();
+        return logger.hadProblem1() || logger.hadProblem2();
+    }
+
+    /**
+     * Returns whether the deadline has passed.
+     *
+     * @return True if there is a deadline, and it has passed; false otherwise
+     */
+    public boolean isExpired() {
+        return (null != deadline) && (0L < System.nanoTime() - deadline);
+    }
+
+    /**
+     * Returns whether the context is for speculative rebalances of copied
+     * nodes.
+     *
+     * @return True if the context is for speculative rebalances of copied
+     * nodes; false otherwise
+     */
+    public boolean isSpeculative() {
+        return speculative;
+    }
+
+    /**
+     * Sets the key of the account being rebalanced.
+     *
+     * @param accountKey The key of the account being rebalanced
+     */
+    public void setAccountKey(AccountKey accountKey) {
+
+        // Set the account key, and reset the message logger.
+        this.accountKey = accountKey;
+        getLogger().resetProblem();
+
+        // Log an informational message about the incoming account key.
+        getLogger().log(ordinary, String.format("Account key %s has been " +
+                "set for rebalance...", getAccountKey()));
+    }
+
+    /**
+     * Sets the deadline of reallocation iterations, and clears the counts of
+     * consideration patterns and improvements.
+     *
+     * @param deadline The time, in nanoseconds, after which reallocation
+     *                 iterations stop, or null if there is no deadline
+     */
+    public void setDeadline(Long deadline) {
+
+        /*
+         * Set the deadline, and note the time. Clear the counts of patterns
+         * and improvements.
+         */
+        this.deadline = deadline;
+        startTime = bestTime = System.nanoTime();
+        patterns = 0L;
+        improvements = 0;
+    }
+
+    /**
+     * Sets the executor shared by the run for evaluating consideration
+     * patterns concurrently.
+     *
+     * @param executor The executor shared by the run for evaluating
+     *                 consideration patterns concurrently, or null if
+     *                 patterns are to be evaluated one at a time
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+}
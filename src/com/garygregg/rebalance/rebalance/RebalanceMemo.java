@@ -0,0 +1,258 @@
+package com.garygregg.rebalance.rebalance;
+
+import com.garygregg.rebalance.countable.Currency;
+import com.garygregg.rebalance.toolkit.CurrencyReceiver;
+import com.garygregg.rebalance.toolkit.Journal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class RebalanceMemo {
+
+    // The maximum number of results remembered by a memo
+    private static final int capacity = 16;
+
+    // A map of requests to their results, in least recently used order
+    private final Map<Request, Result> map =
+            new LinkedHashMap<>(capacity, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Request, Result> eldest) {
+                    return capacity < size();
+                }
+            };
+
+    /**
+     * Gets the states of a list of receivers.
+     *
+     * @param receivers A list of receivers
+     * @return The states of the receivers, in the same order
+     */
+    private static double @NotNull [] getStates(
+            @NotNull CurrencyReceiver @NotNull [] receivers) {
+
+        // Get the state of each receiver, and return the states.
+        final double[] states = new double[receivers.length];
+        for (int i = 0; i < receivers.length; ++i) {
+            states[i] = receivers[i].getState();
+        }
+
+        return states;
+    }
+
+    /**
+     * Clears the memo.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Creates a request of a subtree.
+     *
+     * @param proposed   The proposed value requested of the subtree
+     * @param isRelative True if the proposed value is relative; false if it
+     *                   is absolute
+     * @param receivers  The receivers of the subtree, which determine its
+     *                   state
+     * @return A request of the subtree
+     */
+    public @NotNull Request createRequest(
+            @NotNull Currency proposed, boolean isRelative,
+            @NotNull List<? extends CurrencyReceiver> receivers) {
+        return new Request(proposed.getValue(), isRelative,
+                receivers.toArray(new CurrencyReceiver[0]));
+    }
+
+    /**
+     * Remembers the result of a request.
+     *
+     * @param request   The request
+     * @param receivers The receivers of the subtree after the request
+     * @param residual  The residual of the request
+     */
+    public void put(@NotNull Request request,
+                    @NotNull List<? extends CurrencyReceiver> receivers,
+                    @NotNull Currency residual) {
+
+        // Get the receivers as an array, and remember their states.
+        final CurrencyReceiver[] array =
+                receivers.toArray(new CurrencyReceiver[0]);
+        map.put(request, new Result(array, getStates(array), residual));
+    }
+
+    /**
+     * Replays the remembered result of a request, if any. Each receiver whose
+     * state changes is recorded in a journal so that the replay may be
+     * rolled back.
+     *
+     * @param request The request
+     * @param journal The journal in which to record each changed receiver
+     * @return The residual of the request, or null if no result is
+     * remembered for the request
+     */
+    public Currency replay(@NotNull Request request,
+                           @NotNull Journal journal) {
+
+        // Get any remembered result. Return null if there is none.
+        final Result result = map.get(request);
+        if (null == result) {
+            return null;
+        }
+
+        /*
+         * Cycle for each receiver in the result. Is the current state of the
+         * receiver not the remembered state?
+         */
+        final CurrencyReceiver[] receivers = result.getReceivers();
+        final double[] states = result.getStates();
+        CurrencyReceiver receiver;
+        for (int i = 0; i < receivers.length; ++i) {
+
+            receiver = receivers[i];
+            if (0 != Double.compare(receiver.getState(), states[i])) {
+
+                /*
+                 * The current state of the receiver is not the remembered
+                 * state. Record the receiver, and restore the remembered
+                 * state.
+                 */
+                journal.record(receiver);
+                receiver.restoreState(states[i]);
+            }
+        }
+
+        // Return the remembered residual.
+        return result.getResidual();
+    }
+
+    static class Request {
+
+        // True if the proposed value is relative; false if it is absolute
+        private final boolean isRelative;
+
+        // The proposed value requested of the subtree
+        private final double proposed;
+
+        // The receivers of the subtree
+        private final CurrencyReceiver[] receivers;
+
+        // The states of the receivers of the subtree
+        private final double[] states;
+
+        /**
+         * Constructs the request.
+         *
+         * @param proposed   The proposed value requested of the subtree
+         * @param isRelative True if the proposed value is relative; false if
+         *                   it is absolute
+         * @param receivers  The receivers of the subtree
+         */
+        private Request(double proposed, boolean isRelative,
+                        @NotNull CurrencyReceiver @NotNull [] receivers) {
+
+            // Set the member variables, and get the states of the receivers.
+            this.proposed = proposed;
+            this.isRelative = isRelative;
+            this.receivers = receivers;
+            this.states = getStates(receivers);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+
+            // Return true if the object is this request.
+            if (this == object) {
+                return true;
+            }
+
+            // Return false if the object is not a request.
+            else if (!(object instanceof Request)) {
+                return false;
+            }
+
+            /*
+             * The requests are equal if they propose the same value in the
+             * same way, and the subtree has the same receivers (by identity)
+             * in the same states.
+             */
+            final Request that = (Request) object;
+            boolean result = (isRelative == that.isRelative) &&
+                    (0 == Double.compare(proposed, that.proposed)) &&
+                    (receivers.length == that.receivers.length) &&
+                    Arrays.equals(states, that.states);
+            for (int i = 0; result && (i < receivers.length); ++i) {
+                result = (receivers[i] == that.receivers[i]);
+            }
+
+            // Return the result.
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Boolean.hashCode(isRelative) +
+                    Double.hashCode(proposed)) + Arrays.hashCode(states);
+        }
+    }
+
+    private static class Result {
+
+        // The receivers of the subtree after the request
+        private final CurrencyReceiver[] receivers;
+
+        // The residual of the request
+        private final Currency residual;
+
+        // The states of the receivers of the subtree after the request
+        private final double[] states;
+
+        /**
+         * Constructs the result.
+         *
+         * @param receivers The receivers of the subtree after the request
+         * @param states    The states of the receivers after the request
+         * @param residual  The residual of the request
+         */
+        public Result(@NotNull CurrencyReceiver @NotNull [] receivers,
+                      double @NotNull [] states,
+                      @NotNull Currency residual) {
+
+            // Set the member variables.
+            this.receivers = receivers;
+            this.states = states;
+            this.residual = residual;
+        }
+
+        /**
+         * Gets the receivers of the subtree after the request.
+         *
+         * @return The receivers of the subtree after the request
+         */
+        public @NotNull CurrencyReceiver @NotNull [] getReceivers() {
+            return receivers;
+        }
+
+        /**
+         * Gets the residual of the request.
+         *
+         * @return The residual of the request
+         */
+        public @NotNull Currency getResidual() {
+            return residual;
+        }
+
+        /**
+         * Gets the states of the receivers after the request.
+         *
+         * @return The states of the receivers after the request
+         */
+        public double @NotNull [] getStates() {
+            return states;
+        }
+    }
+}
@@ -6,76 +6,41 @@ import com.garygregg.rebalance.hierarchy.Ticker;
 import com.garygregg.rebalance.toolkit.*;
 import org.jetbrains.annotations.NotNull;
 
-import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 class RebalanceNode implements CurrencyReceiver {
 
-    // An action to notify delegates that a rebalance cannot occur.
-    private static final NodeAction<ReceiverDelegate<?>>
-            cannotRebalanceAction = ReceiverDelegate::onCannotSet;
-
-    // The format for reporting deviation values
-    private static final DecimalFormat deviationFormat =
-            new DecimalFormat("0.00");
-
     // The logging level for extraordinary informational messages
     private static final Level extraordinary = MessageLogger.getOrdinary();
 
-    // An action to calculate initial residual and deviation
-    private static final InitialScoreAction initialScoreAction =
-            new InitialScoreAction();
-
-    // Our snapshot key factory
-    private static final SnapshotKeyFactory keyFactory =
-            new SnapshotKeyFactory(new Random());
-
-    // An action to notify delegates to clear snapshots
-    private static final SnapshotAction clearSnapshotAction =
-
-            new SnapshotAction(keyFactory.produce()) {
-                @Override
-                public void doAction(@NotNull ReceiverDelegate<?> delegate) {
-                    delegate.clearSnapshot(getContained());
-                }
-            };
+    // The factor of currency (the number of cents in one unit)
+    private static final double factor = new MutableCurrency().getFactor();
 
     // The preference manager
     private static final PreferenceManager manager =
             PreferenceManager.getInstance();
 
-    // Our local message logger
-    private static final MessageLogger messageLogger = new MessageLogger();
-
     // The logging level for ordinary informational messages
     private static final Level ordinary = MessageLogger.getOrdinary();
 
-    // An action to notify delegates to recover their snapshots
-    private static final SnapshotAction recoverSnapshotAction =
-            new SnapshotAction(keyFactory.produce()) {
-
-                @Override
-                public void doAction(@NotNull ReceiverDelegate<?> delegate) {
-                    delegate.recoverSnapshot(getContained());
-                }
-            };
-
-    // An action to notify delegates to take snapshots
-    private static final SnapshotAction takeSnapshotAction =
-            new SnapshotAction(keyFactory.produce()) {
-                @Override
-                public void doAction(@NotNull ReceiverDelegate<?> delegate) {
-                    delegate.takeSnapshot(getContained());
-                }
-            };
-
     // The value of zero currency
     private static final Currency zero = Currency.getZero();
 
-    // The key of the account that is being rebalanced
-    private static AccountKey accountKey;
+    /*
+     * The number of consideration patterns evaluated concurrently per batch,
+     * or one if consideration patterns are evaluated one at a time
+     */
+    private final int batchSize;
+
+    /*
+     * A journal of the state of each receiver changed by the best
+     * reallocation since the first
+     */
+    private final Journal bestJournal = new Journal();
 
     // The children of the node
     private final SortedMap<WeightType, NodeDelegate> children =
@@ -84,6 +49,12 @@ class RebalanceNode implements CurrencyReceiver {
     // The child values
     private final Collection<NodeDelegate> childValues = children.values();
 
+    // The context of the rebalance
+    private final RebalanceContext context;
+
+    // A list of currency to receive reallocated values, reused by each pass
+    private final List<MutableCurrency> currencies = new ArrayList<>();
+
     // The consideration setter action
     private final ConsiderationSetterAction considerationSetterAction =
             new ConsiderationSetterAction();
@@ -95,6 +66,9 @@ class RebalanceNode implements CurrencyReceiver {
     // The level of this node
     private final int level;
 
+    // A memo of the results of requests to set a proposed value
+    private final RebalanceMemo memo = new RebalanceMemo();
+
     /*
      * True if it is okay for this node to iterate to find an optimal
      * reallocation; false otherwise
@@ -104,8 +78,14 @@ class RebalanceNode implements CurrencyReceiver {
     // An object to generate investment group subset patterns
     private final Patterns patterns = new Patterns(0);
 
-    // A map of snapshot keys to the value of the snapshot
-    private final Map<SnapshotKey, Currency> snapshotMap = new HashMap<>();
+    // An object to prune consideration patterns by bound
+    private final PatternPruner pruner = new PatternPruner();
+
+    /*
+     * True if consideration patterns are to be pruned by bound; false
+     * otherwise
+     */
+    private final boolean pruning;
 
     // The sum current action
     private final SumAction sumCurrentAction = new SumCurrentAction();
@@ -122,8 +102,7 @@ class RebalanceNode implements CurrencyReceiver {
     private final WeightType type;
 
     // The value setter action
-    private final ValueSetterAction valueSetterAction =
-            new ValueSetterAction();
+    private final ValueSetterAction valueSetterAction;
 
     // The weight of the node
     private final double weight;
@@ -132,34 +111,63 @@ class RebalanceNode implements CurrencyReceiver {
     private final WeightAccumulatorAction weightAccumulatorAction =
             new WeightAccumulatorAction();
 
+    /*
+     * The relevant receiver delegates, compiled into an array-backed list, or
+     * null if the children or tickers have changed since they were compiled
+     */
+    private List<ReceiverDelegate<?>> compiled;
+
+    /*
+     * True if the leaves of the node have been added, either as tickers of a
+     * new child, or not at all because they were already tickers; false
+     * otherwise
+     */
+    private boolean leavesAdded;
+
     // The value assigned to the node
     private Currency value;
 
     /**
      * Constructs a rebalance node.
      *
-     * @param type   The weight type assigned to the node
-     * @param level  The level of the node
-     * @param weight The weight of the node
+     * @param context The context of the rebalance
+     * @param type    The weight type assigned to the node
+     * @param level   The level of the node
+     * @param weight  The weight of the node
      */
-    public RebalanceNode(@NotNull WeightType type, int level, double weight) {
+    public RebalanceNode(@NotNull RebalanceContext context,
+                         @NotNull WeightType type, int level, double weight) {
+
+        /*
+         * Set the context of the rebalance. Create a value setter action that
+         * records in the journal of the context.
+         */
+        this.context = context;
+        this.valueSetterAction = new ValueSetterAction(context.getJournal());
 
         /*
          * Set the level of the node. Set the okay-to-iterate flag if the
          * incoming level is less than, or equal to the incoming level. Set the
-         * 'next()' limit of the patterns object.
+         * 'next()' limit of the patterns object. If reallocation iterations
+         * have a time budget, then every level iterates, and iterations are
+         * limited by the deadline instead.
          */
         this.level = level;
-        this.okayToIterate = (getLevel() <= getMaxLevel());
-        this.patterns.setNextLimit(getLimit());
+        final boolean budgeted = isBudgeted();
+        this.okayToIterate = budgeted || (getLevel() <= getMaxLevel());
+        this.patterns.setNextLimit(budgeted ? Integer.MAX_VALUE : getLimit());
+
+        /*
+         * Set the flag for pruning consideration patterns by bound. Set the
+         * batch size for evaluating consideration patterns. Nodes copied for
+         * speculative evaluation evaluate their own patterns one at a time.
+         */
+        this.pruning = isPruning();
+        this.batchSize = context.isSpeculative() ? 1 : getBatchSize();
 
         // Set the weight type and weight.
         this.type = type;
         this.weight = weight;
-
-        // Set the logger inside the message logger.
-        getLogger().setLogger(Logger.getLogger(
-                RebalanceNode.class.getCanonicalName()));
     }
 
     /**
@@ -179,44 +187,17 @@ class RebalanceNode implements CurrencyReceiver {
     }
 
     /**
-     * Gets the key of the account being rebalanced.
+     * Gets the number of consideration patterns evaluated concurrently per
+     * batch.
      *
-     * @return The key of the account being rebalanced
-     */
-    public static AccountKey getAccountKey() {
-        return accountKey;
-    }
-
-    /**
-     * Gets an initial currency list.
-     *
-     * @param size              The size of the desired list
-     * @param valueToDistribute The value to distribute
-     * @return An initial currency list
+     * @return The number of consideration patterns evaluated concurrently
+     * per batch; this will be at least one
      */
-    private static @NotNull List<MutableCurrency>
-    getInitialList(int size, @NotNull Currency valueToDistribute) {
-
-        // Create the list. Is the size greater than zero?
-        final List<MutableCurrency> list = new ArrayList<>();
-        if (0 < size) {
-
-            /*
-             * The size is greater than zero. Add the first element to the
-             * list using the absolute value of the value to distribute.
-             */
-            int i = 0;
-            list.add(i, new MutableCurrency(
-                    Math.abs(valueToDistribute.getValue())));
+    private static int getBatchSize() {
 
-            // Cycle for any remaining positions, and add zero currency.
-            for (++i; i < size; ++i) {
-                list.add(new MutableCurrency(zero));
-            }
-        }
-
-        // Return the list.
-        return list;
+        // Return one if the preference is not set, or is less than one.
+        final Integer fanout = manager.getFanout();
+        return ((null == fanout) || (1 > fanout)) ? 1 : fanout;
     }
 
     /**
@@ -241,15 +222,6 @@ class RebalanceNode implements CurrencyReceiver {
         return limit;
     }
 
-    /**
-     * Gets the message logger for the node.
-     *
-     * @return The message logger for the node
-     */
-    private static @NotNull MessageLogger getLogger() {
-        return messageLogger;
-    }
-
     /**
      * Gets the maximum level for reallocation iterations.
      *
@@ -272,21 +244,6 @@ class RebalanceNode implements CurrencyReceiver {
         return maxLevel;
     }
 
-    /**
-     * Returns whether there was a problem with a rebalance.
-     *
-     * @return True if there was a problem with a rebalance, false otherwise
-     */
-    public static boolean hadProblem() {
-
-        /*
-         * Get the message logger and return whether the problem one or problem
-         * two flags are set.
-         */
-        final MessageLogger logger = getLogger();
-        return logger.hadProblem1() || logger.hadProblem2();
-    }
-
     /**
      * Determines if any receiver delegate in an iterable object has positive
      * weight.
@@ -315,51 +272,79 @@ class RebalanceNode implements CurrencyReceiver {
     }
 
     /**
-     * Determines if no receiver delegate in an iterable object has a snapshot.
+     * Determines whether reallocation iterations have a time budget, either
+     * per account or per run.
      *
-     * @return True if no receiver delegate has a snapshot; false if any have
-     * one or more snapshots.
+     * @return True if reallocation iterations have a time budget, false
+     * otherwise
      */
-    private static <T extends ReceiverDelegate<?>>
-    boolean hasNoSnapshots(@NotNull Iterable<T> delegates) {
+    private static boolean isBudgeted() {
 
         /*
-         * Initialize the result. Get a receiver delegate iterator. Cycle while
-         * receiver delegates exist, and while no receiver has a snapshot.
+         * Iterations have a time budget if either preference is set, and
+         * positive.
          */
-        boolean result = true;
-        final Iterator<T> iterator = delegates.iterator();
-        while (iterator.hasNext() && result) {
-
-            // Reinitialize the result.
-            result = iterator.next().hasNoSnapshots();
-        }
-
-        // Return the result.
-        return result;
+        final Integer budget = manager.getQuota();
+        final Integer deadline = manager.getGlobalQuota();
+        return ((null != budget) && (0 < budget)) ||
+                ((null != deadline) && (0 < deadline));
     }
 
     /**
-     * Resets the message logger.
+     * Determines whether consideration patterns are to be pruned by bound.
+     *
+     * @return True if consideration patterns are to be pruned by bound, false
+     * otherwise
      */
-    private static void reset() {
-        getLogger().resetProblem();
+    private static boolean isPruning() {
+
+        // Patterns are pruned if the preference is set, and not zero.
+        final Integer prune = manager.getNarrow();
+        return (null != prune) && (0 != prune);
     }
 
     /**
-     * Sets the key of the account being rebalanced.
+     * Waits for the speculative evaluation of a consideration pattern to
+     * complete.
      *
-     * @param accountKey The key of the account being rebalanced
+     * @param future The future of the evaluation
+     * @return The score resulting from the evaluation
      */
-    public static void setAccountKey(AccountKey accountKey) {
+    private static @NotNull ReallocationScore join(
+            @NotNull Future<ReallocationScore> future) {
+
+        try {
 
-        // Set the account key, and reset the message logger.
-        RebalanceNode.accountKey = accountKey;
-        reset();
+            // Try to wait for the evaluation to complete.
+            return future.get();
+        }
+
+        /*
+         * Catch any execution exception that may occur. Rethrow its cause if
+         * it is a runtime exception, or wrap it in a runtime exception
+         * otherwise.
+         */
+        catch (@NotNull ExecutionException exception) {
+
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
 
-        // Log an informational message about the incoming account key.
-        getLogger().log(ordinary, String.format("Account key %s has been " +
-                "set for rebalance...", getAccountKey()));
+            throw new RuntimeException(cause);
+        }
+
+        /*
+         * Catch any interrupted exception that may occur. Restore the
+         * interrupt, and throw a runtime exception.
+         */
+        catch (@NotNull InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Interrupted " +
+                    "while waiting for a consideration pattern: '%s'.",
+                    exception));
+        }
     }
 
     /**
@@ -373,11 +358,13 @@ class RebalanceNode implements CurrencyReceiver {
 
         /*
          * Add a new node delegate for the child, receiving any delegate
-         * previously mapped to the weight type. Return null if the delegate
-         * is null. Otherwise, return the receiver of the delegate.
+         * previously mapped to the weight type. Discard any compiled
+         * delegates. Return null if the delegate is null. Otherwise, return
+         * the receiver of the delegate.
          */
         final NodeDelegate delegate = children.put(child.getType(),
                 new NodeDelegate(child));
+        compiled = null;
         return (null == delegate) ? null : delegate.getReceiver();
     }
 
@@ -399,17 +386,18 @@ class RebalanceNode implements CurrencyReceiver {
     private void addLeaves() {
 
         /*
-         * Get the leaf count. Are there leaves, and do the existing children
-         * have any weight?
+         * Get the leaf count. Have the leaves not already been added, are
+         * there leaves, and do the existing children have any weight?
          */
         final int leafCount = leaves.size();
-        if ((0 < leafCount) && hasAnyWeight(childValues)) {
+        if ((!leavesAdded) && (0 < leafCount) && hasAnyWeight(childValues)) {
 
             /*
-             * There are leaves, and existing children have weight. Create a
-             * weight list using all existing children.
+             * The leaves have not been added, there are leaves, and existing
+             * children have weight. Create weights using all existing
+             * children.
              */
-            final List<Double> weightList = createWeightList(childValues,
+            final double[] weights = createWeights(childValues,
                     Integer.MAX_VALUE);
 
             /*
@@ -423,10 +411,11 @@ class RebalanceNode implements CurrencyReceiver {
              * necessary to check that the number of existing children is zero
              * before using that number as a divisor.
              */
-            final RebalanceNode newChild = new RebalanceNode(getType(),
+            final RebalanceNode newChild = new RebalanceNode(context,
+                    getType(),
                     getLevel() + 1,
-                    new Reallocator(weightList).getWeightSum() * leafCount /
-                            weightList.size());
+                    weightAccumulatorAction.getSum() * leafCount /
+                            weights.length);
 
             // Add each leaf as a ticker of the new child node.
             for (Ticker leaf : leaves) {
@@ -438,13 +427,14 @@ class RebalanceNode implements CurrencyReceiver {
         }
 
         /*
-         * Clear the leaves. This will prevent the block, above, from being
-         * duplicated unless new leaves are added. For nodes that had existing
-         * children, the block above has added them as tickers of a new child.
-         * For nodes that had no existing children, all the leaves were already
-         * present in the 'tickers' collection. Nothing has been lost.
+         * Mark the leaves as added. This will prevent the block, above, from
+         * being duplicated. For nodes that had existing children, the block
+         * above has added them as tickers of a new child. For nodes that had
+         * no existing children, all the leaves were already present in the
+         * 'tickers' collection. The leaves are kept so that the node may be
+         * rebound to the tickers of another account.
          */
-        leaves.clear();
+        leavesAdded = true;
     }
 
     /**
@@ -455,6 +445,9 @@ class RebalanceNode implements CurrencyReceiver {
      */
     @SuppressWarnings("UnusedReturnValue")
     public boolean addTicker(@NotNull Ticker ticker) {
+
+        // Discard any compiled delegates, and add a delegate for the ticker.
+        compiled = null;
         return tickers.add(new TickerDelegate(ticker));
     }
 
@@ -465,32 +458,30 @@ class RebalanceNode implements CurrencyReceiver {
      */
     private @NotNull ReallocationScore calculateInitialScore() {
 
-        // Create a weight list using all possible receiver delegates.
-        final List<Double> weightList = createWeightList(getCollection(),
-                Integer.MAX_VALUE);
-
         /*
-         * Create a reallocator with the weight list. Is the sum of the weights
-         * greater than zero?
+         * Get the initial score action from the context. Create weights using
+         * all possible receiver delegates. Is the sum of the weights greater
+         * than zero?
          */
-        final Reallocator reallocator = new Reallocator(weightList);
-        if (0. < reallocator.getWeightSum()) {
+        final InitialScoreAction initialScoreAction =
+                context.getInitialScoreAction();
+        final double[] weights = createWeights(getCollection(),
+                Integer.MAX_VALUE);
+        if (0. < weightAccumulatorAction.getSum()) {
 
             /*
              * The sum of the weights is greater than zero. Get the current
-             * value of this node. Create a value list using the size of the
-             * weight list and the current value of this node.
+             * value of this node, and reallocate it using the weights.
              */
             final Currency current = getCurrent();
-            final List<MutableCurrency> valueList = getInitialList(
-                    weightList.size(), current);
+            final List<MutableCurrency> valueList =
+                    reallocate(weights, current);
 
             /*
-             * Reallocate the value list using the reallocator. Clear the maps
-             * in the initial score action. Initialize the residual of the
-             * initial score action to the current value of this node.
+             * Clear the maps in the initial score action. Initialize the
+             * residual of the initial score action to the current value of
+             * this node.
              */
-            reallocator.reallocate(valueList);
             initialScoreAction.clearMaps();
             initialScoreAction.setResidual(current);
 
@@ -511,26 +502,135 @@ class RebalanceNode implements CurrencyReceiver {
      */
     public void clear() {
 
-        // Clear all the children, the leaves, and the tickers.
+        /*
+         * Clear all the children, the leaves, and the tickers. Clear the memo,
+         * since its results are for the cleared receivers. Discard any
+         * compiled delegates, and mark the (no) leaves as not added.
+         */
         children.clear();
         leaves.clear();
         tickers.clear();
+        memo.clear();
+        compiled = null;
+        leavesAdded = false;
     }
 
-    @Override
-    public void clearSnapshot(@NotNull SnapshotKey key) {
+    /**
+     * Collects this node and the receivers in its subtree. The states of
+     * these receivers determine the result of setting a proposed value.
+     *
+     * @param receivers A list to receive this node and the receivers in its
+     *                  subtree
+     */
+    private void collectReceivers(@NotNull List<CurrencyReceiver> receivers) {
+
+        /*
+         * Add this node. Cycle for each child, and collect the receivers of
+         * its subtree. Add the ticker delegates of this node.
+         */
+        receivers.add(this);
+        for (NodeDelegate child : childValues) {
+            child.getReceiver().collectReceivers(receivers);
+        }
+
+        receivers.addAll(tickers);
+    }
+
+    /**
+     * Collects the target value of each ticker in the subtree of this node.
+     * The target of a ticker is its share of a value, reallocated by weight
+     * at each node on its path, before any share rounding.
+     *
+     * @param value   The value to reallocate to the subtree of this node
+     * @param targets A map to receive the target value of each ticker
+     */
+    public void collectTargets(double value,
+                               @NotNull Map<Ticker, Double> targets) {
+
+        /*
+         * Add any leaves of this node. Create weights using all the relevant
+         * receiver delegates. Nothing is reallocated if the delegates have no
+         * weight.
+         */
+        addLeaves();
+        final Collection<? extends ReceiverDelegate<?>> delegates =
+                getCollection();
+        final double[] weights = createWeights(delegates, Integer.MAX_VALUE);
+        final double sum = weightAccumulatorAction.getSum();
+        if (0. < sum) {
+
+            /*
+             * The delegates have weight. Cycle for each delegate, and get its
+             * share of the value.
+             */
+            int i = 0;
+            double share;
+            for (ReceiverDelegate<?> delegate : delegates) {
+
+                /*
+                 * Collect the targets of the subtree of a child, or add the
+                 * share of a ticker to its target.
+                 */
+                share = value * weights[i++] / sum;
+                if (delegate instanceof NodeDelegate) {
+                    ((NodeDelegate) delegate).getReceiver().collectTargets(
+                            share, targets);
+                }
+
+                else {
+                    targets.merge(((TickerDelegate) delegate).getReceiver(),
+                            share, Double::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the subtree of this node, including its state, for speculative
+     * rebalance. The copy shares nothing that a rebalance changes.
+     *
+     * @param context The context of the copy
+     * @param copies  A map of tickers to their copies; tickers shared by
+     *                nodes of the subtree are copied only once
+     * @return A copy of the subtree of this node
+     */
+    private @NotNull RebalanceNode copy(@NotNull RebalanceContext context,
+                                        @NotNull Map<Ticker, Ticker> copies) {
+
+        /*
+         * Create a new node with the same weight type, level and weight as
+         * this node. Give it the same value.
+         */
+        final RebalanceNode copy = new RebalanceNode(context, getType(),
+                getLevel(), getWeight());
+        copy.value = getValue();
+
+        // Cycle for each child, and add a copy of its subtree.
+        for (NodeDelegate child : childValues) {
+            copy.addChild(child.getReceiver().copy(context, copies));
+        }
 
         /*
-         * Set the given snapshot key before performing the action. Remove the
-         * key from the snapshot map.
+         * Add a copy of each leaf. The leaves of the copy have been added if
+         * those of this node have been.
          */
-        clearSnapshotAction.setKey(key);
-        doAction(getCollection(), clearSnapshotAction);
-        snapshotMap.remove(key);
+        for (Ticker leaf : leaves) {
+            copy.addLeaf(copies.computeIfAbsent(leaf, Ticker::copy));
+        }
+
+        copy.leavesAdded = leavesAdded;
+
+        // Add a copy of each ticker, and return the copy.
+        for (TickerDelegate ticker : tickers) {
+            copy.addTicker(copies.computeIfAbsent(ticker.getReceiver(),
+                    Ticker::copy));
+        }
+
+        return copy;
     }
 
     /**
-     * Creates a weight list.
+     * Creates weights.
      *
      * @param delegates            An iterable of receiver delegates from which
      *                             to gather weights
@@ -539,11 +639,12 @@ class RebalanceNode implements CurrencyReceiver {
      *                             least significant bit refers to the first
      *                             delegate enumerated in the given collection
      * @param <T>                  An arbitrary receiver delegate type
-     * @return A weight list gathered from the receiver delegates
+     * @return Weights gathered from the receiver delegates; their sum is
+     * available from the weight accumulator action
      */
-    private <T extends ReceiverDelegate<?>> @NotNull List<Double>
-    createWeightList(@NotNull Iterable<T> delegates,
-                     int considerationPattern) {
+    private <T extends ReceiverDelegate<?>> double @NotNull []
+    createWeights(@NotNull Iterable<T> delegates,
+                  int considerationPattern) {
 
         /*
          * Reset the consideration setter action, then set the consideration
@@ -562,17 +663,36 @@ class RebalanceNode implements CurrencyReceiver {
 
         /*
          * Perform the weight accumulator action on each receiver delegate.
-         * Get the resulting weight list from the weight accumulator action.
+         * Get the resulting weights from the weight accumulator action.
          */
         doAction(delegates, weightAccumulatorAction);
-        return weightAccumulatorAction.getList();
+        return weightAccumulatorAction.getWeights();
     }
 
     /**
      * Notifies all receiver delegates that a rebalance cannot occur.
      */
     private void declareCannotRebalance() {
-        doAction(getCollection(), cannotRebalanceAction);
+
+        /*
+         * Get the journal from the context. Cycle for each receiver delegate,
+         * record its state, and notify it that a rebalance cannot occur.
+         */
+        final Journal journal = context.getJournal();
+        for (ReceiverDelegate<?> delegate : getCollection()) {
+
+            journal.record(delegate);
+            delegate.onCannotSet();
+        }
+    }
+
+    /**
+     * Gets the key of the account being rebalanced.
+     *
+     * @return The key of the account being rebalanced
+     */
+    private AccountKey getAccountKey() {
+        return context.getAccountKey();
     }
 
     /**
@@ -600,7 +720,22 @@ class RebalanceNode implements CurrencyReceiver {
      */
     private @NotNull Collection<? extends ReceiverDelegate<?>>
     getCollection() {
-        return hasAnyWeight(childValues) ? childValues : tickers;
+
+        /*
+         * Compile the relevant receiver delegates if they are not already
+         * compiled. The relevant delegates are the children if any of them
+         * have weight, otherwise the tickers. The compiled delegates are
+         * iterated by array index, not by walking a tree.
+         */
+        if (null == compiled) {
+            final Collection<? extends ReceiverDelegate<?>> relevant =
+                    hasAnyWeight(childValues) ? childValues : tickers;
+            compiled = Arrays.asList(
+                    relevant.toArray(new ReceiverDelegate<?>[0]));
+        }
+
+        // Return the compiled delegates.
+        return compiled;
     }
 
     @Override
@@ -624,6 +759,15 @@ class RebalanceNode implements CurrencyReceiver {
         return level;
     }
 
+    /**
+     * Gets the message logger for the node.
+     *
+     * @return The message logger for the node
+     */
+    private @NotNull MessageLogger getLogger() {
+        return context.getLogger();
+    }
+
     /**
      * Gets the proposed value of the node, with an optional extra added in.
      *
@@ -632,10 +776,6 @@ class RebalanceNode implements CurrencyReceiver {
      */
     private @NotNull Currency getProposed(Currency extra) {
 
-        // Get the value of the extra (if given), as mutable currency.
-        final MutableCurrency currency = new MutableCurrency((null == extra) ?
-                zero : extra);
-
         /*
          * Reset the sum proposed action. Perform the action on the collection
          * of receiver delegates.
@@ -644,29 +784,22 @@ class RebalanceNode implements CurrencyReceiver {
         doAction(getCollection(), sumProposedAction);
 
         /*
-         * Add the sum contained in the action to the existing value. Return
-         * the result as immutable currency.
+         * Add the value of the extra (if given) to the sum contained in the
+         * action in whole cents. Return the result as currency.
          */
-        currency.add(sumProposedAction.getSum());
-        return currency.getImmutable();
+        return Currency.fromUnits(((null == extra) ? 0L : extra.getUnits()) +
+                sumProposedAction.getSumUnits());
     }
 
-    /**
-     * Gets a value given a snapshot key.
-     *
-     * @param key A snapshot key
-     * @return A value associated with the snapshot key, or zero if there is no
-     * current association for the key
-     */
-    private @NotNull Currency getSnapshot(@NotNull SnapshotKey key) {
+    @Override
+    public double getState() {
 
         /*
-         * Get any value associated with the key in the snapshot map. Return
-         * zero if there is no current association. Otherwise, return the
-         * associated value.
+         * The state of the node is its value, or not-a-number if the value is
+         * null.
          */
-        final Currency currency = snapshotMap.get(key);
-        return (null == currency) ? zero : currency;
+        final Currency value = getValue();
+        return (null == value) ? Double.NaN : value.getValue();
     }
 
     /**
@@ -696,35 +829,34 @@ class RebalanceNode implements CurrencyReceiver {
         return weight;
     }
 
-    @Override
-    public boolean hasNoSnapshots() {
+    /**
+     * Determines if the subtree of this node is degenerate. The subtree is
+     * degenerate if this node is singular, or if each of its relevant
+     * receiver delegates is a child that is singular. Each singular node in
+     * the subtree is rebalanced in closed form.
+     *
+     * @return True if the subtree of this node is degenerate; false otherwise
+     */
+    public boolean isDegenerate() {
+
+        // Return true if this node is singular.
+        if (isSingular()) {
+            return true;
+        }
 
         /*
-         * Declare and initialize the result according to whether the snapshot
-         * map is empty. Is the snapshot map empty?
+         * Cycle for each relevant receiver delegate. Return false if the
+         * delegate is not a child, or if it is a child that is not singular.
          */
-        boolean result = snapshotMap.isEmpty();
-        if (result) {
-
-            /*
-             * The snapshot map is empty. Check the child values for snapshots
-             * if one or more children have positive weight.
-             */
-            if (hasAnyWeight(childValues)) {
-                result = hasNoSnapshots(childValues);
-            }
-
-            /*
-             * No child has positive weight. Check the tickers for snapshots if
-             * any has weight.
-             */
-            else if (hasAnyWeight(tickers)) {
-                result = hasNoSnapshots(tickers);
+        for (ReceiverDelegate<?> delegate : getCollection()) {
+            if (!((delegate instanceof NodeDelegate) &&
+                    ((NodeDelegate) delegate).getReceiver().isSingular())) {
+                return false;
             }
         }
 
-        // Return the result.
-        return result;
+        // Each relevant receiver delegate is a child that is singular.
+        return true;
     }
 
     /**
@@ -738,6 +870,73 @@ class RebalanceNode implements CurrencyReceiver {
         return okayToIterate;
     }
 
+    /**
+     * Determines if this node is singular. A node is singular if it has
+     * exactly one relevant receiver delegate, and that delegate is either a
+     * ticker or a child that is itself singular.
+     *
+     * @return True if this node is singular; false otherwise
+     */
+    private boolean isSingular() {
+
+        /*
+         * Get the relevant receiver delegates. The node is not singular if
+         * there is not exactly one.
+         */
+        final Collection<? extends ReceiverDelegate<?>> delegates =
+                getCollection();
+        if (1 != delegates.size()) {
+            return false;
+        }
+
+        /*
+         * The node is singular if its one delegate is a ticker, or a child
+         * that is itself singular.
+         */
+        final ReceiverDelegate<?> delegate = delegates.iterator().next();
+        return (!(delegate instanceof NodeDelegate)) ||
+                ((NodeDelegate) delegate).getReceiver().isSingular();
+    }
+
+    /**
+     * Reallocates a value to distribute using weights. The value is
+     * reallocated as a whole number of cents into a list of currency that
+     * this node reuses for each reallocation.
+     *
+     * @param weights           The weights
+     * @param valueToDistribute The value to distribute; its absolute value is
+     *                          used
+     * @return A list of currency, one element for each weight; the list is
+     * only valid until the next reallocation by this node
+     */
+    private @NotNull List<MutableCurrency>
+    reallocate(double @NotNull [] weights,
+               @NotNull Currency valueToDistribute) {
+
+        /*
+         * Reallocate the absolute value of the value to distribute as a whole
+         * number of cents.
+         */
+        final long[] cents = Reallocator.reallocate(weights,
+                Math.abs(valueToDistribute.getUnits()), factor);
+
+        /*
+         * Add currency to the reused list until it has an element for each
+         * weight. Set each element with its reallocated cents.
+         */
+        final int size = cents.length;
+        while (currencies.size() < size) {
+            currencies.add(new MutableCurrency());
+        }
+
+        for (int i = 0; i < size; ++i) {
+            currencies.get(i).setUnits(cents[i]);
+        }
+
+        // Return a view of the list with one element for each weight.
+        return currencies.subList(0, size);
+    }
+
     /**
      * Rebalances a collection of receiver delegate(s).
      *
@@ -756,28 +955,23 @@ class RebalanceNode implements CurrencyReceiver {
             @NotNull Collection<T> delegates, @NotNull Currency proposed,
             int considerationPattern) {
 
-        // Create the weight list. Declare an uninitialized reallocation score.
-        final List<Double> weightList = createWeightList(delegates,
-                considerationPattern);
-        ReallocationScore score;
-
         /*
-         * Create a new allocator with the weight list. Can a reallocation be
-         * performed?
+         * Create the weights. Declare an uninitialized reallocation score. Can
+         * a reallocation be performed? It can if the sum of the weights is
+         * greater than zero.
          */
-        final Reallocator reallocator = new Reallocator(weightList);
-        if (reallocator.canReallocate()) {
+        final double[] weights = createWeights(delegates,
+                considerationPattern);
+        ReallocationScore score;
+        if (0. < weightAccumulatorAction.getSum()) {
 
             /*
-             * A reallocation can be performed. Create a value list using the
-             * size of the weight list and the best residual. Note:
-             * 'getInitialList(int, Currency)' is expected to use the absolute
-             * value of the proposed value when creating the list. Reallocate
-             * the value list using the reallocator.
+             * A reallocation can be performed. Reallocate the proposed value
+             * using the weights. Note: 'reallocate(double[], Currency)' is
+             * expected to use the absolute value of the proposed value.
              */
             final List<MutableCurrency> valueList =
-                    getInitialList(weightList.size(), proposed);
-            reallocator.reallocate(valueList);
+                    reallocate(weights, proposed);
 
             // Set the residual and the value list in the value setter action.
             valueSetterAction.setResidual(proposed);
@@ -842,15 +1036,18 @@ class RebalanceNode implements CurrencyReceiver {
         final MessageLogger logger = getLogger();
         final Currency beforeRebalance = getProposed(proposed);
 
-        // Create snapshot keys for the best snapshot and the first snapshot.
-        final SnapshotKey bestKey = keyFactory.produce();
-        final SnapshotKey firstKey = keyFactory.produce();
-
         /*
-         * Initialize the best score to the initial score. Try to rebalance
-         * this node.
+         * Get the journal from the context, and open it for recording.
+         * Initialize the best score to the initial score. Get any executor
+         * shared by the run for evaluating consideration patterns
+         * concurrently; patterns are evaluated in batches only if there is
+         * one. Try to rebalance this node.
          */
+        final Journal journal = context.getJournal();
+        journal.open();
         ReallocationScore bestScore = calculateInitialScore();
+        final ExecutorService executor = context.getExecutor();
+        final int size = (null == executor) ? 1 : batchSize;
         try {
 
             /*
@@ -875,78 +1072,187 @@ class RebalanceNode implements CurrencyReceiver {
             final Iterator<Integer> iterator = patterns;
             bestScore = rebalance(delegates, proposed, iterator.next());
             final Currency residual = bestScore.getResidual();
+            context.countPatterns(1);
+
+            /*
+             * Prepare the pruner if consideration patterns are to be pruned by
+             * bound. The first reallocation determines which delegates are
+             * most promising to exclude, and the fixed contribution to
+             * deviation of each delegate when it is not considered.
+             */
+            if (pruning) {
+                pruner.prepare(delegates, valueSetterAction);
+            }
 
             /*
-             * Initially, the best snapshot is the first snapshot. Initialize
-             * both best and first snapshots to the current reallocation.
+             * Initially, the best reallocation is the first reallocation. Mark
+             * the journal at the first reallocation, and clear the journal of
+             * the best reallocation; it need record no changes from the first.
              */
-            takeSnapshot(bestKey);
-            takeSnapshot(firstKey);
+            final int firstMark = journal.mark();
+            bestJournal.clear();
 
             /*
-             * Initialize a constant for the 'ideal' score, and a variable to
-             * receive the current score.
+             * Initialize a constant for the 'ideal' score, a list to receive
+             * each batch of consideration patterns, and a variable to receive
+             * the current score.
              */
             final ReallocationScore idealScore =
                     ReallocationScore.getIdealScore();
+            final List<Integer> batch = new ArrayList<>(size);
             ReallocationScore currentScore;
 
             /*
-             * Cycle while there continue to be consideration patterns, and
-             * while the ideal score is less than the best score. If *all* the
-             * delegates had no residual on first reallocation, then the best
-             * score will be ideal without any iterations of the following
-             * loop. Our reallocation problem will have been equivalent to a
-             * fractional knapsack problem. If we do enter the loop, however, I
-             * postulate that the following loop will never exit due to the
-             * best score becoming ideal. Why? Even if the residual component
-             * of the best score reaches zero, there will always be a non-zero
-             * deviation from an ideal reallocation. It cannot be helped. So
-             * keep trying to minimize the non-zero standard deviation after
-             * the residual reaches zero!
+             * Cycle while there continue to be consideration patterns, while
+             * the ideal score is less than the best score, and while any time
+             * budget has not expired. Whenever the loop exits, the best score
+             * is the best seen so far. If *all* the delegates had no residual
+             * on first reallocation, then the best score will be ideal
+             * without any iterations of the following loop. Our reallocation
+             * problem will have been equivalent to a fractional knapsack
+             * problem. If we do enter the loop, however, I postulate that the
+             * following loop will never exit due to the best score becoming
+             * ideal. Why? Even if the residual component of the best score
+             * reaches zero, there will always be a non-zero deviation from an
+             * ideal reallocation. It cannot be helped. So keep trying to
+             * minimize the non-zero standard deviation after the residual
+             * reaches zero!
              */
             while (iterator.hasNext() &&
-                    (0 > idealScore.compareTo(bestScore))) {
+                    (0 > idealScore.compareTo(bestScore)) &&
+                    (!context.isExpired())) {
 
                 /*
                  * Okay, we are inside the loop. This means two things: 1)
                  * there are two or more delegates, and; 2) and at least one of
-                 * the delegates had a residual. Our reallocation problem is now
-                 * a 0/1 knapsack problem. Reallocate again, using the next
-                 * consideration pattern and the residual from the first
-                 * reallocation attempt. Receive the current score. Is the
-                 * current score better than the best score?
+                 * the delegates had a residual. Our reallocation problem is
+                 * now a 0/1 knapsack problem. Clear the batch, then cycle
+                 * while the batch is not full and there are patterns.
                  */
-                currentScore = rebalance(delegates, residual, iterator.next());
-                if (0 > currentScore.compareTo(bestScore)) {
+                batch.clear();
+                while ((batch.size() < size) && iterator.hasNext()) {
 
                     /*
-                     * The current reallocation score is the best seen so far.
-                     * Reset the best snapshot, and set the best score to the
-                     * current score.
+                     * Get the next consideration pattern. Are consideration
+                     * patterns to be pruned by bound?
                      */
-                    takeSnapshot(bestKey);
-                    bestScore = currentScore;
+                    int pattern = iterator.next();
+                    if (pruning) {
+
+                        /*
+                         * Consideration patterns are to be pruned by bound.
+                         * Map the pattern so that the most promising
+                         * delegates are excluded first. Skip the pattern if it
+                         * cannot produce a score better than the best score.
+                         * Note: a skipped pattern still counts against the
+                         * iteration limit.
+                         */
+                        pattern = pruner.map(pattern);
+                        if (pruner.canPrune(pattern, bestScore)) {
+                            continue;
+                        }
+                    }
+
+                    // Add the pattern to the batch.
+                    batch.add(pattern);
+                }
+
+                /*
+                 * Evaluate a batch of more than one pattern concurrently on
+                 * copies of this node using the executor of the run.
+                 * Otherwise, reallocate again in this node using any single
+                 * pattern and the residual from the first reallocation
+                 * attempt.
+                 */
+                final boolean concurrent = (1 < batch.size());
+                final List<ReallocationScore> scores;
+                if (concurrent) {
+                    scores = speculate(executor, batch, residual);
+                }
+
+                else {
+                    scores = batch.isEmpty() ? Collections.emptyList() :
+                            Collections.singletonList(rebalance(delegates,
+                                    residual, batch.get(0)));
+                }
+
+                /*
+                 * Count the patterns that were tried. Cycle for each score,
+                 * in the order of the batch. Is the current score better than
+                 * the best score? Ties go to the pattern earliest in the
+                 * batch.
+                 */
+                context.countPatterns(scores.size());
+                int best = -1;
+                for (int i = 0; i < scores.size(); ++i) {
+
+                    currentScore = scores.get(i);
+                    if (0 > currentScore.compareTo(bestScore)) {
+
+                        /*
+                         * The current reallocation score is the best seen so
+                         * far. Note its position, and set the best score to
+                         * the current score.
+                         */
+                        best = i;
+                        bestScore = currentScore;
+
+                        /*
+                         * Disable fast-forward in the patterns object if the
+                         * residual in the best score has reached zero. If this
+                         * setting is disabled, the patterns object will return
+                         * no more patterns if the iteration limit has been
+                         * reached.
+                         */
+                        patterns.setFastForwardEnabled(
+                                bestScore.getResidual().equals(zero));
+                    }
+                }
+
+                // Was a better reallocation found in the batch?
+                if (0 <= best) {
 
                     /*
-                     * Disable fast-forward in the patterns object if the
-                     * residual in the best score has reached zero. If this
-                     * setting is disabled, the patterns object will return no
-                     * more patterns if the iteration limit has been reached.
+                     * A better reallocation was found in the batch. Count the
+                     * improvement. If it was found on a copy, reallocate again
+                     * in this node using its pattern. Copy the current state
+                     * of each receiver changed since the first reallocation to
+                     * the journal of the best reallocation.
                      */
-                    patterns.setFastForwardEnabled(
-                            bestScore.getResidual().equals(zero));
+                    context.countImprovement();
+                    if (concurrent) {
+                        bestScore = rebalance(delegates, residual,
+                                batch.get(best));
+                    }
+
+                    bestJournal.copyCurrent(journal, firstMark);
                 }
 
                 /*
-                 * Recover the first snapshot in case we require any further
-                 * reallocation attempts.
+                 * Roll back the journal to the first reallocation in case we
+                 * require any further reallocation attempts.
                  */
-                recoverSnapshot(firstKey);
+                journal.rollBack(firstMark);
+            }
+
+            /*
+             * Log a message identifying the count of consideration patterns
+             * that were pruned, if consideration patterns are being pruned.
+             */
+            if (pruning) {
+                logger.log(ordinary, String.format("For account key %s and " +
+                                "weight type %s: I have pruned %d " +
+                                "consideration pattern(s) by bound.",
+                        getAccountKey(), getType(), pruner.getPruned()));
             }
 
-            // Done. Recover the best snapshot.
-            recoverSnapshot(bestKey);
+            /*
+             * Done. Roll back the journal to the first reallocation, then
+             * replay the best reallocation. The replay is recorded in the
+             * journal so that any enclosing rebalance may roll it back.
+             */
+            journal.rollBack(firstMark);
+            bestJournal.replay(journal);
         }
 
         // Catch any illegal argument exception.
@@ -966,9 +1272,12 @@ class RebalanceNode implements CurrencyReceiver {
         // Do this unconditionally.
         finally {
 
-            // Clear snapshots, if any.
-            clearSnapshot(firstKey);
-            clearSnapshot(bestKey);
+            /*
+             * Close the journal for recording, and clear the journal of the
+             * best reallocation.
+             */
+            journal.close();
+            bestJournal.clear();
 
             /*
              * Log a message identifying the best reallocation score
@@ -979,7 +1288,8 @@ class RebalanceNode implements CurrencyReceiver {
                             "residual of %s (deviation of %s) when trying " +
                             "to set %s proposed value %s.",
                     getAccountKey(), getType(), bestScore.getResidual(),
-                    deviationFormat.format(bestScore.getDeviation()),
+                    context.getDeviationFormat().format(
+                            bestScore.getDeviation()),
                     isRelative ? "relative" : "absolute", proposed));
         }
 
@@ -1053,6 +1363,7 @@ class RebalanceNode implements CurrencyReceiver {
         final ReallocationScore score = rebalance(delegates, proposed,
                 patterns.next());
         final Currency residual = score.getResidual();
+        context.countPatterns(1);
 
         // Log a message identifying the reallocation score characteristics.
         logger.log(extraordinary, String.format("For account key %s and " +
@@ -1060,7 +1371,7 @@ class RebalanceNode implements CurrencyReceiver {
                         "%s (deviation of %s) when trying to set %s " +
                         "proposed value %s.",
                 getAccountKey(), getType(), residual,
-                deviationFormat.format(score.getDeviation()),
+                context.getDeviationFormat().format(score.getDeviation()),
                 isRelative ? "relative" : "absolute", proposed));
 
         /*
@@ -1087,16 +1398,63 @@ class RebalanceNode implements CurrencyReceiver {
         return residual;
     }
 
-    @Override
-    public void recoverSnapshot(@NotNull SnapshotKey key) {
+    /**
+     * Rebinds the subtree of this node to the tickers of another account so
+     * that the subtree may be reused for a rebalance of that account. The
+     * tickers of the other account must have the same keys as those of the
+     * subtree.
+     *
+     * @param bindings The tickers of the other account, by key
+     */
+    public void rebind(@NotNull Map<String, Ticker> bindings) {
+
+        /*
+         * Remove any child that was added for the leaves of this node. It
+         * will be added again, if needed, for the tickers of the other
+         * account.
+         */
+        if (leavesAdded && (!leaves.isEmpty())) {
+            children.remove(getType());
+        }
+
+        // Cycle for each remaining child, and rebind its subtree.
+        for (NodeDelegate child : childValues) {
+            child.getReceiver().rebind(bindings);
+        }
+
+        /*
+         * Get the existing tickers, and clear them. Add the ticker of the
+         * other account with the key of each existing ticker.
+         */
+        final List<TickerDelegate> existingTickers = new ArrayList<>(tickers);
+        tickers.clear();
+        for (TickerDelegate ticker : existingTickers) {
+            addTicker(bindings.get(ticker.getReceiver().getKey()));
+        }
 
         /*
-         * Set the given snapshot key before performing the action. Restore
-         * the value from the snapshot map.
+         * Get the existing leaves, and clear them. Add the ticker of the
+         * other account with the key of each existing leaf.
          */
-        recoverSnapshotAction.setKey(key);
-        doAction(getCollection(), recoverSnapshotAction);
-        setValue(getSnapshot(key));
+        final List<Ticker> existingLeaves = new ArrayList<>(leaves);
+        leaves.clear();
+        for (Ticker leaf : existingLeaves) {
+            addLeaf(bindings.get(leaf.getKey()));
+        }
+
+        /*
+         * Clear the value and the memo of this node. Discard any compiled
+         * delegates, and mark the leaves as not added.
+         */
+        value = null;
+        memo.clear();
+        compiled = null;
+        leavesAdded = false;
+    }
+
+    @Override
+    public void restoreState(double state) {
+        setValue(Double.isNaN(state) ? zero : new Currency(state));
     }
 
     @Override
@@ -1120,10 +1478,54 @@ class RebalanceNode implements CurrencyReceiver {
                 getCollection();
         if (hasAnyWeight(delegates)) {
 
-            // The delegates have weight. Rebalance them.
+            /*
+             * The delegates have weight. Is there exactly one delegate? Then
+             * there is nothing to search: the delegate receives the whole of
+             * the proposed value. Solve the node in closed form.
+             */
+            if (1 == delegates.size()) {
+                return solve(delegates.iterator().next(), currency,
+                        isRelative);
+            }
+
+            /*
+             * There is more than one delegate. Collect the receivers of the
+             * subtree of this node, and create a request with them. Replay
+             * the result of any identical request from the memo. Was there a
+             * result?
+             */
+            final List<CurrencyReceiver> receivers = new ArrayList<>();
+            collectReceivers(receivers);
+            final RebalanceMemo.Request request =
+                    memo.createRequest(currency, isRelative, receivers);
+            final Currency replayed = memo.replay(request,
+                    context.getJournal());
+            if (null != replayed) {
+
+                /*
+                 * There was a result for the request. Log a message, and
+                 * return the replayed residual.
+                 */
+                getLogger().log(ordinary, String.format("For account key " +
+                                "%s and weight type %s: I have replayed a " +
+                                "residual of %s when trying to set %s " +
+                                "proposed value %s.", getAccountKey(),
+                        getType(), replayed,
+                        isRelative ? "relative" : "absolute", currency));
+                return replayed;
+            }
+
+            /*
+             * There was no result for the request. Rebalance the delegates,
+             * then collect the receivers again; rebalancing may have added
+             * leaves as new children in the subtree. Remember the result.
+             */
             residual = isOkayToIterate() ?
                     rebalance(delegates, currency, isRelative) :
                     rebalanceOnce(delegates, currency, isRelative);
+            receivers.clear();
+            collectReceivers(receivers);
+            memo.put(request, receivers, residual);
         }
 
         // Return the residual.
@@ -1139,15 +1541,161 @@ class RebalanceNode implements CurrencyReceiver {
         this.value = value;
     }
 
-    @Override
-    public void takeSnapshot(@NotNull SnapshotKey key) {
+    /**
+     * Solves this node in closed form when it has exactly one relevant
+     * receiver delegate. The delegate receives the whole of the proposed
+     * value, so no consideration patterns need be searched.
+     *
+     * @param delegate   The one relevant receiver delegate
+     * @param proposed   A value with which to adjust the proposed value of
+     *                   this node
+     * @param isRelative True if the incoming value is relative to the value
+     *                   already set in the node; false if it is absolute
+     * @return The difference between proposed value and the value that this
+     * node set (the "residual")
+     */
+    private @NotNull Currency solve(@NotNull ReceiverDelegate<?> delegate,
+                                    @NotNull Currency proposed,
+                                    boolean isRelative) {
+
+        /*
+         * Get the message logger. Determine the proposed holdings prior to
+         * any rebalance. Initialize the residual to the proposed value, in
+         * case the delegate cannot be set.
+         */
+        final MessageLogger logger = getLogger();
+        final Currency beforeRebalance = getProposed(proposed);
+        Currency residual = proposed;
+        try {
+
+            /*
+             * Record the state of the delegate so that any enclosing
+             * rebalance may roll it back. Consider the delegate, and set the
+             * whole of the proposed value in it, receiving a residual.
+             */
+            context.getJournal().record(delegate);
+            delegate.setConsidered(true);
+            residual = delegate.setProposed(proposed, isRelative);
+        }
+
+        // Catch any illegal argument exception.
+        catch (@NotNull IllegalArgumentException exception) {
+
+            // Log a warning saying a rebalance cannot be accomplished.
+            logger.log(Level.WARNING, String.format("A rebalance cannot be " +
+                            "accomplished for account key %s and weight " +
+                            "type %s because of an exception containing the " +
+                            "following message: '%s'.",
+                    getAccountKey(), getType(), exception.getMessage()));
+
+            // Declare that we cannot perform a rebalance.
+            declareCannotRebalance();
+        }
+
+        // Log a message identifying the residual of the closed form.
+        logger.log(ordinary, String.format("For account key %s and weight " +
+                        "type %s: I have solved in closed form a residual " +
+                        "of %s when trying to set %s proposed value %s.",
+                getAccountKey(), getType(), residual,
+                isRelative ? "relative" : "absolute", proposed));
+
+        /*
+         * Get the proposed value of this node with the residual added in. As
+         * a post-condition, the resulting sum should be equal to that taken
+         * prior to any rebalance. Does the post-condition not hold?
+         */
+        final Currency afterRebalance = getProposed(residual);
+        if (!afterRebalance.isEqual(beforeRebalance)) {
+
+            /*
+             * The resulting sum after rebalance is not equal to the sum before
+             * rebalance. Log a message.
+             */
+            logger.streamAndLog(Level.WARNING, String.format("For account " +
+                            "key %s and weight type %s: The after-rebalance " +
+                            "sum of %s does not equal the before-rebalance " +
+                            "sum of %s.", getAccountKey(), getType(),
+                    afterRebalance, beforeRebalance));
+        }
+
+        // Set the current value of this node and return the residual.
+        setValue(sumProposedAction.getSum());
+        return residual;
+    }
+
+    /**
+     * Evaluates a batch of consideration patterns concurrently. Each pattern
+     * is evaluated on its own copy of the subtree of this node, so the state
+     * of this node and its subtree is unchanged.
+     *
+     * @param executor The executor with which to evaluate the patterns
+     * @param batch    The batch of consideration patterns
+     * @param residual The residual from the first reallocation attempt
+     * @return The score resulting from each pattern, in batch order
+     */
+    private @NotNull List<ReallocationScore> speculate(
+            @NotNull ExecutorService executor, @NotNull List<Integer> batch,
+            @NotNull Currency residual) {
+
+        /*
+         * Declare a variable to receive copies. Create a list to receive the
+         * futures of the evaluations. Cycle for each pattern in the batch.
+         */
+        RebalanceNode copy;
+        final List<Future<ReallocationScore>> futures = new ArrayList<>();
+        for (int pattern : batch) {
+
+            /*
+             * Copy the subtree of this node in a speculative context. Copy it
+             * here, and not in the evaluation, so that this node is never
+             * read by more than one thread. Give the value setter action of
+             * the copy the same state as that of this node after the first
+             * reallocation.
+             */
+            copy = copy(new RebalanceContext(context),
+                    new IdentityHashMap<>());
+            copy.valueSetterAction.copyMaps(valueSetterAction);
+            copy.valueSetterAction.setRelative(true);
+
+            // Submit the evaluation of the pattern using the copy.
+            final RebalanceNode evaluator = copy;
+            futures.add(executor.submit(() ->
+                    evaluator.speculate(pattern, residual)));
+        }
 
         /*
-         * Set the given snapshot key before performing the action. Put the
-         * current value in the snapshot map.
+         * Create a list to receive the scores. Cycle for each future, and add
+         * the score of its evaluation. Return the scores.
          */
-        takeSnapshotAction.setKey(key);
-        doAction(getCollection(), takeSnapshotAction);
-        snapshotMap.put(key, getValue());
+        final List<ReallocationScore> scores = new ArrayList<>();
+        for (Future<ReallocationScore> future : futures) {
+            scores.add(join(future));
+        }
+
+        return scores;
+    }
+
+    /**
+     * Evaluates a consideration pattern speculatively in this node, which is
+     * expected to be a copy. Messages logged during the evaluation are
+     * discarded; they describe a copy, not the account being rebalanced.
+     *
+     * @param pattern  The consideration pattern
+     * @param residual The residual from the first reallocation attempt
+     * @return The score resulting from the pattern
+     */
+    private @NotNull ReallocationScore speculate(int pattern,
+                                                 @NotNull Currency residual) {
+
+        // Defer messages, and evaluate the pattern.
+        MessageLogger.startDeferring();
+        try {
+            return rebalance(getCollection(), residual, pattern);
+        }
+
+        // Discard the deferred messages whether the evaluation succeeded.
+        finally {
+            MessageLogger.stopDeferring();
+        }
     }
 }
@@ -2,7 +2,6 @@ package com.garygregg.rebalance.rebalance;
 
 import com.garygregg.rebalance.countable.Currency;
 import com.garygregg.rebalance.toolkit.CurrencyReceiver;
-import com.garygregg.rebalance.toolkit.SnapshotKey;
 import org.jetbrains.annotations.NotNull;
 
 abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
@@ -44,11 +43,6 @@ abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
         setLastResidual(zero);
     }
 
-    @Override
-    public void clearSnapshot(@NotNull SnapshotKey key) {
-        getReceiver().clearSnapshot(key);
-    }
-
     @Override
     public @NotNull Currency getCurrent() {
         return getReceiver().getCurrent();
@@ -79,6 +73,11 @@ abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
         return receiver;
     }
 
+    @Override
+    public double getState() {
+        return getReceiver().getState();
+    }
+
     /**
      * Gets the weight of the delegate.
      *
@@ -88,11 +87,6 @@ abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
         return weight;
     }
 
-    @Override
-    public boolean hasNoSnapshots() {
-        return receiver.hasNoSnapshots();
-    }
-
     /**
      * Determines if this delegate is to be considered to receive additional
      * value.
@@ -114,8 +108,8 @@ abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
     }
 
     @Override
-    public void recoverSnapshot(@NotNull SnapshotKey key) {
-        getReceiver().recoverSnapshot(key);
+    public void restoreState(double state) {
+        getReceiver().restoreState(state);
     }
 
     /**
@@ -153,9 +147,4 @@ abstract class ReceiverDelegate<T extends CurrencyReceiver> implements
         return setLastResidual(getReceiver().setProposed(
                 currency, isRelative));
     }
-
-    @Override
-    public void takeSnapshot(@NotNull SnapshotKey key) {
-        getReceiver().takeSnapshot(key);
-    }
 }
@@ -83,6 +83,39 @@ abstract class ResidualProducerAction
         return Math.sqrt(accumulation / actualValues.size());
     }
 
+    /**
+     * Calculates the square of the difference between the actual value and
+     * the mean associated with an index, as it would contribute to the
+     * deviation if the index received no adjustment.
+     *
+     * @param index An index
+     * @return The square of the difference between the actual value and the
+     * mean associated with the index, or zero if no actual value is
+     * associated with the index
+     */
+    public double calculateFixedSquare(int index) {
+
+        /*
+         * Get the actual value associated with the index. Return zero if
+         * there is none; the index does not contribute to the deviation.
+         * Note: do not use the getters for actual values and means here,
+         * since they put defaults in the maps.
+         */
+        final Currency actual = actualValues.get(index);
+        if (null == actual) {
+            return 0.;
+        }
+
+        /*
+         * Subtract the mean associated with the index from the actual value
+         * in the same way as the deviation calculation. Return the square of
+         * the result.
+         */
+        final MutableCurrency currency = new MutableCurrency(actual);
+        currency.subtract(means.getOrDefault(index, zero));
+        return Math.pow(currency.getValue(), 2.);
+    }
+
     /**
      * Clears the actual values map.
      */
@@ -107,6 +140,31 @@ abstract class ResidualProducerAction
         means.clear();
     }
 
+    /**
+     * Copies the actual values, adjustments and means of another action into
+     * this action.
+     *
+     * @param action The action whose maps are to be copied
+     */
+    public void copyMaps(@NotNull ResidualProducerAction action) {
+
+        /*
+         * Clear the maps of this action. Copy the actual values and means,
+         * which are immutable.
+         */
+        clearMaps();
+        adjustments.clear();
+        actualValues.putAll(action.actualValues);
+        means.putAll(action.means);
+
+        // Copy each adjustment, which is mutable.
+        for (Map.Entry<Integer, MutableCurrency> entry :
+                action.adjustments.entrySet()) {
+            adjustments.put(entry.getKey(),
+                    new MutableCurrency(entry.getValue()));
+        }
+    }
+
     @Override
     public void doAction(@NotNull ReceiverDelegate<?> delegate) {
 
@@ -220,6 +278,15 @@ abstract class ResidualProducerAction
         return actualValues.get(index);
     }
 
+    /**
+     * Gets the count of actual values that contribute to the deviation.
+     *
+     * @return The count of actual values that contribute to the deviation
+     */
+    public int getActualCount() {
+        return actualValues.size();
+    }
+
     /**
      * Gets the adjustment associated with an index.
      *
@@ -0,0 +1,494 @@
+package com.garygregg.rebalance.rebalance;
+
+import com.garygregg.rebalance.countable.Currency;
+import com.garygregg.rebalance.countable.MutableCurrency;
+import com.garygregg.rebalance.countable.Price;
+import com.garygregg.rebalance.countable.Shares;
+import com.garygregg.rebalance.hierarchy.Ticker;
+import com.garygregg.rebalance.ticker.TickerDescription;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+class ShareSolver {
+
+    // The number of search nodes visited between checks of the time budget
+    private static final int checkInterval = 1024;
+
+    // The factor for converting currency to whole cents
+    private static final double factor = new MutableCurrency().getFactor();
+
+    /*
+     * The number of rounding units either side of the adjusted target of a
+     * ticker that are candidates for its allocation
+     */
+    private static final int spread = 2;
+
+    // The best unit counts found by the search
+    private long[] bestCounts;
+
+    // The weighted deviation of the best allocation found by the search
+    private double bestDeviation;
+
+    // The residual of the best allocation found by the search, in cents
+    private long bestResidual;
+
+    // The candidate unit counts of each ticker, by depth of the search
+    private long[][] candidates;
+
+    // The unit counts of the current allocation
+    private long[] counts;
+
+    // The time after which the search stops, in nanoseconds
+    private long deadline;
+
+    // The deviation of the best allocation, in currency
+    private double deviation;
+
+    // True if the search stopped because the time budget expired
+    private boolean expired;
+
+    // The minimum number of rounding units of each ticker, if not zero
+    private long[] minimumUnits;
+
+    // The number of search nodes visited
+    private long nodes;
+
+    /*
+     * The least weighted deviation that the tickers from each index on can
+     * contribute
+     */
+    private double[] restDeviation;
+
+    // The sum of the targets of the tickers from each index on, in cents
+    private double[] restTargets;
+
+    // The rounding unit of each ticker, in shares
+    private double[] roundings;
+
+    // The target value of each ticker, in cents
+    private double[] targets;
+
+    // The tickers to be allocated, coarsest rounding unit first
+    private Ticker[] tickers;
+
+    // The value of one rounding unit of each ticker, in cents
+    private double[] unitCents;
+
+    /**
+     * Gets the weighted deviation of a value from a target. The square of
+     * the difference is divided by the target, so that a shortfall in one
+     * ticker is best made up by the others in proportion to their targets.
+     *
+     * @param value  A value, in cents
+     * @param target A target, in cents
+     * @return The weighted deviation of the value from the target
+     */
+    private static double getDeviation(double value, double target) {
+        return Math.pow(value - target, 2.) / Math.max(1., target);
+    }
+
+    /**
+     * Creates the candidate unit counts of a ticker, closest to a center
+     * first. A candidate that falls short of the minimum is replaced by
+     * zero and the minimum, either of which a ticker would choose instead.
+     *
+     * @param center       The center number of units, possibly fractional
+     * @param spread       The number of units either side of the center to
+     *                     include; if negative, only the nearest whole
+     *                     number of units is included
+     * @param minimumUnits The minimum number of rounding units of the ticker,
+     *                     if not zero
+     * @param result       An array to receive the candidates; it must have
+     *                     room for twice the spread, plus four
+     * @return The number of candidates
+     */
+    private static int createCandidates(double center, int spread,
+                                        long minimumUnits,
+                                        long @NotNull [] result) {
+
+        /*
+         * Determine the range of unit counts, which is never below zero.
+         * Cycle for each unit count in the range.
+         */
+        final long low = Math.max(0L, (0 > spread) ? Math.round(center) :
+                (long) Math.floor(center) - spread);
+        final long high = Math.max(0L, (0 > spread) ? Math.round(center) :
+                (long) Math.ceil(center) + spread);
+        int size = 0;
+        for (long count = low; count <= high; ++count) {
+
+            /*
+             * Add the count if it is zero, or does not fall short of the
+             * minimum. Otherwise, add both zero and the minimum.
+             */
+            if ((0L == count) || (minimumUnits <= count)) {
+                size = insert(result, size, count, center);
+            }
+
+            else {
+
+                size = insert(result, size, 0L, center);
+                size = insert(result, size, minimumUnits, center);
+            }
+        }
+
+        // Return the number of candidates.
+        return size;
+    }
+
+    /**
+     * Inserts a unit count into candidates sorted by distance from a center,
+     * unless the candidates already contain it.
+     *
+     * @param candidates The candidates
+     * @param size       The number of candidates
+     * @param count      The unit count to insert
+     * @param center     The center number of units
+     * @return The number of candidates after the insert
+     */
+    private static int insert(long @NotNull [] candidates, int size,
+                              long count, double center) {
+
+        /*
+         * Cycle from the last candidate to the first. Return without an
+         * insert if the count is already a candidate.
+         */
+        final double distance = Math.abs(count - center);
+        int i = size;
+        for (int j = 0; j < size; ++j) {
+            if (count == candidates[j]) {
+                return size;
+            }
+        }
+
+        /*
+         * Shift each candidate further from the center than the count, and
+         * insert the count in its place. Ties go to the smaller count.
+         */
+        while ((0 < i) && ((Math.abs(candidates[i - 1] - center) > distance) ||
+                ((Math.abs(candidates[i - 1] - center) == distance) &&
+                        (candidates[i - 1] > count)))) {
+
+            candidates[i] = candidates[i - 1];
+            --i;
+        }
+
+        candidates[i] = count;
+        return size + 1;
+    }
+
+    /**
+     * Gets the deviation of the allocation found by the last solve.
+     *
+     * @return The root-mean-square difference between the value and the
+     * target of each ticker, in currency
+     */
+    public double getDeviation() {
+        return deviation;
+    }
+
+    /**
+     * Gets the count of search nodes visited by the last solve.
+     *
+     * @return The count of search nodes visited by the last solve
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Determines whether the last solve stopped because its time budget
+     * expired.
+     *
+     * @return True if the last solve stopped because its time budget
+     * expired; false if the search was complete
+     */
+    public boolean isExpired() {
+        return expired;
+    }
+
+    /**
+     * Prepares the tickers and their targets for a search.
+     *
+     * @param targetMap A map of tickers to their target values
+     * @return True if each ticker has a usable price; false otherwise
+     */
+    private boolean prepare(@NotNull Map<Ticker, Double> targetMap) {
+
+        /*
+         * Create arrays for the tickers and the value of their rounding
+         * units. Cycle for each ticker.
+         */
+        final int size = targetMap.size();
+        final List<Integer> order = new ArrayList<>(size);
+        final Ticker[] unsorted = targetMap.keySet().toArray(new Ticker[0]);
+        final double[] units = new double[size];
+        final double[] shares = new double[size];
+        Price price;
+        Shares rounding;
+        for (int i = 0; i < size; ++i) {
+
+            /*
+             * Get the price of the ticker. A ticker cannot be allocated by
+             * the solver without a price that is not zero.
+             */
+            price = unsorted[i].getPrice();
+            if ((null == price) || Price.getZero().isEqual(price)) {
+                return false;
+            }
+
+            /*
+             * Get the balance rounding of the ticker, using one share if
+             * there is none. Calculate the value of one rounding unit.
+             */
+            rounding = unsorted[i].getBalanceRounding();
+            shares[i] = (null == rounding) ? Shares.getOne().getValue() :
+                    rounding.getValue();
+            units[i] = price.getValue() * shares[i] * factor;
+            order.add(i);
+        }
+
+        /*
+         * Order the tickers by the value of their rounding unit, coarsest
+         * first. The finest ticker is allocated last, and absorbs what
+         * remains.
+         */
+        order.sort(Comparator.<Integer>comparingDouble(
+                index -> units[index]).reversed());
+
+        // Create the arrays of the search.
+        bestCounts = new long[size];
+        candidates = new long[size][2 * spread + 4];
+        counts = new long[size];
+        minimumUnits = new long[size];
+        restDeviation = new double[size + 1];
+        restTargets = new double[size + 1];
+        roundings = new double[size];
+        targets = new double[size];
+        tickers = new Ticker[size];
+        unitCents = new double[size];
+
+        // Cycle for each ticker in order.
+        int index;
+        TickerDescription description;
+        Currency minimum;
+        for (int i = 0; i < size; ++i) {
+
+            /*
+             * Set the ticker, its rounding, the value of its unit in cents,
+             * and its target in cents.
+             */
+            index = order.get(i);
+            tickers[i] = unsorted[index];
+            roundings[i] = shares[index];
+            unitCents[i] = units[index];
+            targets[i] = targetMap.get(tickers[i]) * factor;
+
+            /*
+             * Get the minimum value of the ticker from its description, and
+             * calculate the minimum number of its rounding units.
+             */
+            description = tickers[i].getDescription();
+            minimum = (null == description) ? null :
+                    description.getMinimum();
+            minimumUnits[i] = (null == minimum) ? 0L : (long) Math.ceil(
+                    minimum.getValue() * factor / unitCents[i]);
+        }
+
+        /*
+         * Cycle for each ticker, from last to first. Accumulate the targets
+         * of the tickers from it on. Accumulate the least weighted deviation
+         * they can contribute: a ticker whose target falls short of its
+         * minimum must take either zero or at least the minimum.
+         */
+        double minimumValue;
+        for (int i = size - 1; 0 <= i; --i) {
+
+            restTargets[i] = restTargets[i + 1] + targets[i];
+            minimumValue = minimumUnits[i] * unitCents[i];
+            restDeviation[i] = restDeviation[i + 1] +
+                    ((targets[i] < minimumValue) ? Math.min(
+                            getDeviation(0., targets[i]),
+                            getDeviation(minimumValue, targets[i])) : 0.);
+        }
+
+        // Each ticker has a usable price.
+        return true;
+    }
+
+    /**
+     * Searches for the best allocation of the tickers from an index.
+     *
+     * @param index     The index of the ticker to allocate
+     * @param remaining The value remaining to allocate, in cents
+     * @param deviation The weighted deviation of the tickers already
+     *                  allocated
+     */
+    private void search(int index, double remaining, double deviation) {
+
+        /*
+         * Count the node. Check the time budget at intervals, and stop if
+         * it has expired.
+         */
+        if ((0 == (++nodes % checkInterval)) &&
+                (System.nanoTime() > deadline)) {
+            expired = true;
+        }
+
+        if (expired) {
+            return;
+        }
+
+        /*
+         * Calculate lower bounds on the residual and the weighted deviation.
+         * The tickers that remain can take any value of zero or more. Stop if
+         * the lower bounds cannot produce an allocation better than the best.
+         */
+        final long residualBound = Math.round(Math.max(0., -remaining));
+        final double deviationBound = deviation + restDeviation[index];
+        if ((residualBound > bestResidual) ||
+                ((residualBound == bestResidual) &&
+                        (deviationBound >= bestDeviation))) {
+            return;
+        }
+
+        /*
+         * Adjust the target of the ticker to its share of the remaining
+         * value; a shortfall or excess in the tickers already allocated is
+         * shared by the others in proportion to their targets. The last
+         * ticker absorbs all that remains.
+         */
+        final boolean last = (tickers.length - 1 == index);
+        final double unit = unitCents[index];
+        final double adjusted = Math.max(0., (last ||
+                (0. >= restTargets[index])) ? remaining :
+                targets[index] * remaining / restTargets[index]);
+
+        /*
+         * Create the candidates of the ticker. A ticker whose unit is worth
+         * less than a cent has only the nearest unit count, and the last
+         * ticker has only those either side of its adjusted target.
+         */
+        final long[] choices = candidates[index];
+        final int size = createCandidates(adjusted / unit, (unit < 1.) ? -1 :
+                (last ? 0 : spread), minimumUnits[index], choices);
+
+        // Cycle for each candidate.
+        double value;
+        double current;
+        long residual;
+        for (int i = 0; i < size; ++i) {
+
+            /*
+             * Set the count of the ticker, and calculate its value and its
+             * contribution to the weighted deviation.
+             */
+            counts[index] = choices[i];
+            value = Math.round(choices[i] * unit);
+            current = deviation + getDeviation(value, targets[index]);
+
+            // Continue the search if this is not the last ticker.
+            if (!last) {
+                search(index + 1, remaining - value, current);
+            }
+
+            /*
+             * This is the last ticker. Calculate the residual. Is the
+             * allocation better than the best?
+             */
+            else {
+
+                residual = Math.round(Math.abs(remaining - value));
+                if ((residual < bestResidual) ||
+                        ((residual == bestResidual) &&
+                                (current < bestDeviation))) {
+
+                    /*
+                     * The allocation is better than the best. Remember its
+                     * residual, weighted deviation and counts.
+                     */
+                    bestResidual = residual;
+                    bestDeviation = current;
+                    System.arraycopy(counts, 0, bestCounts, 0, counts.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves the allocation of a value to tickers in whole rounding units,
+     * minimizing first the residual, then the weighted deviation of each
+     * ticker from its target. The proposed shares of each ticker are set to
+     * the best allocation found within a time budget.
+     *
+     * @param targetMap A map of tickers to their target values, which sum to
+     *                  the value
+     * @param value     The value to allocate
+     * @param budget    The time budget of the search, in milliseconds
+     * @return The residual of the allocation, or null if the tickers could
+     * not be allocated by the solver
+     */
+    public Currency solve(@NotNull Map<Ticker, Double> targetMap,
+                          @NotNull Currency value, int budget) {
+
+        /*
+         * Reset the search statistics. Return null if there are no tickers,
+         * or if the tickers could not be prepared.
+         */
+        nodes = 0L;
+        deviation = 0.;
+        expired = false;
+        if (targetMap.isEmpty() || (!prepare(targetMap))) {
+            return null;
+        }
+
+        /*
+         * Initialize the best allocation as none at all, set the deadline,
+         * and search from the first ticker. The first allocation found is
+         * the greedy one, so there is always a best allocation.
+         */
+        bestResidual = Long.MAX_VALUE;
+        bestDeviation = Double.MAX_VALUE;
+        deadline = System.nanoTime() + budget * 1000000L;
+        search(0, Math.round(value.getValue() * factor), 0.);
+
+        /*
+         * Declare variables to receive the allocated value and the sum of
+         * squared differences from target. Cycle for each ticker, and set its
+         * proposed shares from the best allocation.
+         */
+        final MutableCurrency allocated = new MutableCurrency(
+                Currency.getZero());
+        double accumulation = 0.;
+        Currency proposed;
+        for (int i = 0; i < tickers.length; ++i) {
+
+            /*
+             * Add the proposed value of the ticker, if any, to the allocated
+             * value, and its squared difference from its target to the
+             * accumulation.
+             */
+            tickers[i].setProposedShares(bestCounts[i] * roundings[i]);
+            proposed = tickers[i].getProposed();
+            if (null != proposed) {
+                allocated.add(proposed);
+            }
+
+            accumulation += Math.pow(((null == proposed) ? 0. :
+                    proposed.getValue()) - targets[i] / factor, 2.);
+        }
+
+        /*
+         * Calculate the deviation of the allocation. Return the residual of
+         * the allocation.
+         */
+        deviation = Math.sqrt(accumulation / tickers.length);
+        final MutableCurrency residual = new MutableCurrency(value);
+        residual.subtract(allocated.getImmutable());
+        return residual.getImmutable();
+    }
+}
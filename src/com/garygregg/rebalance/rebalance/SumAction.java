@@ -36,6 +36,15 @@ abstract class SumAction
         return getMutableSum().getImmutable();
     }
 
+    /**
+     * Gets the sum in whole cents.
+     *
+     * @return The sum in whole cents
+     */
+    public long getSumUnits() {
+        return getMutableSum().getUnits();
+    }
+
     @Override
     public void reset() {
         sum.set(initialValue);
@@ -1,10 +1,24 @@
 package com.garygregg.rebalance.rebalance;
 
 import com.garygregg.rebalance.countable.Currency;
+import com.garygregg.rebalance.toolkit.Journal;
 import org.jetbrains.annotations.NotNull;
 
 class ValueSetterAction extends ResidualProducerAction {
 
+    // The journal in which to record the state of each delegate before a set
+    private final Journal journal;
+
+    /**
+     * Constructs the value setter action.
+     *
+     * @param journal The journal in which to record the state of each
+     *                delegate before a set
+     */
+    public ValueSetterAction(@NotNull Journal journal) {
+        this.journal = journal;
+    }
+
     @Override
     protected boolean isConsidered(@NotNull ReceiverDelegate<?> delegate) {
         return delegate.isConsidered();
@@ -14,6 +28,12 @@ class ValueSetterAction extends ResidualProducerAction {
     protected @NotNull Currency produceResidual(
             @NotNull ReceiverDelegate<?> delegate,
             @NotNull Currency currency, boolean isRelative) {
+
+        /*
+         * Record the state of the delegate so that the set may be rolled
+         * back, then set the proposed value of the delegate.
+         */
+        journal.record(delegate);
         return delegate.setProposed(currency, isRelative);
     }
 
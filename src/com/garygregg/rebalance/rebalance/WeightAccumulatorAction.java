@@ -2,37 +2,69 @@ package com.garygregg.rebalance.rebalance;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class WeightAccumulatorAction
-        extends ContainerNodeAction<ReceiverDelegate<?>, List<Double>> {
+        extends ContainerNodeAction<ReceiverDelegate<?>, double[]> {
+
+    // The initial capacity of the weight array
+    private static final int initialCapacity = 16;
+
+    // The count of weights accumulated since the last reset
+    private int count;
+
+    // The sum of the weights accumulated since the last reset
+    private double sum;
 
     @Override
     public void doAction(@NotNull ReceiverDelegate<?> delegate) {
 
-        // Add the weight if the delegate is to be considered.
+        // Is the delegate to be considered?
         if (delegate.isConsidered()) {
-            getList().add(delegate.getWeight());
+
+            /*
+             * The delegate is to be considered. Grow the weight array if there
+             * is no room for another weight.
+             */
+            double[] weights = getContained();
+            if (weights.length == count) {
+                setContained(weights = Arrays.copyOf(weights, count << 1));
+            }
+
+            // Add the weight of the delegate, and add it to the sum.
+            sum += (weights[count++] = delegate.getWeight());
         }
     }
 
     @Override
-    protected @NotNull List<Double> getInitialValue() {
-        return new ArrayList<>();
+    protected double @NotNull [] getInitialValue() {
+        return new double[initialCapacity];
     }
 
     /**
-     * Gets the weight list.
+     * Gets the sum of the weights.
      *
-     * @return The weight list
+     * @return The sum of the weights
      */
-    public @NotNull List<Double> getList() {
-        return getContained();
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Gets the weights.
+     *
+     * @return An array containing the weights, one for each delegate to be
+     * considered
+     */
+    public double @NotNull [] getWeights() {
+        return Arrays.copyOf(getContained(), count);
     }
 
     @Override
     public void reset() {
-        getList().clear();
+
+        // Reset the count and the sum.
+        count = 0;
+        sum = 0.;
     }
 }
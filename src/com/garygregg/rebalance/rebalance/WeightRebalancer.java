@@ -5,20 +5,56 @@ import com.garygregg.rebalance.hierarchy.Account;
 import com.garygregg.rebalance.hierarchy.Ticker;
 import com.garygregg.rebalance.portfolio.PortfolioDescription;
 import com.garygregg.rebalance.ticker.TickerDescription;
+import com.garygregg.rebalance.toolkit.MessageLogger;
+import com.garygregg.rebalance.toolkit.Pair;
+import com.garygregg.rebalance.toolkit.PreferenceManager;
 import com.garygregg.rebalance.toolkit.WeightType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
 
 class WeightRebalancer extends AccountRebalancer
         implements Ticker.WeightEnumerator {
 
+    // The maximum number of rebalance trees kept as templates
+    private static final int capacity = 16;
+
+    // The logging level for ordinary informational messages
+    private static final Level ordinary = MessageLogger.getOrdinary();
+
+    // The preference manager
+    private static final PreferenceManager manager =
+            PreferenceManager.getInstance();
+
     // The value of zero currency
     private static final Currency zero = Currency.getZero();
 
+    // The context of rebalances performed by this rebalancer
+    private final RebalanceContext context = new RebalanceContext();
+
+    // The solver of share allocations for this rebalancer
+    private final ShareSolver solver = new ShareSolver();
+
+    /*
+     * Root rebalance nodes kept as templates, keyed by the keys of the
+     * considered tickers and the weight map, in least recently used order
+     */
+    private final Map<Pair<List<String>, Map<WeightType, Double>>,
+            RebalanceNode> templates =
+            new LinkedHashMap<>(capacity, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Pair<List<String>, Map<WeightType, Double>>,
+                                RebalanceNode> eldest) {
+                    return capacity < size();
+                }
+            };
+
     // The root rebalance node
-    private final RebalanceNode root =
-            new RebalanceNode(WeightType.ALL, 0, 1.);
+    private RebalanceNode root;
 
     // The current rebalance node
     private RebalanceNode currentNode;
@@ -26,6 +62,18 @@ class WeightRebalancer extends AccountRebalancer
     // The current ticker
     private Ticker currentTicker;
 
+    /*
+     * The count of accounts whose rebalance tree was degenerate, and so
+     * rebalanced in closed form
+     */
+    private int degenerateCount;
+
+    /*
+     * The time, in nanoseconds, after which reallocation iterations stop for
+     * the run, or null if the run has no deadline
+     */
+    private Long runDeadline;
+
     // A map of weight types to weights
     private Map<WeightType, Double> weightMap;
 
@@ -36,6 +84,56 @@ class WeightRebalancer extends AccountRebalancer
         initialize();
     }
 
+    /**
+     * Gets the time budget of reallocation iterations per account.
+     *
+     * @return The time budget of reallocation iterations per account in
+     * milliseconds; zero if there is no budget
+     */
+    private static int getBudget() {
+
+        // Return zero if the preference is not set, or is less than zero.
+        final Integer budget = manager.getQuota();
+        return ((null == budget) || (0 > budget)) ? 0 : budget;
+    }
+
+    /**
+     * Gets the considered tickers of an account.
+     *
+     * @param account An account
+     * @return The considered tickers of the account, sorted by key
+     */
+    private static @NotNull Map<String, Ticker> getConsidered(
+            @NotNull Account account) {
+
+        /*
+         * Cycle for each ticker in the account, and add it by key if it is
+         * considered. Keep the first ticker for any key, as a rebalance node
+         * would. Return the considered tickers.
+         */
+        final Map<String, Ticker> considered = new TreeMap<>();
+        for (Ticker ticker : account.getChildren()) {
+            if (isConsidered(ticker)) {
+                considered.putIfAbsent(ticker.getKey(), ticker);
+            }
+        }
+
+        return considered;
+    }
+
+    /**
+     * Gets the time budget of the share solver per account.
+     *
+     * @return The time budget of the share solver per account in
+     * milliseconds; zero if accounts are not rebalanced by the share solver
+     */
+    private static int getSolveBudget() {
+
+        // Return zero if the preference is not set, or is less than zero.
+        final Integer solve = manager.getWholeShares();
+        return ((null == solve) || (0 > solve)) ? 0 : solve;
+    }
+
     /**
      * Determines if a ticker is considered for rebalance.
      *
@@ -95,7 +193,7 @@ class WeightRebalancer extends AccountRebalancer
              * Otherwise, use a default weight.
              */
             final Map<WeightType, Double> weightMap = getWeightMap();
-            currentNode.addChild(node = new RebalanceNode(type,
+            currentNode.addChild(node = new RebalanceNode(context, type,
                     currentNode.getLevel() + 1,
                     (null == weightMap) ? 1. : weightMap.get(type)));
         }
@@ -118,47 +216,110 @@ class WeightRebalancer extends AccountRebalancer
     protected Currency doRebalance(@NotNull Account account) {
 
         /*
-         * Set the account key in the rebalance node class. Clear the root
-         * node.
+         * Set the account key in the rebalance context. Set the weight map
+         * based on the given account.
          */
-        RebalanceNode.setAccountKey(account.getKey());
-        root.clear();
+        context.setAccountKey(account.getKey());
+        setDeadline();
+        final Map<WeightType, Double> weightMap = getWeights(account,
+                shouldAdjust(account));
+        setWeightMap(weightMap);
 
         /*
-         * Set the weight map based on the given account, and cycle for each
-         * ticker in the account.
+         * Collect the considered tickers of the account by key. Create a
+         * template key from the ticker keys and the weight map. Is there a
+         * template for the key?
          */
-        setWeightMap(getWeights(account, shouldAdjust(account)));
-        for (Ticker ticker : account.getChildren()) {
+        final Map<String, Ticker> considered = getConsidered(account);
+        final Pair<List<String>, Map<WeightType, Double>> key =
+                new Pair<>(new ArrayList<>(considered.keySet()),
+                        (null == weightMap) ? null : new HashMap<>(weightMap));
+        root = templates.get(key);
+        if (null != root) {
 
-            // Is the first/next ticker considered?
-            if (isConsidered(ticker)) {
+            /*
+             * There is a template for the key. The template has the shape
+             * that enumerating the considered tickers would produce, so
+             * rebind it to the considered tickers of this account.
+             */
+            root.rebind(considered);
+        }
 
-                /*
-                 * The ticker is considered. Set the current ticker, and
-                 * enumerate the weight types of the ticker.
-                 */
-                currentTicker = ticker;
-                ticker.enumerate(this);
+        // There is no template for the key.
+        else {
+
+            /*
+             * Create a new root node, and keep it as a template. Cycle for
+             * each ticker in the account.
+             */
+            templates.put(key, root = new RebalanceNode(context,
+                    WeightType.ALL, 0, 1.));
+            for (Ticker ticker : account.getChildren()) {
+
+                // Is the first/next ticker considered?
+                if (isConsidered(ticker)) {
+
+                    /*
+                     * The ticker is considered. Set the current ticker, and
+                     * enumerate the weight types of the ticker.
+                     */
+                    currentTicker = ticker;
+                    ticker.enumerate(this);
+                }
             }
         }
 
         /*
          * Reinitialize the rebalancer member variables. Get the proposed value
-         * of the account.
+         * of the account, using zero if it is null.
          */
         initialize();
-        Currency currency = account.getProposed();
+        final Currency proposed = account.getProposed();
+        final Currency value = (null == proposed) ? zero : proposed;
 
         /*
-         * Set the absolute (not-relative) proposed value of the root node the
-         * same as that of the account, receiving a residual. Return null if
-         * rebalance node class had a problem. Otherwise, return the received
-         * residual.
+         * Get the time budget of the share solver. Solve the share allocation
+         * of the account if the budget is positive, receiving a residual.
+         * Was there no residual?
          */
-        currency = root.setProposed((null == currency) ?
-                zero : currency, false);
-        return RebalanceNode.hadProblem() ? null : currency;
+        final int budget = getSolveBudget();
+        Currency currency = (0 < budget) ? solve(account, value, budget) :
+                null;
+        if (null == currency) {
+
+            /*
+             * There was no residual; the share solver was not used, or could
+             * not allocate the tickers. Set the absolute (not-relative)
+             * proposed value of the root node the same as that of the
+             * account, receiving a residual.
+             */
+            currency = root.setProposed(value, false);
+            logProgress(account);
+
+            /*
+             * Is the rebalance tree degenerate? If so, each of its nodes
+             * below the root holds a single ticker, and was rebalanced in
+             * closed form.
+             */
+            if (root.isDegenerate()) {
+
+                /*
+                 * The rebalance tree is degenerate. Increment the count of
+                 * degenerate accounts, and log a message.
+                 */
+                context.getLogger().log(ordinary, String.format("For " +
+                                "account key %s: The rebalance tree is " +
+                                "degenerate, and was rebalanced in closed " +
+                                "form; %d account(s) have taken this path.",
+                        account.getKey(), ++degenerateCount));
+            }
+        }
+
+        /*
+         * Return null if the rebalance context had a problem. Otherwise,
+         * return the received residual.
+         */
+        return context.hadProblem() ? null : currency;
     }
 
     /**
@@ -210,6 +371,71 @@ class WeightRebalancer extends AccountRebalancer
         node.addTicker(currentTicker);
     }
 
+    /**
+     * Logs the progress of reallocation iterations for an account.
+     *
+     * @param account The account that was rebalanced
+     */
+    private void logProgress(@NotNull Account account) {
+        context.getLogger().log(ordinary, String.format("For account key " +
+                        "%s: I tried %d consideration pattern(s), and found " +
+                        "%d improvement(s), the best after %d ms%s.",
+                account.getKey(), context.getPatterns(),
+                context.getImprovements(), context.getTimeToBest(),
+                context.isExpired() ? "; the time budget expired" : ""));
+    }
+
+    /**
+     * Sets the deadline of reallocation iterations for the current account
+     * in the rebalance context. The deadline is the earlier of the end of
+     * the time budget per account, and the deadline of the run.
+     */
+    private void setDeadline() {
+
+        /*
+         * Get the time budget per account. Use the deadline of the run if
+         * there is no budget per account.
+         */
+        final int budget = getBudget();
+        Long deadline = runDeadline;
+        if (0 < budget) {
+
+            /*
+             * There is a budget per account. Calculate the end of the budget,
+             * and use the earlier of it and any deadline of the run.
+             */
+            final long end = System.nanoTime() + budget * 1000000L;
+            deadline = ((null == deadline) || (0L < deadline - end)) ? end :
+                    deadline;
+        }
+
+        // Set the deadline in the rebalance context.
+        context.setDeadline(deadline);
+    }
+
+    /**
+     * Sets the deadline of reallocation iterations for the run.
+     *
+     * @param runDeadline The time, in nanoseconds, after which reallocation
+     *                    iterations stop for the run, or null if the run has
+     *                    no deadline
+     */
+    public void setRunDeadline(Long runDeadline) {
+        this.runDeadline = runDeadline;
+    }
+
+    /**
+     * Sets the executor shared by the run for evaluating consideration
+     * patterns concurrently.
+     *
+     * @param runExecutor The executor shared by the run for evaluating
+     *                    consideration patterns concurrently, or null if
+     *                    patterns are to be evaluated one at a time
+     */
+    public void setRunExecutor(ExecutorService runExecutor) {
+        context.setExecutor(runExecutor);
+    }
+
     /**
      * Sets the map of weight types to weight.
      *
@@ -219,6 +445,48 @@ class WeightRebalancer extends AccountRebalancer
         this.weightMap = weightMap;
     }
 
+    /**
+     * Solves the share allocation of an account. The target of each ticker
+     * is its share of the value of the account by weight. The share solver
+     * allocates whole rounding units of each ticker, minimizing first the
+     * residual, then the deviation of each ticker from its target.
+     *
+     * @param account The account to rebalance
+     * @param value   The proposed value of the account
+     * @param budget  The time budget of the share solver in milliseconds
+     * @return The residual of the allocation, or null if the share solver
+     * could not allocate the tickers of the account
+     */
+    private Currency solve(@NotNull Account account, @NotNull Currency value,
+                           int budget) {
+
+        /*
+         * Collect the target of each ticker from the rebalance tree, and
+         * solve the allocation of the tickers, receiving a residual. Was
+         * there a residual?
+         */
+        final Map<Ticker, Double> targets = new LinkedHashMap<>();
+        root.collectTargets(value.getValue(), targets);
+        final Currency residual = solver.solve(targets, value, budget);
+        if (null != residual) {
+
+            /*
+             * There was a residual. Log a message about the allocation found
+             * by the share solver.
+             */
+            context.getLogger().log(ordinary, String.format("For account " +
+                            "key %s: The share solver visited %d node(s)%s, " +
+                            "and identified a residual of %s (deviation of " +
+                            "%s).", account.getKey(), solver.getNodes(),
+                    solver.isExpired() ? " before its time budget expired" :
+                            "", residual, context.getDeviationFormat().format(
+                            solver.getDeviation())));
+        }
+
+        // Return the residual.
+        return residual;
+    }
+
     @Override
     public void start() {
         currentNode = root;
@@ -62,6 +62,10 @@ public class ActionReportWriter extends HierarchyWriter {
     // The message used for percentage reallocation
     private static final String percentageMessage = "\n%sAllocate %7s%% to %s";
 
+    // The factor of percent (the number of units of precision in one percent)
+    private static final double percentFactor =
+            new MutablePercent(Percent.getZero()).getFactor();
+
     // The common portfolio/institution/account declaration string
     private static final String requiredRebalance = "%sRequired rebalance " +
             "actions for %s key '%s'";
@@ -90,9 +94,6 @@ public class ActionReportWriter extends HierarchyWriter {
     // The value of zero currency
     private static final Currency zeroCurrency = Currency.getZero();
 
-    // The value of zero percent
-    private static final Percent zeroPercent = Percent.getZero();
-
     // The value of zero shares
     private static final Shares zeroShares = Shares.getZero();
 
@@ -237,35 +238,6 @@ public class ActionReportWriter extends HierarchyWriter {
         return currency;
     }
 
-    /**
-     * Gets an initial percentage list.
-     *
-     * @param size The size of the desired list
-     * @return An initial percentage list
-     */
-    private static @NotNull List<MutablePercent> getInitialList(int size) {
-
-        // Create the list. Is the size greater than zero?
-        final List<MutablePercent> list = new ArrayList<>();
-        if (0 < size) {
-
-            /*
-             * The size is greater than zero. Add the first element to the
-             * list using one hundred percent.
-             */
-            int i = 0;
-            list.add(i, new MutablePercent(100.0));
-
-            // Cycle for any remaining positions, and add zero percent.
-            for (++i; i < size; ++i) {
-                list.add(new MutablePercent(zeroPercent));
-            }
-        }
-
-        // Return the list.
-        return list;
-    }
-
     /**
      * Gets the name from a description.
      *
@@ -541,10 +513,6 @@ public class ActionReportWriter extends HierarchyWriter {
                     proposed.getValue());
         }
 
-        // Create a percentage list that is the same size as the weight list.
-        final List<MutablePercent> percentages =
-                getInitialList(weights.size());
-
         /*
          * Create a new reallocator with the weight list. Can the reallocator
          * reallocate using this weight list?
@@ -555,9 +523,11 @@ public class ActionReportWriter extends HierarchyWriter {
 
             /*
              * The reallocator can reallocate using the given weight list.
-             * Reallocate the percentage list. Cycle for each ticker.
+             * Reallocate one hundred percent as a whole number of units of
+             * percent precision. Cycle for each ticker.
              */
-            reallocator.reallocate(percentages);
+            final long[] percentages = reallocator.reallocate(
+                    Math.round(100. * percentFactor), percentFactor);
             int i = 0;
             for (Ticker ticker : byCurrency) {
 
@@ -567,7 +537,8 @@ public class ActionReportWriter extends HierarchyWriter {
                  */
                 writer.write(String.format(percentageMessage, firstMessage ?
                                 "\n" : "",
-                        percentages.get(i++), formatTickerId(ticker)));
+                        new MutablePercent(percentages[i++] /
+                                percentFactor), formatTickerId(ticker)));
                 firstMessage = false;
             }
         }
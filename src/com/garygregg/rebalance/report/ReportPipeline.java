@@ -0,0 +1,269 @@
+package com.garygregg.rebalance.report;
+
+import com.garygregg.rebalance.hierarchy.Hierarchy;
+import com.garygregg.rebalance.hierarchy.Portfolio;
+import com.garygregg.rebalance.toolkit.ConcurrencyUtilities;
+import com.garygregg.rebalance.toolkit.MessageLogger;
+import com.garygregg.rebalance.toolkit.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class ReportPipeline {
+
+    // The number of tasks that may wait for each thread writing reports
+    private static final int tasksPerThread = 2;
+
+    // The types of report to write, in order
+    private final List<ReportType> types;
+
+    /**
+     * Constructs the report pipeline.
+     *
+     * @param types The types of report to write, in order
+     */
+    public ReportPipeline(@NotNull ReportType @NotNull ... types) {
+        this.types = List.of(types);
+    }
+
+    /**
+     * Waits for the task of a future to complete.
+     *
+     * @param future The future of the task
+     * @throws IOException Indicates an I/O exception occurred in the task, or
+     *                     the wait was interrupted
+     */
+    private static void join(@NotNull Future<?> future) throws IOException {
+
+        try {
+
+            // Try to wait for the task to complete.
+            future.get();
+        }
+
+        /*
+         * Catch any execution exception that may occur. Rethrow its cause if
+         * it is an I/O exception or a runtime exception, or wrap it in a
+         * runtime exception otherwise.
+         */
+        catch (@NotNull ExecutionException exception) {
+
+            final Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+
+        /*
+         * Catch any interrupted exception that may occur. Restore the
+         * interrupt, and throw an I/O exception.
+         */
+        catch (@NotNull InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(String.format("Interrupted " +
+                    "while waiting for a report: '%s'.", exception));
+        }
+    }
+
+    /**
+     * Writes reports of each type about each portfolio in a hierarchy.
+     *
+     * @param hierarchy The hierarchy to use as a source of portfolios
+     * @param date      The date to use for each report
+     * @return True if each report was successfully written; false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public boolean writeLines(@NotNull Hierarchy hierarchy, Date date)
+            throws IOException {
+        return ConcurrencyUtilities.isConcurrent() ?
+                writeConcurrently(hierarchy, date) :
+                writeSequentially(hierarchy, date);
+    }
+
+    /**
+     * Writes reports of each type about each portfolio in a hierarchy, with
+     * each report written concurrently. Reports only read the hierarchy, so
+     * they may be written in any order.
+     *
+     * @param hierarchy The hierarchy to use as a source of portfolios
+     * @param date      The date to use for each report
+     * @return True if each report was successfully written; false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean writeConcurrently(@NotNull Hierarchy hierarchy,
+                                      Date date) throws IOException {
+
+        /*
+         * Get one date for every report. Create a portfolio report for each
+         * type of report, and each portfolio in the hierarchy.
+         */
+        final Date dateToUse = ReportWriter.getDateToUse(hierarchy, date);
+        final List<PortfolioReport> reports = new ArrayList<>();
+        for (ReportType type : types) {
+            for (Portfolio portfolio : hierarchy.getPortfolios()) {
+                reports.add(new PortfolioReport(type, hierarchy, portfolio,
+                        dateToUse));
+            }
+        }
+
+        /*
+         * Create an executor with a bounded queue, and a list for the futures
+         * of the tasks that will be submitted to it.
+         */
+        final ExecutorService executor =
+                ConcurrencyUtilities.createBoundedExecutor(
+                        ConcurrencyUtilities.getThreads() * tasksPerThread);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+
+            // Cycle for each portfolio report, and submit it in a task.
+            for (PortfolioReport report : reports) {
+                futures.add(executor.submit(() -> {
+
+                    report.write();
+                    return null;
+                }));
+            }
+
+            // Cycle for each future, and wait for its task to complete.
+            for (Future<?> future : futures) {
+                join(future);
+            }
+        }
+
+        // Shut down the executor whether the reports succeeded or not.
+        finally {
+            executor.shutdown();
+        }
+
+        /*
+         * All the reports are complete. Cycle for each in sequential order,
+         * report it, and accumulate its result. Return the result.
+         */
+        boolean result = true;
+        for (PortfolioReport report : reports) {
+            result = report.report() && result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes reports of each type about each portfolio in a hierarchy, one
+     * report at a time.
+     *
+     * @param hierarchy The hierarchy to use as a source of portfolios
+     * @param date      The date to use for each report
+     * @return True if each report was successfully written; false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean writeSequentially(@NotNull Hierarchy hierarchy,
+                                      Date date) throws IOException {
+
+        /*
+         * Declare and initialize the result. Cycle for each type of report,
+         * and write reports of that type about each portfolio.
+         */
+        boolean result = true;
+        for (ReportType type : types) {
+            result = type.createWriter().writeLines(hierarchy, date) &&
+                    result;
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    private static class PortfolioReport {
+
+        // The date to use for the report
+        private final Date date;
+
+        // The hierarchy that contains the portfolio
+        private final Hierarchy hierarchy;
+
+        // The portfolio about which to write the report
+        private final Portfolio portfolio;
+
+        // The type of the report
+        private final ReportType type;
+
+        // The log records deferred while writing the report
+        private List<Pair<Logger, LogRecord>> records = new ArrayList<>();
+
+        // True if the report was successfully written, false otherwise
+        private boolean result;
+
+        /**
+         * Constructs the portfolio report.
+         *
+         * @param type      The type of the report
+         * @param hierarchy The hierarchy that contains the portfolio
+         * @param portfolio The portfolio about which to write the report
+         * @param date      The date to use for the report
+         */
+        public PortfolioReport(@NotNull ReportType type,
+                               @NotNull Hierarchy hierarchy,
+                               @NotNull Portfolio portfolio,
+                               @NotNull Date date) {
+
+            // Set the member variables.
+            this.type = type;
+            this.hierarchy = hierarchy;
+            this.portfolio = portfolio;
+            this.date = date;
+        }
+
+        /**
+         * Publishes the deferred log records of the report.
+         *
+         * @return True if the report was successfully written, false
+         * otherwise
+         */
+        public boolean report() {
+
+            // Publish the deferred records, and return the result.
+            MessageLogger.publish(records);
+            return result;
+        }
+
+        /**
+         * Writes the report with a writer of its own, deferring log records.
+         *
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        public void write() throws IOException {
+
+            /*
+             * Start deferring log records. Write the report with a new writer
+             * for its type.
+             */
+            MessageLogger.startDeferring();
+            try {
+                result = type.createWriter().writeLines(hierarchy, portfolio,
+                        date);
+            }
+
+            // Stop deferring log records even if an exception occurred.
+            finally {
+                records = MessageLogger.stopDeferring();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.garygregg.rebalance.report;
+
+import org.jetbrains.annotations.NotNull;
+
+public enum ReportType {
+
+    // A report of current holdings
+    CURRENT {
+        @Override
+        @NotNull ReportWriter createWriter() {
+            return new CurrentReportWriter();
+        }
+    },
+
+    // A report of proposed holdings
+    PROPOSED {
+        @Override
+        @NotNull ReportWriter createWriter() {
+            return new ProposedReportWriter();
+        }
+    },
+
+    // A report of the difference between proposed and considered values
+    DIFFERENCE {
+        @Override
+        @NotNull ReportWriter createWriter() {
+            return new DifferenceReportWriter();
+        }
+    },
+
+    // A report of actions to be taken to rebalance
+    ACTION {
+        @Override
+        @NotNull ReportWriter createWriter() {
+            return new ActionReportWriter();
+        }
+    };
+
+    /**
+     * Creates a writer for the report type.
+     *
+     * @return A new writer for the report type
+     */
+    abstract @NotNull ReportWriter createWriter();
+}
@@ -26,8 +26,9 @@ import java.util.logging.Logger;
 
 abstract class ReportWriter extends ElementProcessor {
 
-    // A format for S&P 500 values
-    private static final Format sAndP500Format = new DecimalFormat("0.00");
+    // A format for S&P 500 values (formats are not thread-safe)
+    private static final ThreadLocal<Format> sAndP500Format =
+            ThreadLocal.withInitial(() -> new DecimalFormat("0.00"));
 
     // The valuator for not balanceable assets
     private final Valuator notBalanceable = ValueByNotConsidered.getInstance();
@@ -112,10 +113,11 @@ abstract class ReportWriter extends ElementProcessor {
 
         /*
          * Get the parent directory. Try to create the parent and all paths to
-         * the parent if the parent does not exist.
+         * the parent if the parent does not exist. Check for a directory after
+         * trying, because another thread may have just created it.
          */
         final File parent = file.getParentFile();
-        if (!(parent.exists() || parent.mkdirs())) {
+        if (!(parent.mkdirs() || parent.isDirectory())) {
 
             // Throw an I/O exception if any of this could not be accomplished.
             throw new IOException(String.format("Could not create required " +
@@ -153,6 +155,19 @@ abstract class ReportWriter extends ElementProcessor {
         return directory.delete();
     }
 
+    /**
+     * Gets the date to use for reports about the portfolios in a hierarchy.
+     *
+     * @param hierarchy The hierarchy to use as a source of portfolios
+     * @param date      The date to use for each report (maybe null)
+     * @return The given date if it is not null, otherwise the date of the
+     * hierarchy if it is not null, otherwise the current date
+     */
+    static @NotNull Date getDateToUse(@NotNull Hierarchy hierarchy,
+                                      Date date) {
+        return getNonNullDate(date, getNonNullDate(hierarchy.getDate()));
+    }
+
     /**
      * Gets the name from a portfolio.
      *
@@ -387,7 +402,7 @@ abstract class ReportWriter extends ElementProcessor {
         doubleValue = manager.getHigh();
         writer.write(String.format(format, "S&P 500 high is: ",
                 (null == doubleValue) ? unavailable : String.format("%s",
-                        sAndP500Format.format(doubleValue))));
+                        sAndP500Format.get().format(doubleValue))));
 
         /*
          * Use the preference manager to get the S&P 500 last close. Format and
@@ -396,7 +411,7 @@ abstract class ReportWriter extends ElementProcessor {
         doubleValue = manager.getClose();
         writer.write(String.format(format, "S&P 500 last close is: ",
                 (null == doubleValue) ? unavailable : String.format("%s",
-                        sAndP500Format.format(doubleValue))));
+                        sAndP500Format.get().format(doubleValue))));
 
         /*
          * Use the preference manager to get the S&P 500 today. Format and
@@ -405,7 +420,7 @@ abstract class ReportWriter extends ElementProcessor {
         doubleValue = manager.getToday();
         writer.write(String.format(format, "S&P 500 today is: ",
                 (null == doubleValue) ? unavailable : String.format("%s",
-                        sAndP500Format.format(doubleValue))));
+                        sAndP500Format.get().format(doubleValue))));
 
         // Finish by writing a newline.
         writer.write("\n");
@@ -571,8 +586,7 @@ abstract class ReportWriter extends ElementProcessor {
          * Get a non-null date to use, preferring the argument first, the
          * date in the hierarchy second.
          */
-        final Date dateToUse = getNonNullDate(date,
-                getNonNullDate(hierarchy.getDate()));
+        final Date dateToUse = getDateToUse(hierarchy, date);
 
         /*
          * Declare and initialize the result, and cycle for each portfolio in
@@ -593,6 +607,34 @@ abstract class ReportWriter extends ElementProcessor {
         return result;
     }
 
+    /**
+     * Writes a report about one portfolio in a hierarchy.
+     *
+     * @param hierarchy The hierarchy that contains the portfolio
+     * @param portfolio The portfolio about which to write a report
+     * @param date      The date to use for the report
+     * @return True if the report was successfully written; false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    boolean writeLines(@NotNull Hierarchy hierarchy,
+                       @NotNull Portfolio portfolio, @NotNull Date date)
+            throws IOException {
+
+        // Set the current holdings from the given hierarchy.
+        setCurrentHoldings(HoldingLibrary.getInstance(
+                hierarchy.getHoldingType()));
+        try {
+
+            // Try to write a report for the portfolio.
+            return writeLines(portfolio, date);
+        }
+
+        // Clear the current holdings whether the report was written or not.
+        finally {
+            setCurrentHoldings(null);
+        }
+    }
+
     /**
      * Writes a report about a portfolio.
      *
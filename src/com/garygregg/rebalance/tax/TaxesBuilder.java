@@ -5,6 +5,7 @@ import com.garygregg.rebalance.countable.Percent;
 import com.garygregg.rebalance.interpreter.DoubleInterpreter;
 import com.garygregg.rebalance.interpreter.NonNegativeInterpreter;
 import com.garygregg.rebalance.toolkit.ElementReader;
+import com.garygregg.rebalance.toolkit.FieldCursor;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.logging.Level;
@@ -147,17 +148,17 @@ abstract class TaxesBuilder extends ElementReader<TaxDescription> {
     }
 
     @Override
-    protected void processElements(@NotNull String @NotNull [] elements,
+    protected void processElements(@NotNull FieldCursor cursor,
                                    int lineNumber) {
 
         // Set the line number and read the threshold.
         setLineNumber(lineNumber);
         final Double threshold = getThresholdInterpreter().interpret(
-                elements[TaxFields.THRESHOLD.getPosition()], null);
+                cursor.getField(TaxFields.THRESHOLD.getPosition()), null);
 
         // Read the tax rate. Are neither the threshold nor the tax rate null?
         final Double taxRate = getThresholdInterpreter().interpret(
-                elements[TaxFields.TAX_RATE.getPosition()], null);
+                cursor.getField(TaxFields.TAX_RATE.getPosition()), null);
         if (!((null == threshold) || (null == taxRate))) {
 
             /*
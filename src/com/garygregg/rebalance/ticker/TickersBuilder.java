@@ -4,6 +4,7 @@ import com.garygregg.rebalance.countable.Currency;
 import com.garygregg.rebalance.countable.Shares;
 import com.garygregg.rebalance.interpreter.*;
 import com.garygregg.rebalance.toolkit.ElementReader;
+import com.garygregg.rebalance.toolkit.FieldCursor;
 import com.garygregg.rebalance.toolkit.FundType;
 import org.jetbrains.annotations.NotNull;
 
@@ -165,7 +166,7 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
             new FieldProcessor<>() {
 
                 @Override
-                public void processField(@NotNull String field) {
+                public void processField(@NotNull CharSequence field) {
 
                     // Process the fund type. Is the fund type null?
                     final FundType fundType =
@@ -255,16 +256,16 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
             new NonNegativeInterpreter() {
 
                 @Override
-                public Double interpret(@NotNull String string,
+                public Double interpret(@NotNull CharSequence chars,
                                         Double defaultValue) {
 
                     /*
-                     * Use the default value if the string is empty, otherwise
-                     * use superclass to interpret the string. Get the minimum
-                     * number of shares.
+                     * Use the default value if the characters are empty,
+                     * otherwise use superclass to interpret the characters.
+                     * Get the minimum number of shares.
                      */
-                    Double result = string.isEmpty() ? defaultValue :
-                            super.interpret(string, defaultValue);
+                    Double result = (0 == chars.length()) ? defaultValue :
+                            super.interpret(chars, defaultValue);
                     final Shares minimum = Shares.getMinimum();
 
                     /*
@@ -821,12 +822,12 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
     }
 
     @Override
-    public void processElements(String @NotNull [] elements, int lineNumber) {
+    public void processElements(@NotNull FieldCursor cursor, int lineNumber) {
 
         // Set the line number, and get the line code.
         setLineNumber(lineNumber);
         final Character tickerCode = codeInterpreter.interpret(
-                elements[TickerFields.CODE.getPosition()]);
+                cursor.getField(TickerFields.CODE.getPosition()));
 
         /*
          * Get the ticker factory based on the ticker type. Is a factory
@@ -856,22 +857,24 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
             final TickerDescription description = factory.createDescription(
 
                     // Ticker...
-                    tickerInterpreter.interpret(
-                            elements[TickerFields.TICKER.getPosition()]),
+                    tickerInterpreter.interpret(cursor.getField(
+                            TickerFields.TICKER.getPosition())),
 
                     // ...number...
                     numberInterpreter.interpret(
-                            elements[TickerFields.NUMBER.getPosition()],
+                            cursor.getField(TickerFields.NUMBER.getPosition()),
                             null),
 
                     // ...name and minimum investment...
-                    elements[TickerFields.NAME.getPosition()],
-                    minimumInterpreter.interpret(
-                            elements[TickerFields.MINIMUM.getPosition()], 0.),
+                    cursor.getField(TickerFields.NAME.getPosition())
+                            .toString(),
+                    minimumInterpreter.interpret(cursor.getField(
+                            TickerFields.MINIMUM.getPosition()), 0.),
 
                     // ... and preferred rounding.
-                    roundingInterpreter.interpret(elements[
-                                    TickerFields.PREFERRED_ROUNDING.getPosition()],
+                    roundingInterpreter.interpret(cursor.getField(
+                                    TickerFields.PREFERRED_ROUNDING
+                                            .getPosition()),
                             Shares.getMinimum().getValue()), lineNumber);
 
             /*
@@ -896,7 +899,7 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
              * elements and the number of account fields.
              */
             setTarget(description);
-            final int elementsLength = elements.length;
+            final int elementsLength = cursor.getFieldCount();
             final int numberOfTickerFields = TickerFields.values().length;
 
             /*
@@ -934,7 +937,7 @@ public class TickersBuilder extends ElementReader<TickerDescription> {
             for (int i = getMinimumFields(); i < fieldsToProcess; ++i) {
 
                 // Process the first/next field.
-                processField(i, elements[i]);
+                processField(i, cursor);
             }
 
             // Log some exit information.
@@ -61,6 +61,52 @@ public enum CommandLineId {
     @SuppressWarnings("SpellCheckingInspection")
     Y("maximum level for reallocation iterations", "mxrt", true),
 
+    // Whether consideration patterns are pruned by bound
+    @SuppressWarnings("SpellCheckingInspection")
+    NARROW("narrow consideration patterns by pruning them by bound (0 " +
+            "for no)", "nrrw", true),
+
+    // The number of consideration patterns evaluated concurrently per batch
+    @SuppressWarnings("SpellCheckingInspection")
+    FANOUT("consideration patterns evaluated concurrently per batch (1 " +
+            "for none)", "ptrn", true),
+
+    // The time budget of the share solver per account (milliseconds)
+    @SuppressWarnings("SpellCheckingInspection")
+    WHOLESHARES("milliseconds per account to solve for whole shares (0 " +
+            "for none)", "slms", true),
+
+    // The time budget of reallocation iterations per account (milliseconds)
+    @SuppressWarnings("SpellCheckingInspection")
+    QUOTA("reallocation milliseconds per account (0 for no budget)",
+            "acms", true),
+
+    // The time budget of reallocation iterations per run (seconds)
+    @SuppressWarnings("SpellCheckingInspection")
+    GLOBALQUOTA("reallocation wall-clock seconds per run (0 for no budget)",
+            "rnsc", true),
+
+    // The number of cents of currency interned either side of zero
+    @SuppressWarnings("SpellCheckingInspection")
+    ZEROCENTS("cents either side of zero in which currency is interned",
+            "cnts", true),
+
+    // The minimum size of a data file to be memory-mapped (kilobytes)
+    @SuppressWarnings("SpellCheckingInspection")
+    KBMAP("minimum kilobytes of a data file to memory-map", "mpkb", true),
+
+    // The minimum size of a data file to have its records cached (kilobytes)
+    @SuppressWarnings("SpellCheckingInspection")
+    KBCACHE("minimum kilobytes of a data file to cache", "chkb", true),
+
+    // The number of threads to use for concurrent work
+    @SuppressWarnings("SpellCheckingInspection")
+    JOBS("threads for concurrent work (1 for none)", "thrd", true),
+
+    // Whether holdings are streamed directly into hierarchies
+    @SuppressWarnings("SpellCheckingInspection")
+    FEED("feed holdings straight into hierarchies (0 for no)", "fdhr", true),
+
     // Source data directory (string path)
     @SuppressWarnings("SpellCheckingInspection")
     SOURCE("data source", "spth", true),
@@ -78,6 +124,11 @@ public enum CommandLineId {
     BACKUP("perform backup now; dpth if no bpth specified (see above)", "bpth",
             false),
 
+    // The vintages command (string date range, first and last inclusive)
+    @SuppressWarnings("SpellCheckingInspection")
+    VINTAGES("rebalance each holding file dated in yyyy-MM-dd[,yyyy-MM-dd]",
+            "dtrg", false),
+
     // The assistance command
     ASSISTANCE("assistance with this command (i.e., usage)", null, false),
 
@@ -0,0 +1,128 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+
+public final class ConcurrencyUtilities {
+
+    // The name of the factory method for virtual thread executors
+    private static final String virtualFactoryName =
+            "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Constructs the concurrency utilities object.
+     */
+    private ConcurrencyUtilities() {
+
+        // Nothing to do here currently.
+    }
+
+    /**
+     * Creates an executor service with a fixed number of platform threads,
+     * and a bounded queue of tasks waiting for a thread. A thread submitting
+     * a task when the queue is full runs the task itself, so producers can
+     * never get more than the capacity of the queue ahead of the executor.
+     *
+     * @param capacity The capacity of the queue of waiting tasks
+     * @return An executor service with a fixed number of platform threads,
+     * and a bounded queue of waiting tasks
+     */
+    public static @NotNull ExecutorService createBoundedExecutor(
+            int capacity) {
+
+        // Create the executor, running tasks in the caller if it is full.
+        final int threads = getThreads();
+        return new ThreadPoolExecutor(threads, threads, 0L,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Creates an executor service with a fixed number of platform threads.
+     *
+     * @return An executor service with a fixed number of platform threads
+     */
+    public static @NotNull ExecutorService createExecutor() {
+        return Executors.newFixedThreadPool(getThreads());
+    }
+
+    /**
+     * Creates an executor service for tasks that spend most of their time
+     * waiting on I/O. The executor will use virtual threads if the runtime
+     * supports them, otherwise a fixed number of platform threads.
+     *
+     * @return An executor service for tasks that spend most of their time
+     * waiting on I/O
+     */
+    public static @NotNull ExecutorService createIoExecutor() {
+
+        // Declare the result.
+        ExecutorService result;
+        try {
+
+            /*
+             * Try to create an executor that starts a new virtual thread for
+             * each task. Virtual threads are not available in every runtime
+             * this software supports, so find the factory reflectively.
+             */
+            result = (ExecutorService) Executors.class.getMethod(
+                    virtualFactoryName).invoke(null);
+        }
+
+        /*
+         * Catch any reflective operation exception that may occur. Use a
+         * fixed number of platform threads instead.
+         */
+        catch (@NotNull ReflectiveOperationException exception) {
+            result = createExecutor();
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Creates an executor service to be shared by nested work of a run. A
+     * task is handed to a thread of the executor only if one is idle;
+     * otherwise the thread submitting the task runs it itself. So tasks may
+     * wait on tasks they submit without deadlock, and the submitting thread
+     * counts as one of the threads to use for concurrent work.
+     *
+     * @return An executor service to be shared by nested work of a run
+     */
+    public static @NotNull ExecutorService createSharedExecutor() {
+
+        /*
+         * Create the executor with one thread fewer than the threads to use
+         * for concurrent work, but at least one, running tasks in the
+         * caller if no thread is idle.
+         */
+        final int threads = Math.max(1, getThreads() - 1);
+        return new ThreadPoolExecutor(threads, threads, 0L,
+                TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Gets the number of threads to use for concurrent work.
+     *
+     * @return The number of threads to use for concurrent work; this will be
+     * at least one
+     */
+    public static int getThreads() {
+
+        // Return one if the preference is not set, or is less than one.
+        final Integer threads = PreferenceManager.getInstance().getJobs();
+        return ((null == threads) || (1 > threads)) ? 1 : threads;
+    }
+
+    /**
+     * Determines whether work should be done concurrently.
+     *
+     * @return True if work should be done concurrently, false otherwise
+     */
+    public static boolean isConcurrent() {
+        return 1 < getThreads();
+    }
+}
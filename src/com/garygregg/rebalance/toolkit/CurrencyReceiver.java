@@ -5,13 +5,6 @@ import org.jetbrains.annotations.NotNull;
 
 public interface CurrencyReceiver {
 
-    /**
-     * Clears a snapshot.
-     *
-     * @param key The key of the snapshot to clear
-     */
-    void clearSnapshot(@NotNull SnapshotKey key);
-
     /**
      * Gets the current value of the receiver.
      *
@@ -20,19 +13,20 @@ public interface CurrencyReceiver {
     @NotNull Currency getCurrent();
 
     /**
-     * Determines if the receiver has no snapshots.
+     * Gets the state of the receiver that is recorded in a journal.
      *
-     * @return True if the receiver has no snapshots; false if it has one or
-     * more
+     * @return The state of the receiver, or not-a-number if the state is not
+     * set
      */
-    boolean hasNoSnapshots();
+    double getState();
 
     /**
-     * Recovers a snapshot.
+     * Restores a state of the receiver that was recorded in a journal.
      *
-     * @param key The key of the snapshot to recover
+     * @param state The state to restore; not-a-number restores a state of
+     *              zero
      */
-    void recoverSnapshot(@NotNull SnapshotKey key);
+    void restoreState(double state);
 
     /**
      * Sets the proposed value of the receiver.
@@ -46,11 +40,4 @@ public interface CurrencyReceiver {
      */
     @NotNull Currency setProposed(@NotNull Currency currency,
                                   boolean isRelative);
-
-    /**
-     * Takes a snapshot.
-     *
-     * @param key The key to be associated with the snapshot
-     */
-    void takeSnapshot(@NotNull SnapshotKey key);
 }
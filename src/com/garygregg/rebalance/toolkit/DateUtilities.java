@@ -25,13 +25,14 @@ public class DateUtilities {
     private static final String dateRegex = String.format("\\d{%d}",
             formatTemplate.length());
 
-    // The date format used for parsing
-    private static final DateFormat dateFormat =
-            new SimpleDateFormat(formatTemplate);
+    // The date format used for parsing (date formats are not thread-safe)
+    private static final ThreadLocal<DateFormat> dateFormat =
+            ThreadLocal.withInitial(() ->
+                    new SimpleDateFormat(formatTemplate));
 
     // The date format used for messages
-    private static final DateFormat messageFormat =
-            new SimpleDateFormat("yyyy-MM-dd");
+    private static final ThreadLocal<DateFormat> messageFormat =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd"));
 
     // A pattern for the date regular expression
     private static final Pattern pattern = Pattern.compile(getDateRegex());
@@ -39,6 +40,9 @@ public class DateUtilities {
     // The file type to be used
     private final String fileType;
 
+    // A pattern for the names of files with a date (captured as a group)
+    private final Pattern filenamePattern;
+
     // The prefix of to be used
     private final String prefix;
 
@@ -57,6 +61,10 @@ public class DateUtilities {
         this.fileType = fileType;
         this.prefix = prefix;
         this.typeDirectory = new File(getDataDirectory(), getPrefix());
+
+        // Compile the pattern for the names of files with a date.
+        filenamePattern = Pattern.compile(constructFilename(
+                String.format("(%s)", getDateRegex())));
     }
 
     /**
@@ -124,7 +132,8 @@ public class DateUtilities {
                  * Try to add a date match pair that contains the subsequence
                  * and the subsequence parsed as a date.
                  */
-                dates.add(new Pair<>(nextMatch, dateFormat.parse(nextMatch)));
+                dates.add(new Pair<>(nextMatch,
+                        getDateFormat().parse(nextMatch)));
             }
 
             // Catch any parse exception that may occur.
@@ -168,7 +177,7 @@ public class DateUtilities {
      * @return The date format used for parsing
      */
     private static @NotNull DateFormat getDateFormat() {
-        return dateFormat;
+        return dateFormat.get();
     }
 
     /**
@@ -197,7 +206,7 @@ public class DateUtilities {
      * @return The date format used for messages
      */
     private static @NotNull DateFormat getMessageFormat() {
-        return messageFormat;
+        return messageFormat.get();
     }
 
     /**
@@ -256,6 +265,16 @@ public class DateUtilities {
         return fileType;
     }
 
+    /**
+     * Gets the pattern for the names of files with a date. The date is
+     * captured as the first group of any match.
+     *
+     * @return The pattern for the names of files with a date
+     */
+    public @NotNull Pattern getFilenamePattern() {
+        return filenamePattern;
+    }
+
     /**
      * Gets the prefix to be used.
      *
@@ -275,4 +294,43 @@ public class DateUtilities {
     public @NotNull File getTypeDirectory() {
         return typeDirectory;
     }
+
+    /**
+     * Parses the date of a file name.
+     *
+     * @param filename Any file name
+     * @return The date of the file name, or null if the name does not have
+     * the prefix, date and file type of a file usable by this object, or if
+     * its date cannot be parsed
+     */
+    public Date parseFilename(@NotNull String filename) {
+
+        /*
+         * Match the file name against the pattern for the names of files with
+         * a date. Return null if the name does not match.
+         */
+        final Matcher matcher = getFilenamePattern().matcher(filename);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        // Declare the result.
+        Date result;
+        try {
+
+            // Try to parse the date captured by the match.
+            result = getDateFormat().parse(matcher.group(1));
+        }
+
+        /*
+         * Catch any parse exception that may occur. The date captured by the
+         * match cannot be parsed.
+         */
+        catch (@NotNull ParseException exception) {
+            result = null;
+        }
+
+        // Return the result.
+        return result;
+    }
 }
@@ -1,11 +1,9 @@
 package com.garygregg.rebalance.toolkit;
 
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -13,6 +11,12 @@ import java.util.logging.Logger;
 public abstract class ElementReader<DescriptionType extends Description<?>>
         extends ElementProcessor {
 
+    // The number of bytes in a kilobyte
+    private static final long kilobyte = 1024L;
+
+    // The cursor over the fields of the current line
+    private final FieldCursor cursor = new FieldCursor();
+
     // A map of element indices to field processors
     private final Map<Integer, FieldProcessor<?>> processorMap =
             new HashMap<>();
@@ -26,6 +30,66 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         setLogger(Logger.getLogger(ElementReader.class.getCanonicalName()));
     }
 
+    /**
+     * Adapts a line source to a record source that scans each line once with
+     * a field cursor.
+     *
+     * @param source The line source
+     * @return A record source that reads from the line source
+     */
+    private static @NotNull RecordSource asRecords(
+            @NotNull LineSource source) {
+        return cursor -> {
+
+            /*
+             * Read the first/next line. Scan it with the cursor if it is not
+             * null.
+             */
+            final String line = source.readLine();
+            final boolean result = (null != line);
+            if (result) {
+                cursor.reset(line);
+            }
+
+            // Return whether a line was read.
+            return result;
+        };
+    }
+
+    /**
+     * Adapts a record source so that each record read from it is also written
+     * to a record cache. The cache is marked complete when the source is
+     * exhausted.
+     *
+     * @param source The record source
+     * @param writer The cache writer, or null if records are not to be cached
+     * @return A record source that reads from the given source, and writes to
+     * any cache
+     */
+    private static @NotNull RecordSource caching(
+            @NotNull RecordSource source, RecordCache.CacheWriter writer) {
+
+        // There is nothing to adapt if records are not to be cached.
+        return (null == writer) ? source : cursor -> {
+
+            /*
+             * Read the first/next record. Write it to the cache if it was
+             * read, otherwise mark the cache complete.
+             */
+            final boolean result = source.readRecord(cursor);
+            if (result) {
+                writer.writeRecord(cursor);
+            }
+
+            else {
+                writer.setComplete();
+            }
+
+            // Return whether a record was read.
+            return result;
+        };
+    }
+
     /**
      * Gets the logging level for ordinary, non-warning activity.
      *
@@ -36,28 +100,39 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
     }
 
     /**
-     * Preprocesses elements for element processors.
+     * Determines if the records of a file should be cached.
      *
-     * @param elements The elements to preprocess.
-     * @return The preprocessed elements
+     * @param file The file to be read
+     * @return True if the records of the file should be cached, false
+     * otherwise
      */
-    @Contract("_ -> param1")
-    private static @NotNull String @NotNull [] preprocessElements(
-            @NotNull String @NotNull [] elements) {
+    private static boolean shouldCache(@NotNull File file) {
 
-        // Get the length of the element array, and cycle for each element.
-        final int length = elements.length;
-        for (int i = 0; i < length; ++i) {
+        /*
+         * Get the minimum size, in kilobytes, of a file that is to have its
+         * records cached. Caching is turned off if the minimum is null.
+         */
+        final Integer minimum = PreferenceManager.getInstance().getKbCache();
+        return (null != minimum) &&
+                (((long) minimum * kilobyte) <= file.length());
+    }
 
-            /*
-             * Preprocess the first/next element by removing leading and
-             * trailing whitespace.
-             */
-            elements[i] = elements[i].trim();
-        }
+    /**
+     * Determines if a file should be memory-mapped for reading.
+     *
+     * @param file The file to be read
+     * @return True if the file should be memory-mapped, false otherwise
+     */
+    private static boolean shouldMap(@NotNull File file) {
 
-        // Return the preprocessed elements.
-        return elements;
+        /*
+         * Get the minimum size, in kilobytes, of a file that is to be
+         * memory-mapped. Memory-mapped reading is turned off if the minimum
+         * is null.
+         */
+        final Integer minimum = PreferenceManager.getInstance().getKbMap();
+        return (null != minimum) && (((long) minimum * kilobyte) <=
+                file.length()) && MappedLineReader.canMap(file);
     }
 
     /**
@@ -102,23 +177,18 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
     }
 
     /**
-     * Reads lines from a field reader.
+     * Reads lines from a record source.
      *
-     * @param fileReader      The reader from which to read lines
+     * @param source          The source from which to read records
      * @param continueOnFalse True if lines should continue to be read if at
      *                        least one had an error, false otherwise
      * @return True if one or more lines had an error, false otherwise
      * @throws IOException Indicates an I/O exception occurred
      */
-    private boolean doReadLines(@NotNull FileReader fileReader,
+    private boolean doReadLines(@NotNull RecordSource source,
                                 boolean continueOnFalse) throws IOException {
 
-        /*
-         * Declare variables to receive line elements, the line itself, and a
-         * variable to track the line number.
-         */
-        String[] elements;
-        String line;
+        // Declare a variable to track the line number.
         int lineNumber = 1;
 
         /*
@@ -130,31 +200,28 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         boolean noFailures = true, processResult = true;
 
         /*
-         * Create a new buffered reader. Cycle while the process result is
-         * true, and we have not reached the end of file.
+         * Cycle while the process result is true, and we have not reached the
+         * end of file.
          */
-        final BufferedReader bufferedReader = new BufferedReader(fileReader);
-        while (processResult && (null != (line = bufferedReader.readLine()))) {
+        while (processResult && source.readRecord(cursor)) {
 
             /*
-             * We have read a new line. Split the line by commas, and get the
-             * field count. Is the field count at least as long as the minimum
-             * number of fields?
+             * We have read a new line into the field cursor. Get the field
+             * count. Is the field count at least as long as the minimum number
+             * of fields?
              */
-            elements = line.split(",");
-            fieldCount = elements.length;
+            fieldCount = cursor.getFieldCount();
             //noinspection AssignmentUsedAsCondition
             if (processResult = (minimumFields <= fieldCount)) {
 
                 /*
                  * The field count is at least as long as the minimum number of
-                 * fields. Reset the line problem flag. Preprocess, then
-                 * process the elements. Determine if there has been no problem
-                 * in doing so by checking the line problem flag.
+                 * fields. Reset the line problem flag, and process the fields
+                 * in the cursor. Determine if there has been no problem in
+                 * doing so by checking the line problem flag.
                  */
                 resetLineProblem();
-                processElements(preprocessElements(line.split(",")),
-                        lineNumber++);
+                processElements(cursor, lineNumber++);
                 processResult = !hadLineProblem();
             }
 
@@ -181,10 +248,9 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         }
 
         /*
-         * Done processing lines by end-of-file, or error. Close buffered
-         * reader, and return the no-failures flag.
+         * Done processing lines by end-of-file, or error. Return the
+         * no-failures flag.
          */
-        bufferedReader.close();
         return noFailures;
     }
 
@@ -197,6 +263,69 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         return datesParsed;
     }
 
+    /**
+     * Gets the date of the most recent file, if any, with a name that is
+     * flagged as occurring on or before the given date (date may be null).
+     * The file is not read.
+     *
+     * @param date The given date (maybe null)
+     * @return The first date that can be parsed from the name of the thus
+     * described file, or null if there is no such file or date
+     */
+    public Date getFileDate(Date date) {
+
+        /*
+         * Declare the result. Ask the file index for the most recent file of
+         * this type that is flagged as occurring on or before the given date.
+         * Did we find one?
+         */
+        Date result = null;
+        final Path path = getFilePath(date);
+        if (null != path) {
+
+            /*
+             * We found a qualifying file. Find any dates contained in its
+             * name, and cycle until one of them is not null.
+             */
+            final Iterator<Pair<String, Date>> iterator =
+                    DateUtilities.findDates(
+                            path.getFileName().toString()).iterator();
+            while ((null == result) && iterator.hasNext()) {
+                result = iterator.next().getSecond();
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Gets the dates of the files with names that are flagged as occurring
+     * in a range of dates. The files are not read.
+     *
+     * @param first The first date of the range (inclusive; maybe null for no
+     *              lower bound)
+     * @param last  The last date of the range (inclusive; maybe null for no
+     *              upper bound)
+     * @return The dates of the files in the range, in ascending order
+     */
+    public @NotNull NavigableSet<Date> getFileDates(Date first, Date last) {
+        return FileIndex.getInstance().getDates(getDateUtilities(), first,
+                last);
+    }
+
+    /**
+     * Gets the path of the most recent file, if any, with a name that is
+     * flagged as occurring on or before the given date (date may be null).
+     * The file is not read.
+     *
+     * @param date The given date (maybe null)
+     * @return The path of the thus described file, or null if none exists
+     */
+    public Path getFilePath(Date date) {
+        return FileIndex.getInstance().getFloor(getDateUtilities(), date);
+    }
+
     /**
      * Gets the file type.
      *
@@ -214,105 +343,28 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
     public abstract int getMinimumFields();
 
     /**
-     * Returns a file reader, if any, for the most recent file with a name that
-     * is flagged as occurring before the given date (date may be null).
+     * Returns the most recent file, if any, with a name that is flagged as
+     * occurring before the given date (date may be null).
      *
-     * @param directory The directory from which to return a reader
-     * @param date      The given date (maybe null)
-     * @return A file reader for the thus described file, or null if none
-     * exists
+     * @param date The given date (maybe null)
+     * @return The thus described file, or null if none exists
      */
-    private FileReader getMostRecentReader(@NotNull File directory,
-                                           Date date) {
-
-        // Get the date utilities object. Declare and initialize the result.
-        final DateUtilities utilities = getDateUtilities();
-        FileReader result = null;
+    private File getMostRecentFile(Date date) {
 
         /*
-         * List files in the given directory that match a regular expression
-         * of named files that this element processor can use. Are there any
-         * extant files like this?
+         * Ask the file index for the most recent file of this type that is
+         * flagged as occurring on or before the given date. Did we find one?
          */
-        final File[] files = directory.listFiles((dir1, name) ->
-                name.matches(utilities.constructFilename(
-                        DateUtilities.getDateRegex())));
-        if ((null != files) && (0 < files.length)) {
-
-            /*
-             * There are files that match the regular expression. Declare a
-             * comparator for files using their names.
-             */
-            final Comparator<File> comparator =
-                    Comparator.comparing(File::getName);
+        final Path path = getFilePath(date);
+        File result = null;
+        if (null != path) {
 
             /*
-             * Sort the files by name. Initialize an array index to the last
-             * file that qualified. Is date qualifier not null?
+             * We found a qualifying file. Set the result with the file. Find
+             * and parse any dates contained in the name of the file.
              */
-            Arrays.sort(files, comparator);
-            int index = files.length - 1;
-            if (null != date) {
-
-                /*
-                 * The date qualifier is not null. Construct the path for a
-                 * file usable by this element processor that has the given
-                 * date.
-                 */
-                final Path path = Paths.get(directory.getPath(),
-                        utilities.constructFilename(date));
-
-                /*
-                 * Do a binary search for the qualifying file. If we do not
-                 * find the exact file, the result of the search will be
-                 * negative. Is the result negative?
-                 */
-                index = Arrays.binarySearch(files, new File(path.toString()),
-                        comparator);
-                if (0 > index) {
-
-                    /*
-                     * The search result is negative, so we did not find the
-                     * exact file. Try to adjust the index to that of the file
-                     * that is most recent, but prior to the indicated date.
-                     * If the index is still negative than there is no
-                     * qualifying file.
-                     */
-                    index = Math.abs(index) - 2;
-                }
-            }
-
-            /*
-             * If the index not negative then we have found a qualifying file.
-             * We found either the exact specified file, or the most recent
-             * file flagged as occurring before it. Is the index not negative?
-             */
-            if (0 <= index) {
-
-                // The index is not negative.
-                try {
-
-                    /*
-                     * Try to create a file reader with the indicated file.
-                     * Find and parse any dates contained in the name of the
-                     * file.
-                     */
-                    final File file = files[index];
-                    result = new FileReader(file);
-                    setDatesParsed(DateUtilities.findDates(file.getName()));
-                }
-
-                /*
-                 * We have checked for an extant file, so we should never
-                 * receive a file-not-found exception. This being the case,
-                 * do not allow our caller to have to check for the
-                 * file-not-found exception. Wrap the thrown exception in a
-                 * runtime exception.
-                 */
-                catch (@NotNull FileNotFoundException exception) {
-                    throw new RuntimeException(exception);
-                }
-            }
+            result = path.toFile();
+            setDatesParsed(DateUtilities.findDates(result.getName()));
         }
 
         // Return the result.
@@ -336,26 +388,26 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
     /**
      * Processes line elements.
      *
-     * @param elements   The line elements
+     * @param cursor     A cursor over the trimmed line elements
      * @param lineNumber The line number where the elements occur
      */
-    protected abstract void processElements(@NotNull String[] elements,
+    protected abstract void processElements(@NotNull FieldCursor cursor,
                                             int lineNumber);
 
     /**
      * Calls a field processor for a given element index.
      *
-     * @param index The given element index
-     * @param field The field to processor
+     * @param index  The given element index
+     * @param cursor A cursor over the trimmed line elements
      */
-    protected void processField(int index, @NotNull String field) {
+    protected void processField(int index, @NotNull FieldCursor cursor) {
 
         // Get the indexed field processor. Is the processor not null?
         final FieldProcessor<?> processor = processorMap.get(index);
         if (null != processor) {
 
             // The processor is not null. Call it to process the field.
-            processor.processField(field);
+            processor.processField(cursor, index);
         }
     }
 
@@ -374,22 +426,21 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
             throws IOException {
 
         /*
-         * Reset the problem flag. Get the most recent reader for the type
+         * Reset the problem flag. Get the most recent file for the type
          * directory and date.
          */
         resetFileProblem();
-        final FileReader reader = getMostRecentReader(
-                getDateUtilities().getTypeDirectory(), date);
+        final File file = getMostRecentFile(date);
 
-        // Is the reader not null?
-        boolean result = (null != reader);
+        // Is the file not null?
+        boolean result = (null != file);
         if (result) {
 
-            // The reader is not null. Go ahead and read lines.
-            result = readLines(reader, continueOnFalse);
+            // The file is not null. Go ahead and read lines.
+            result = readLines(file, continueOnFalse);
         }
 
-        // Bad news. We could not find a reader. Was the date null?
+        // Bad news. We could not find a file. Was the date null?
         else if (null == date) {
 
             /*
@@ -462,15 +513,15 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
     }
 
     /**
-     * Reads lines from a field reader.
+     * Reads lines from a file.
      *
-     * @param fileReader      The reader from which to read lines
+     * @param file            The file from which to read lines
      * @param continueOnFalse True if lines should continue to be read if at
      *                        least one had an error, false otherwise
      * @return True if one or more lines had an error, false otherwise
      * @throws IOException Indicates an I/O exception occurred
      */
-    private boolean readLines(@NotNull FileReader fileReader,
+    private boolean readLines(@NotNull File file,
                               boolean continueOnFalse) throws IOException {
 
         // Declare the result, and get the processor's prefix.
@@ -485,10 +536,16 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         startProcessing();
         try {
 
-            // Log a message, and perform the unguarded line read.
+            /*
+             * Log a message. Should the records of the file be cached? If
+             * so, read the records through the cache. Otherwise, read the
+             * records from the file.
+             */
             logMessage(getOrdinary(), String.format("Reading lines for " +
                     "element processor of type '%s'.", prefix));
-            result = doReadLines(fileReader, continueOnFalse);
+            result = shouldCache(file) ?
+                    readCachedRecords(file, continueOnFalse) :
+                    readRecords(file, continueOnFalse, null);
         }
 
         // Do this block even if an exception occurred.
@@ -511,6 +568,109 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         return result;
     }
 
+    /**
+     * Reads records from the cache of a file if the cache is current with the
+     * file. Otherwise, reads records from the file itself, and writes them to
+     * a new cache. Records from the cache are processed just as records from
+     * the file are, so that the library is built, and messages are logged,
+     * in the same way. The cache holds records, and not the built library,
+     * because building a library has effects beyond the library itself: it
+     * consults other libraries, tracks parents across records, and logs
+     * messages for each record. A hit saves decoding the file, and scanning
+     * and trimming its lines; it does not save interpreting the fields.
+     *
+     * @param file            The file from which to read records
+     * @param continueOnFalse True if lines should continue to be read if at
+     *                        least one had an error, false otherwise
+     * @return True if one or more lines had an error, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean readCachedRecords(@NotNull File file,
+                                      boolean continueOnFalse)
+            throws IOException {
+
+        // Try to open a reader for a current cache of the file.
+        try (final RecordCache.CacheReader reader =
+                     RecordCache.CacheReader.open(file)) {
+
+            // Is there a current cache of the file?
+            if (null != reader) {
+
+                /*
+                 * There is a current cache of the file. Log a message, and
+                 * read records from the cache.
+                 */
+                logMessage(getOrdinary(), String.format("Reading cached " +
+                                "records of file '%s' for element processor " +
+                                "of type '%s'.", file.getName(),
+                        getPrefix()));
+                return doReadLines(reader::readRecord, continueOnFalse);
+            }
+        }
+
+        /*
+         * There is no current cache of the file. Log a message, and read
+         * records from the file while writing them to a new cache.
+         */
+        logMessage(getOrdinary(), String.format("Caching records of file " +
+                        "'%s' for element processor of type '%s'.",
+                file.getName(), getPrefix()));
+        try (final RecordCache.CacheWriter writer =
+                     new RecordCache.CacheWriter(file)) {
+            return readRecords(file, continueOnFalse, writer);
+        }
+    }
+
+    /**
+     * Reads records from a file.
+     *
+     * @param file            The file from which to read records
+     * @param continueOnFalse True if lines should continue to be read if at
+     *                        least one had an error, false otherwise
+     * @param writer          A writer for caching the records, or null if
+     *                        the records are not to be cached
+     * @return True if one or more lines had an error, false otherwise
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private boolean readRecords(@NotNull File file, boolean continueOnFalse,
+                                RecordCache.CacheWriter writer)
+            throws IOException {
+
+        // Declare the result. Should the file be memory-mapped for reading?
+        boolean result;
+        if (shouldMap(file)) {
+
+            // Log a message about the mapping.
+            logMessage(getOrdinary(), String.format("Memory-mapping " +
+                            "file '%s' for element processor of type '%s'.",
+                    file.getName(), getPrefix()));
+
+            // Perform the unguarded line read from a mapped reader.
+            try (final MappedLineReader reader =
+                         new MappedLineReader(file)) {
+                result = doReadLines(caching(asRecords(reader::readLine),
+                        writer), continueOnFalse);
+            }
+        }
+
+        /*
+         * The file should not be memory-mapped. Perform the unguarded line
+         * read from a buffered reader, decoding in the same character set as
+         * the mapped reader.
+         */
+        else {
+            try (final BufferedReader reader =
+                         new BufferedReader(new FileReader(file,
+                                 MappedLineReader.getCharset()))) {
+                result = doReadLines(caching(asRecords(reader::readLine),
+                        writer), continueOnFalse);
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
     /**
      * Sets a date in the library.
      *
@@ -588,6 +748,32 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
         restoreLogger();
     }
 
+    @FunctionalInterface
+    private interface LineSource {
+
+        /**
+         * Reads a line.
+         *
+         * @return The line, or null if the end of the source has been reached
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        String readLine() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordSource {
+
+        /**
+         * Reads a record into a field cursor.
+         *
+         * @param cursor The field cursor to receive the record
+         * @return True if a record was read, false if the end of the source
+         * has been reached
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        boolean readRecord(@NotNull FieldCursor cursor) throws IOException;
+    }
+
     /**
      * A processor for fields that can be parameterized for target.
      *
@@ -609,8 +795,21 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
 
         /**
          * Processes the field.
+         *
+         * @param field The field, which may be a view that is valid only
+         *              until the next field is read
          */
-        public abstract void processField(@NotNull String field);
+        public abstract void processField(@NotNull CharSequence field);
+
+        /**
+         * Processes a field from a cursor.
+         *
+         * @param cursor A cursor over the trimmed line elements
+         * @param index  The index of the field in the cursor
+         */
+        public void processField(@NotNull FieldCursor cursor, int index) {
+            processField(cursor.getField(index));
+        }
 
         /**
          * Sets the target.
@@ -631,19 +830,33 @@ public abstract class ElementReader<DescriptionType extends Description<?>>
             extends FieldProcessor<TargetType> {
 
         @Override
-        public void processField(@NotNull String field) {
+        public void processField(@NotNull CharSequence field) {
 
             // Process the field if it is not blank.
-            if (!field.trim().isBlank()) {
+            if (!field.toString().trim().isBlank()) {
                 processNotEmptyField(field);
             }
         }
 
+        @Override
+        public void processField(@NotNull FieldCursor cursor, int index) {
+
+            /*
+             * Process the field if it is not blank. Check the cursor, so that
+             * no string is created to test the field.
+             */
+            if (!cursor.isBlank(index)) {
+                processNotEmptyField(cursor.getField(index));
+            }
+        }
+
         /**
          * Processes the non-blank field.
          *
-         * @param field The field
+         * @param field The field, which may be a view that is valid only
+         *              until the next field is read
          */
-        public abstract void processNotEmptyField(@NotNull String field);
+        public abstract void processNotEmptyField(
+                @NotNull CharSequence field);
     }
 }
@@ -0,0 +1,372 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class FieldCursor {
+
+    // The initial capacity of the field bounds arrays
+    private static final int initialCapacity = 16;
+
+    // The separator between fields
+    private static final char separator = ',';
+
+    // The end (exclusive) of each trimmed field
+    private int[] ends = new int[initialCapacity];
+
+    // The number of fields in the current line
+    private int fieldCount;
+
+    // The current line
+    private String line = "";
+
+    // The start (inclusive) of each trimmed field
+    private int[] starts = new int[initialCapacity];
+
+    // A reusable view of each trimmed field, created when first needed
+    private FieldView[] views = new FieldView[initialCapacity];
+
+    /**
+     * Reads a non-negative length written by
+     * {@link #writeLength(DataOutput, int)}.
+     *
+     * @param input The input from which to read
+     * @return The length
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private static int readLength(@NotNull DataInput input)
+            throws IOException {
+
+        /*
+         * Declare variables to receive each byte, and to shift its low seven
+         * bits into place. Cycle while the byte flags that another follows.
+         */
+        int next, result = 0, shift = 0;
+        do {
+
+            next = input.readUnsignedByte();
+            result |= (next & 0x7f) << shift;
+            shift += 7;
+        } while (0 != (next & 0x80));
+
+        // Return the result.
+        return result;
+    }
+
+    /**
+     * Writes a non-negative length in as few bytes as needed, seven bits at
+     * a time, with the high bit of each byte flagging that another follows.
+     *
+     * @param output The output to which to write
+     * @param length The length to write
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private static void writeLength(@NotNull DataOutput output, int length)
+            throws IOException {
+
+        // Write the low seven bits while more than seven remain.
+        while (0 != (length & ~0x7f)) {
+
+            output.writeByte((length & 0x7f) | 0x80);
+            length >>>= 7;
+        }
+
+        // Write the final seven bits.
+        output.writeByte(length);
+    }
+
+    /**
+     * Adds the bounds of a raw (untrimmed) field.
+     *
+     * @param index The index of the field
+     * @param start The start (inclusive) of the raw field
+     * @param end   The end (exclusive) of the raw field
+     */
+    private void addField(int index, int start, int end) {
+
+        // Make sure the bounds arrays are large enough.
+        ensureCapacity(index + 1);
+
+        /*
+         * Trim the field in the same way as String.trim(), i.e., by skipping
+         * leading and trailing characters that are less than or equal to a
+         * space.
+         */
+        while ((start < end) && (line.charAt(start) <= ' ')) {
+            ++start;
+        }
+
+        while ((start < end) && (line.charAt(end - 1) <= ' ')) {
+            --end;
+        }
+
+        // Set the trimmed bounds.
+        starts[index] = start;
+        ends[index] = end;
+    }
+
+    /**
+     * Checks that a field index is valid.
+     *
+     * @param index The field index to check
+     */
+    private void checkIndex(int index) {
+
+        // Throw an exception if the index is out of bounds.
+        if ((0 > index) || (fieldCount <= index)) {
+            throw new IndexOutOfBoundsException(String.format("Field index " +
+                    "%d is out of bounds for field count %d.", index,
+                    fieldCount));
+        }
+    }
+
+    /**
+     * Makes sure the field bounds arrays can hold a given number of fields.
+     *
+     * @param capacity The number of fields the arrays must be able to hold
+     */
+    private void ensureCapacity(int capacity) {
+
+        // Is the capacity of the bounds arrays insufficient?
+        if (starts.length < capacity) {
+
+            /*
+             * The capacity of the bounds arrays is insufficient. Double their
+             * length until it is sufficient, and grow them.
+             */
+            int newLength = starts.length;
+            while (newLength < capacity) {
+                newLength <<= 1;
+            }
+
+            starts = Arrays.copyOf(starts, newLength);
+            ends = Arrays.copyOf(ends, newLength);
+            views = Arrays.copyOf(views, newLength);
+        }
+    }
+
+    /**
+     * Gets a view of a trimmed field. The view does not copy the characters
+     * of the field, and the same view is returned for the same index each
+     * time, so it reflects the field only until the cursor is next reset or
+     * read. Use its string value for a field that must outlive the line.
+     *
+     * @param index The index of the field
+     * @return A view of the trimmed field
+     */
+    public @NotNull CharSequence getField(int index) {
+
+        /*
+         * Check the index. Create a view for the index if there is not
+         * already one, and return it.
+         */
+        checkIndex(index);
+        FieldView view = views[index];
+        if (null == view) {
+            views[index] = view = new FieldView(index);
+        }
+
+        return view;
+    }
+
+    /**
+     * Gets the number of fields in the current line.
+     *
+     * @return The number of fields in the current line
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Determines if a field is blank.
+     *
+     * @param index The index of the field
+     * @return True if the field is empty or contains only whitespace, false
+     * otherwise
+     */
+    public boolean isBlank(int index) {
+
+        /*
+         * Check the index. Get the bounds of the field, and cycle for each
+         * character in the field.
+         */
+        checkIndex(index);
+        final int end = ends[index];
+        for (int i = starts[index]; i < end; ++i) {
+
+            // The field is not blank if the character is not whitespace.
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+
+        // The field is blank.
+        return true;
+    }
+
+    /**
+     * Reads the trimmed fields written by {@link #write(DataOutput)}. The
+     * line of the cursor becomes the trimmed fields joined without
+     * separators; it is not scanned, since the bounds of each field follow
+     * from their lengths.
+     *
+     * @param input The input from which to read
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public void read(@NotNull DataInput input) throws IOException {
+
+        // Read the bytes of the joined fields, and decode them.
+        final byte[] bytes = new byte[readLength(input)];
+        input.readFully(bytes);
+        line = new String(bytes, StandardCharsets.UTF_8);
+
+        /*
+         * Read the field count, and make sure the bounds arrays are large
+         * enough. Initialize the start of the first field, and cycle for each
+         * field.
+         */
+        fieldCount = readLength(input);
+        ensureCapacity(fieldCount);
+        int start = 0;
+        for (int i = 0; i < fieldCount; ++i) {
+
+            /*
+             * Set the bounds of the first/next field from its length. The
+             * next field starts where this one ends.
+             */
+            starts[i] = start;
+            ends[i] = (start += readLength(input));
+        }
+    }
+
+    /**
+     * Resets the cursor with a new line. The line is scanned once, and the
+     * bounds of each trimmed field are recorded. Fields are counted in the
+     * same way as {@link String#split(String)} with a comma: trailing fields
+     * that are empty before trimming are not counted, and a line without a
+     * separator has exactly one field.
+     *
+     * @param line The new line
+     */
+    public void reset(@NotNull String line) {
+
+        /*
+         * Set the line. Initialize the field index, the start of the first
+         * field, and the count of fields through the last non-empty field.
+         */
+        this.line = line;
+        int index = 0, nonEmptyCount = 0, start = 0;
+
+        // Get the line length, and cycle for each character.
+        final int length = line.length();
+        for (int i = 0; i < length; ++i) {
+
+            // Is the first/next character a separator?
+            if (separator == line.charAt(i)) {
+
+                /*
+                 * The character is a separator. Note the field if it is not
+                 * empty, then add it.
+                 */
+                if (start < i) {
+                    nonEmptyCount = index + 1;
+                }
+
+                addField(index++, start, i);
+                start = i + 1;
+            }
+        }
+
+        // Note the final field if it is not empty, then add it.
+        if (start < length) {
+            nonEmptyCount = index + 1;
+        }
+
+        addField(index++, start, length);
+
+        /*
+         * A line without a separator is its own single field. Otherwise,
+         * trailing empty fields are not counted.
+         */
+        fieldCount = (1 == index) ? index : nonEmptyCount;
+    }
+
+    /**
+     * Writes the trimmed fields, so that they can be restored by
+     * {@link #read(DataInput)} without scanning or trimming the line again.
+     * Whitespace around the fields, and the separators between them, are not
+     * written.
+     *
+     * @param output The output to which to write
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public void write(@NotNull DataOutput output) throws IOException {
+
+        // Join the trimmed fields, encode them, and write their bytes.
+        final StringBuilder builder = new StringBuilder(line.length());
+        for (int i = 0; i < fieldCount; ++i) {
+            builder.append(line, starts[i], ends[i]);
+        }
+
+        final byte[] bytes =
+                builder.toString().getBytes(StandardCharsets.UTF_8);
+        writeLength(output, bytes.length);
+        output.write(bytes);
+
+        // Write the field count, and the length of each trimmed field.
+        writeLength(output, fieldCount);
+        for (int i = 0; i < fieldCount; ++i) {
+            writeLength(output, ends[i] - starts[i]);
+        }
+    }
+
+    private class FieldView implements CharSequence {
+
+        // The index of the field
+        private final int index;
+
+        /**
+         * Constructs the field view.
+         *
+         * @param index The index of the field
+         */
+        public FieldView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public char charAt(int position) {
+
+            // Throw an exception if the position is out of bounds.
+            if ((0 > position) || (length() <= position)) {
+                throw new IndexOutOfBoundsException(String.format("Position " +
+                        "%d is out of bounds for field length %d.", position,
+                        length()));
+            }
+
+            // Return the character at the position in the field.
+            return line.charAt(starts[index] + position);
+        }
+
+        @Override
+        public int length() {
+            return ends[index] - starts[index];
+        }
+
+        @Override
+        public @NotNull CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return line.substring(starts[index], ends[index]);
+        }
+    }
+}
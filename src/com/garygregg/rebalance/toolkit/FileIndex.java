@@ -0,0 +1,296 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class FileIndex {
+
+    // An instance of the file index
+    private static final FileIndex instance = new FileIndex();
+
+    /*
+     * Indices of dated files, keyed first by type directory, then by the
+     * pattern of the file names
+     */
+    private final Map<Path, Map<String, NavigableMap<Date, Path>>> indices =
+            new ConcurrentHashMap<>();
+
+    // A watch service for invalidating indices (null if not watching)
+    private volatile WatchService watchService;
+
+    /**
+     * Constructs the file index.
+     */
+    private FileIndex() {
+
+        // Nothing to do here currently.
+    }
+
+    /**
+     * Gets an instance of the file index.
+     *
+     * @return An instance of the file index
+     */
+    public static @NotNull FileIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Chooses between two files with the same date, preferring the one whose
+     * name sorts last.
+     *
+     * @param first  The first file
+     * @param second The second file
+     * @return The file whose name sorts last
+     */
+    private static @NotNull Path choose(@NotNull Path first,
+                                        @NotNull Path second) {
+        return (0 <= first.getFileName().toString().compareTo(
+                second.getFileName().toString())) ? first : second;
+    }
+
+    /**
+     * Gets the dates of the files with names that are flagged as occurring
+     * in a range of dates.
+     *
+     * @param utilities The date utilities for the type of file
+     * @param first     The first date of the range (inclusive; maybe null for
+     *                  no lower bound)
+     * @param last      The last date of the range (inclusive; maybe null for
+     *                  no upper bound)
+     * @return The dates of the files in the range, in ascending order
+     */
+    public @NotNull NavigableSet<Date> getDates(
+            @NotNull DateUtilities utilities, Date first, Date last) {
+
+        /*
+         * Invalidate any indices of directories that have changed. Get the
+         * index for the given type of file, scanning its directory if needed.
+         */
+        invalidateChanged();
+        NavigableMap<Date, Path> index = getIndex(utilities);
+
+        // The range is empty if the first date is after the last.
+        if ((null != first) && (null != last) && first.after(last)) {
+            return new TreeSet<>();
+        }
+
+        // Limit the index to any first date, and to any last date.
+        if (null != first) {
+            index = index.tailMap(first, true);
+        }
+
+        if (null != last) {
+            index = index.headMap(last, true);
+        }
+
+        // Return a copy of the dates that remain.
+        return new TreeSet<>(index.navigableKeySet());
+    }
+
+    /**
+     * Gets the most recent file, if any, with a name that is flagged as
+     * occurring on or before the given date (date may be null).
+     *
+     * @param utilities The date utilities for the type of file
+     * @param date      The given date (maybe null)
+     * @return The thus described file, or null if none exists
+     */
+    public Path getFloor(@NotNull DateUtilities utilities, Date date) {
+
+        /*
+         * Invalidate any indices of directories that have changed. Get the
+         * index for the given type of file, scanning its directory if needed.
+         */
+        invalidateChanged();
+        final NavigableMap<Date, Path> index = getIndex(utilities);
+
+        /*
+         * Get the last entry in the index if the date is null. Otherwise, get
+         * the entry with the greatest date that is not after the given date.
+         */
+        final Map.Entry<Date, Path> entry = (null == date) ?
+                index.lastEntry() : index.floorEntry(date);
+
+        // Return the file of the entry, if any.
+        return (null == entry) ? null : entry.getValue();
+    }
+
+    /**
+     * Gets the index for a type of file, scanning its directory if needed.
+     *
+     * @param utilities The date utilities for the type of file
+     * @return The index for the type of file
+     */
+    private @NotNull NavigableMap<Date, Path>
+    getIndex(@NotNull DateUtilities utilities) {
+
+        // Get the indices for the type directory, creating them if needed.
+        final Path directory = utilities.getTypeDirectory().toPath();
+        final Map<String, NavigableMap<Date, Path>> directoryIndices =
+                indices.computeIfAbsent(directory, key -> {
+
+                    // Watch the directory for changes.
+                    watch(key);
+                    return new ConcurrentHashMap<>();
+                });
+
+        // Get the index for the pattern, scanning the directory if needed.
+        return directoryIndices.computeIfAbsent(
+                utilities.getFilenamePattern().pattern(),
+                key -> scan(utilities));
+    }
+
+    /**
+     * Invalidates all indices.
+     */
+    public void invalidate() {
+        indices.clear();
+    }
+
+    /**
+     * Invalidates the indices of directories that have changed since they
+     * were scanned. This does nothing if directories are not being watched.
+     */
+    private void invalidateChanged() {
+
+        // Do nothing if directories are not being watched.
+        final WatchService service = watchService;
+        if (null == service) {
+            return;
+        }
+
+        /*
+         * Declare a variable to receive watch keys. Cycle while there are
+         * keys with pending events.
+         */
+        WatchKey key;
+        while (null != (key = service.poll())) {
+
+            /*
+             * Discard the events of the key, and invalidate the indices of its
+             * directory. Cancel the key; the directory will be watched again
+             * when it is next scanned.
+             */
+            key.pollEvents();
+            indices.remove((Path) key.watchable());
+            key.cancel();
+        }
+    }
+
+    /**
+     * Scans a type directory for dated files.
+     *
+     * @param utilities The date utilities for the type of file
+     * @return An index of the dated files
+     */
+    private @NotNull NavigableMap<Date, Path>
+    scan(@NotNull DateUtilities utilities) {
+
+        /*
+         * Create the index. List the files in the type directory. Are there
+         * any?
+         */
+        final NavigableMap<Date, Path> index = new TreeMap<>();
+        final File directory = utilities.getTypeDirectory();
+        final String[] names = directory.list();
+        if (null != names) {
+
+            /*
+             * There are files in the directory. Declare a variable to receive
+             * parsed dates. Cycle for each file name.
+             */
+            Date date;
+            for (String name : names) {
+
+                /*
+                 * Parse the date from the first/next file name. Add the file
+                 * to the index if the name has a date, preferring the file
+                 * whose name sorts last if two have the same date.
+                 */
+                date = utilities.parseFilename(name);
+                if (null != date) {
+                    index.merge(date, directory.toPath().resolve(name),
+                            FileIndex::choose);
+                }
+            }
+        }
+
+        // Return the index.
+        return index;
+    }
+
+    /**
+     * Starts watching scanned directories for changes, invalidating the
+     * indices of any that change. This is useful for long-lived processes.
+     *
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public synchronized void startWatching() throws IOException {
+
+        /*
+         * Do nothing if directories are already being watched. Otherwise,
+         * create a watch service, and invalidate all indices so that
+         * directories are watched when they are next scanned.
+         */
+        if (null == watchService) {
+
+            watchService = FileSystems.getDefault().newWatchService();
+            invalidate();
+        }
+    }
+
+    /**
+     * Stops watching scanned directories for changes.
+     *
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public synchronized void stopWatching() throws IOException {
+
+        // Close any watch service.
+        final WatchService service = watchService;
+        if (null != service) {
+
+            watchService = null;
+            service.close();
+        }
+    }
+
+    /**
+     * Watches a directory for changes if directories are being watched.
+     *
+     * @param directory The directory to watch
+     */
+    private void watch(@NotNull Path directory) {
+
+        // Do nothing if directories are not being watched.
+        final WatchService service = watchService;
+        if (null == service) {
+            return;
+        }
+
+        try {
+
+            // Try to watch the directory for any change to its entries.
+            directory.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+
+        /*
+         * Catch any I/O exception that may occur. The directory may not
+         * exist, in which case there is nothing to watch. Its index will be
+         * empty until invalidated some other way.
+         */
+        catch (@NotNull IOException exception) {
+
+            // Nothing to do here.
+        }
+    }
+}
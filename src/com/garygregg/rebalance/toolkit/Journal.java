@@ -0,0 +1,160 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+public class Journal {
+
+    // The initial capacity of a journal
+    private static final int initialCapacity = 64;
+
+    // The number of times the journal has been opened, but not closed
+    private int openCount;
+
+    // The receivers of each entry
+    private CurrencyReceiver[] receivers =
+            new CurrencyReceiver[initialCapacity];
+
+    // The number of entries in the journal
+    private int size;
+
+    // The states of each entry
+    private double[] states = new double[initialCapacity];
+
+    /**
+     * Adds an entry to the journal.
+     *
+     * @param receiver The receiver of the entry
+     * @param state    The state of the entry
+     */
+    private void add(@NotNull CurrencyReceiver receiver, double state) {
+
+        /*
+         * Grow the arrays of receivers and states if there is no room for
+         * another entry.
+         */
+        if (receivers.length == size) {
+
+            receivers = Arrays.copyOf(receivers, size << 1);
+            states = Arrays.copyOf(states, size << 1);
+        }
+
+        // Add the entry, and increment the size.
+        receivers[size] = receiver;
+        states[size++] = state;
+    }
+
+    /**
+     * Clears the journal.
+     */
+    public void clear() {
+
+        // Clear the receivers so they may be collected, and reset the size.
+        Arrays.fill(receivers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Closes the journal for recording. The journal is cleared once it has
+     * been closed as many times as it was opened, since no entry can be
+     * rolled back after that.
+     */
+    public void close() {
+
+        // Decrement the open count. Clear the journal if it reaches zero.
+        if (0 == --openCount) {
+            clear();
+        }
+    }
+
+    /**
+     * Copies the current state of each receiver recorded in another journal
+     * since a mark. Any existing entries in this journal are cleared first.
+     *
+     * @param journal The journal from which to copy receivers
+     * @param mark    The mark in the other journal from which to copy
+     */
+    public void copyCurrent(@NotNull Journal journal, int mark) {
+
+        /*
+         * Clear this journal. Cycle for each entry in the other journal since
+         * the mark, and add the current state of its receiver.
+         */
+        clear();
+        CurrencyReceiver receiver;
+        for (int i = mark; i < journal.size; ++i) {
+
+            receiver = journal.receivers[i];
+            add(receiver, receiver.getState());
+        }
+    }
+
+    /**
+     * Gets a mark in the journal.
+     *
+     * @return The mark, which may be used to roll back the journal
+     */
+    public int mark() {
+        return size;
+    }
+
+    /**
+     * Opens the journal for recording. State is only recorded while the
+     * journal is open.
+     */
+    public void open() {
+        ++openCount;
+    }
+
+    /**
+     * Records the current state of a receiver, if the journal is open.
+     *
+     * @param receiver The receiver whose state is to be recorded
+     */
+    public void record(@NotNull CurrencyReceiver receiver) {
+
+        // Add an entry only if the journal is open.
+        if (0 < openCount) {
+            add(receiver, receiver.getState());
+        }
+    }
+
+    /**
+     * Replays the entries of this journal, restoring the state of each
+     * receiver. Each receiver is first recorded in another journal so that
+     * the replay may itself be rolled back.
+     *
+     * @param journal The journal in which to record each receiver
+     */
+    public void replay(@NotNull Journal journal) {
+
+        // Cycle for each entry, record the receiver, then restore its state.
+        for (int i = 0; i < size; ++i) {
+
+            journal.record(receivers[i]);
+            receivers[i].restoreState(states[i]);
+        }
+    }
+
+    /**
+     * Rolls back the journal to a mark, restoring the state of each receiver
+     * recorded since the mark in the reverse order it was recorded.
+     *
+     * @param mark The mark to which to roll back
+     */
+    public void rollBack(int mark) {
+
+        // Cycle while there are entries since the mark.
+        while (mark < size) {
+
+            /*
+             * Decrement the size, and restore the state of the receiver of
+             * the entry. Clear the receiver so that it may be collected.
+             */
+            --size;
+            receivers[size].restoreState(states[size]);
+            receivers[size] = null;
+        }
+    }
+}
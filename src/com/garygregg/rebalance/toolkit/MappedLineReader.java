@@ -0,0 +1,159 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MappedLineReader implements Closeable {
+
+    // The carriage return character
+    private static final byte carriageReturn = '\r';
+
+    // The character set of data files, whichever way they are read
+    private static final Charset charset = StandardCharsets.UTF_8;
+
+    // The initial capacity of the line buffer
+    private static final int initialCapacity = 256;
+
+    // The line feed character
+    private static final byte lineFeed = '\n';
+
+    // The largest file that can be mapped in one region
+    private static final long maximumSize = Integer.MAX_VALUE;
+
+    // The mapped buffer
+    private final MappedByteBuffer buffer;
+
+    // The channel of the mapped file
+    private final FileChannel channel;
+
+    // A reusable buffer for the bytes of a line
+    private byte[] lineBytes = new byte[initialCapacity];
+
+    /**
+     * Constructs the mapped line reader.
+     *
+     * @param file The file to map
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    public MappedLineReader(@NotNull File file) throws IOException {
+
+        /*
+         * Open a channel for the file. Is the file too large to map in one
+         * region?
+         */
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        final long size = channel.size();
+        if (maximumSize < size) {
+
+            // The file is too large to map. Close the channel, and complain.
+            channel.close();
+            throw new IOException(String.format("File '%s' of size %d is " +
+                    "too large to map; the maximum is %d.", file, size,
+                    maximumSize));
+        }
+
+        // Map the file.
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Determines if a file can be mapped in one region.
+     *
+     * @param file The file to test
+     * @return True if the file can be mapped in one region, false otherwise
+     */
+    public static boolean canMap(@NotNull File file) {
+        return file.length() <= maximumSize;
+    }
+
+    /**
+     * Gets the character set of data files, whichever way they are read.
+     *
+     * @return The character set of data files
+     */
+    public static @NotNull Charset getCharset() {
+        return charset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads a line. As with {@link java.io.BufferedReader#readLine()}, a line
+     * is terminated by a line feed, a carriage return, or a carriage return
+     * followed immediately by a line feed.
+     *
+     * @return The line, not including any line termination characters, or
+     * null if the end of the mapped file has been reached
+     */
+    public String readLine() {
+
+        // Return null if the end of the mapped file has been reached.
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        /*
+         * Declare a variable to receive the first/next byte. Initialize the
+         * length of the line, and a flag indicating whether the line is
+         * entirely ASCII. Cycle while bytes remain in the buffer.
+         */
+        byte current;
+        int length = 0;
+        boolean ascii = true;
+        while (buffer.hasRemaining()) {
+
+            /*
+             * Get the first/next byte. Break if it is a line feed, or a
+             * carriage return.
+             */
+            current = buffer.get();
+            if (lineFeed == current) {
+                break;
+            }
+
+            else if (carriageReturn == current) {
+
+                /*
+                 * The byte is a carriage return. Consume any line feed that
+                 * immediately follows it, then break.
+                 */
+                if (buffer.hasRemaining() &&
+                        (lineFeed == buffer.get(buffer.position()))) {
+                    buffer.get();
+                }
+
+                break;
+            }
+
+            // Grow the line buffer if it is not large enough.
+            if (lineBytes.length <= length) {
+                lineBytes = Arrays.copyOf(lineBytes, length << 1);
+            }
+
+            // Add the byte to the line, and note if it is not ASCII.
+            lineBytes[length++] = current;
+            ascii &= (0 <= current);
+        }
+
+        /*
+         * Decode the line. An ASCII line may be decoded as ISO-8859-1, which
+         * is a straight copy of the bytes, and decodes the same as in the
+         * character set of data files. Otherwise, decode the line in the
+         * character set of data files.
+         */
+        return new String(lineBytes, 0, length, ascii ?
+                StandardCharsets.ISO_8859_1 : charset);
+    }
+}
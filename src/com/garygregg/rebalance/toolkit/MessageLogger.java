@@ -3,7 +3,13 @@ package com.garygregg.rebalance.toolkit;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 public class MessageLogger {
@@ -11,9 +17,20 @@ public class MessageLogger {
     // The error stream we will use
     private static final PrintStream defaultErrorStream = System.err;
 
+    /*
+     * Lists of log records deferred by the current thread, innermost
+     * deferral first; empty if not deferring. A record paired with a null
+     * logger is a message that was to be streamed, not logged.
+     */
+    private static final ThreadLocal<Deque<List<Pair<Logger, LogRecord>>>>
+            deferred = ThreadLocal.withInitial(ArrayDeque::new);
+
     // The output stream we will use
     private static final PrintStream defaultOutputStream = System.out;
 
+    // A stack walker to find the callers of message loggers
+    private static final StackWalker walker = StackWalker.getInstance();
+
     // The logging level for extraordinary information
     private static final Level extraordinary;
 
@@ -70,6 +87,38 @@ public class MessageLogger {
         resetProblem2();
     }
 
+    /**
+     * Creates a log record for a message, with the class and method that
+     * called the message logger as its source. The source is set now, since
+     * it cannot be inferred once the record is published from elsewhere.
+     *
+     * @param level   The level of the message
+     * @param message The message
+     * @return A log record for the message
+     */
+    private static @NotNull LogRecord createRecord(@NotNull Level level,
+                                                   @NotNull String message) {
+
+        /*
+         * Create the record. Find the first frame on the stack that is not in
+         * this class. Set the source of the record from the frame if there
+         * is one.
+         */
+        final LogRecord record = new LogRecord(level, message);
+        final String name = MessageLogger.class.getName();
+        final Optional<StackWalker.StackFrame> caller = walker.walk(frames ->
+                frames.filter(frame -> !name.equals(frame.getClassName()))
+                        .findFirst());
+        caller.ifPresent(frame -> {
+
+            record.setSourceClassName(frame.getClassName());
+            record.setSourceMethodName(frame.getMethodName());
+        });
+
+        // Return the record.
+        return record;
+    }
+
     /**
      * Gets the error stream we will use.
      *
@@ -119,6 +168,57 @@ public class MessageLogger {
         return (null == candidate) ? defaultStream : candidate;
     }
 
+    /**
+     * Prints a message to the proper print stream for its level.
+     *
+     * @param level   The level of the message
+     * @param message The message to print
+     */
+    private static void print(@NotNull Level level, @NotNull String message) {
+
+        // Identify the proper print stream for the message.
+        final PrintStream printStream = (level.intValue() <
+                Level.SEVERE.intValue()) ? getOutputStream() :
+                getErrorStream();
+
+        // Print the message to the print stream.
+        printStream.println(message);
+    }
+
+    /**
+     * Publishes log records that were deferred, in the order they were
+     * deferred.
+     *
+     * @param records The log records to publish, paired with the loggers
+     *                that received them, or with null if the record is a
+     *                message to stream
+     */
+    public static void publish(
+            @NotNull List<Pair<Logger, LogRecord>> records) {
+
+        /*
+         * Declare a variable to receive loggers. Cycle for each record, and
+         * get its logger.
+         */
+        Logger logger;
+        LogRecord record;
+        for (Pair<Logger, LogRecord> pair : records) {
+
+            /*
+             * Stream the message of the record if it has no logger.
+             * Otherwise, log the record with its logger.
+             */
+            record = pair.getSecond();
+            if (null == (logger = pair.getFirst())) {
+                print(record.getLevel(), record.getMessage());
+            }
+
+            else {
+                logger.log(record);
+            }
+        }
+    }
+
     /**
      * Sets an error stream.
      *
@@ -138,20 +238,54 @@ public class MessageLogger {
     }
 
     /**
-     * Streams a message.
+     * Starts deferring log records in the current thread. Records logged by
+     * any message logger in this thread will be saved, and not published,
+     * until deferral is stopped. Deferral may be nested; records go to the
+     * innermost deferral.
+     */
+    public static void startDeferring() {
+        deferred.get().push(new ArrayList<>());
+    }
+
+    /**
+     * Stops the innermost deferral of log records in the current thread.
+     * Any enclosing deferral continues.
+     *
+     * @return The log records deferred since deferral was started, paired
+     * with the loggers that received them
+     */
+    public static @NotNull List<Pair<Logger, LogRecord>> stopDeferring() {
+
+        /*
+         * Get the deferred records of the innermost deferral, and stop it.
+         * Return an empty list if deferral was never started.
+         */
+        final List<Pair<Logger, LogRecord>> records = deferred.get().poll();
+        return (null == records) ? new ArrayList<>() : records;
+    }
+
+    /**
+     * Streams a message. If the current thread is deferring log records, the
+     * message is deferred with them, and streamed when they are published.
      *
      * @param level   The level of the message
      * @param message The message to stream
      */
     public static void stream(@NotNull Level level, @NotNull String message) {
 
-        // Identify the proper print stream for the message.
-        final PrintStream printStream = (level.intValue() <
-                Level.SEVERE.intValue()) ? getOutputStream() :
-                getErrorStream();
-
-        // Print the message to the print stream.
-        printStream.println(message);
+        /*
+         * Get any deferred records for the current thread. Print the message
+         * if records are not being deferred. Otherwise, defer a record for
+         * the message without a logger.
+         */
+        final List<Pair<Logger, LogRecord>> records = deferred.get().peek();
+        if (null == records) {
+            print(level, message);
+        }
+
+        else {
+            records.add(new Pair<>(null, createRecord(level, message)));
+        }
     }
 
     /**
@@ -192,10 +326,36 @@ public class MessageLogger {
      */
     public boolean log(@NotNull Level level, @NotNull String message) {
 
-        // Log the message, and return the problem flag for this message.
+        /*
+         * Observe the level of the message, and get the current logger. Will
+         * the logger log a message of the observed level?
+         */
         final ThresholdMonitor first = monitors.getFirst();
-        getLogger().log(first.observe(monitors.getSecond().observe(level)),
-                message);
+        final Level observed =
+                first.observe(monitors.getSecond().observe(level));
+        final Logger logger = getLogger();
+        if (logger.isLoggable(observed)) {
+
+            /*
+             * The logger will log the message. Create a record for the
+             * message, and get any deferred records for the current thread.
+             * Log the record if records are not being deferred.
+             */
+            final LogRecord record = createRecord(observed, message);
+            record.setLoggerName(logger.getName());
+            final List<Pair<Logger, LogRecord>> records =
+                    deferred.get().peek();
+            if (null == records) {
+                logger.log(record);
+            }
+
+            // Records are being deferred. Defer the record.
+            else {
+                records.add(new Pair<>(logger, record));
+            }
+        }
+
+        // Return the problem flag for this message.
         return first.isThresholdReached(level);
     }
 
@@ -107,6 +107,21 @@ public class PreferenceManager {
         return result;
     }
 
+    /**
+     * Creates an adjuster with the same x-values as the shared adjuster. A
+     * created adjuster may have its y-values set without disturbing any
+     * other adjuster.
+     *
+     * @return A new adjuster
+     */
+    public static @NotNull Adjuster createAdjuster() {
+
+        // Create a new adjuster, set its x-values, and return it.
+        final HyperbolicAdjuster adjuster = new HyperbolicAdjuster();
+        adjuster.setX(1., getBearRatio(), 0.);
+        return adjuster;
+    }
+
     /**
      * Gets the fraction that characterizes a bear market.
      *
@@ -263,6 +278,28 @@ public class PreferenceManager {
         return getLevel(CommandLineId.EXTRAORDINARY);
     }
 
+    /**
+     * Gets the number of consideration patterns evaluated concurrently per
+     * batch.
+     *
+     * @return The number of consideration patterns evaluated concurrently
+     * per batch, one or null if consideration patterns are evaluated one at
+     * a time
+     */
+    public @Nullable Integer getFanout() {
+        return getInt(CommandLineId.FANOUT);
+    }
+
+    /**
+     * Gets whether holdings are streamed directly into hierarchies.
+     *
+     * @return Non-zero if holdings are streamed directly into hierarchies,
+     * zero or null otherwise
+     */
+    public @Nullable Integer getFeed() {
+        return getInt(CommandLineId.FEED);
+    }
+
     /**
      * Gets the difference between the S&P 500 last close and the S&P 500 today
      * divided by the S&P 500 last close.
@@ -291,6 +328,16 @@ public class PreferenceManager {
         return fractionTodayOfHigh;
     }
 
+    /**
+     * Gets the time budget of reallocation iterations per run.
+     *
+     * @return The time budget of reallocation iterations per run in seconds,
+     * zero or null if there is no budget per run
+     */
+    public @Nullable Integer getGlobalQuota() {
+        return getInt(CommandLineId.GLOBALQUOTA);
+    }
+
     /**
      * Gets the high of the S&P 500.
      *
@@ -346,6 +393,37 @@ public class PreferenceManager {
         return (null == level) ? Level.ALL : level;
     }
 
+    /**
+     * Gets the number of threads to use for concurrent work.
+     *
+     * @return The number of threads to use for concurrent work
+     */
+    public @Nullable Integer getJobs() {
+        return getInt(CommandLineId.JOBS);
+    }
+
+    /**
+     * Gets the minimum size of a data file to have its records cached.
+     *
+     * @return The minimum size, in kilobytes, of a data file to have its
+     * records cached
+     */
+    public @Nullable Integer getKbCache() {
+        return getInt(CommandLineId.KBCACHE);
+    }
+
+    /**
+     * Gets the minimum size, in kilobytes, of a data file to be memory-mapped
+     * for reading.
+     *
+     * @return The minimum size, in kilobytes, of a data file to be
+     * memory-mapped for reading, or null if no data file is to be
+     * memory-mapped
+     */
+    public @Nullable Integer getKbMap() {
+        return getInt(CommandLineId.KBMAP);
+    }
+
     /**
      * Gets the desired logging level.
      *
@@ -375,6 +453,16 @@ public class PreferenceManager {
         return getInt(CommandLineId.Y);
     }
 
+    /**
+     * Gets whether consideration patterns are pruned by bound.
+     *
+     * @return Non-zero if consideration patterns are pruned by bound, zero or
+     * null otherwise
+     */
+    public @Nullable Integer getNarrow() {
+        return getInt(CommandLineId.NARROW);
+    }
+
     /**
      * Gets the logging level for ordinary informational messages.
      *
@@ -393,6 +481,16 @@ public class PreferenceManager {
         return preferences;
     }
 
+    /**
+     * Gets the time budget of reallocation iterations per account.
+     *
+     * @return The time budget of reallocation iterations per account in
+     * milliseconds, zero or null if there is no budget per account
+     */
+    public @Nullable Integer getQuota() {
+        return getInt(CommandLineId.QUOTA);
+    }
+
     /**
      * Gets the ratio of the S&P 500 today divided by the S&P 500 last close
      *
@@ -452,6 +550,27 @@ public class PreferenceManager {
         return getDouble(CommandLineId.TODAY);
     }
 
+    /**
+     * Gets the time budget of the share solver per account.
+     *
+     * @return The time budget of the share solver per account in
+     * milliseconds, zero or null if accounts are not rebalanced by the share
+     * solver
+     */
+    public @Nullable Integer getWholeShares() {
+        return getInt(CommandLineId.WHOLESHARES);
+    }
+
+    /**
+     * Gets the number of cents of currency interned either side of zero.
+     *
+     * @return The number of cents of currency interned either side of zero,
+     * or null if a default is to be used
+     */
+    public @Nullable Integer getZeroCents() {
+        return getInt(CommandLineId.ZEROCENTS);
+    }
+
     /**
      * Recalculates high versus today.
      */
@@ -509,6 +628,39 @@ public class PreferenceManager {
         setLevel(CommandLineId.EXTRAORDINARY, value);
     }
 
+    /**
+     * Sets the number of consideration patterns evaluated concurrently per
+     * batch.
+     *
+     * @param fanout The number of consideration patterns evaluated
+     *               concurrently per batch, one or null if consideration
+     *               patterns are to be evaluated one at a time
+     */
+    public void setFanout(Integer fanout) {
+        setInt(CommandLineId.FANOUT, fanout);
+    }
+
+    /**
+     * Sets whether holdings are streamed directly into hierarchies.
+     *
+     * @param feed Non-zero if holdings are streamed directly into
+     *             hierarchies, zero or null otherwise
+     */
+    public void setFeed(Integer feed) {
+        setInt(CommandLineId.FEED, feed);
+    }
+
+    /**
+     * Sets the time budget of reallocation iterations per run.
+     *
+     * @param globalQuota The time budget of reallocation iterations per run in
+     *                    seconds, zero or null if there is to be no budget per
+     *                    run
+     */
+    public void setGlobalQuota(Integer globalQuota) {
+        setInt(CommandLineId.GLOBALQUOTA, globalQuota);
+    }
+
     /**
      * Sets the high of the S&P 500.
      *
@@ -544,6 +696,37 @@ public class PreferenceManager {
                 value);
     }
 
+    /**
+     * Sets the number of threads to use for concurrent work.
+     *
+     * @param jobs The number of threads to use for concurrent work
+     */
+    public void setJobs(Integer jobs) {
+        setInt(CommandLineId.JOBS, jobs);
+    }
+
+    /**
+     * Sets the minimum size of a data file to have its records cached.
+     *
+     * @param kbCache The minimum size, in kilobytes, of a data file to have
+     *                its records cached
+     */
+    public void setKbCache(Integer kbCache) {
+        setInt(CommandLineId.KBCACHE, kbCache);
+    }
+
+    /**
+     * Sets the minimum size, in kilobytes, of a data file to be memory-mapped
+     * for reading.
+     *
+     * @param kbMap The minimum size, in kilobytes, of a data file to be
+     *              memory-mapped for reading, or null if no data file is to be
+     *              memory-mapped
+     */
+    public void setKbMap(Integer kbMap) {
+        setInt(CommandLineId.KBMAP, kbMap);
+    }
+
     /**
      * Sets the desired logging level.
      *
@@ -584,6 +767,16 @@ public class PreferenceManager {
         setInt(CommandLineId.Y, maxLevel);
     }
 
+    /**
+     * Sets whether consideration patterns are pruned by bound.
+     *
+     * @param narrow Non-zero if consideration patterns are pruned by bound,
+     *               zero or null otherwise
+     */
+    public void setNarrow(Integer narrow) {
+        setInt(CommandLineId.NARROW, narrow);
+    }
+
     /**
      * Sets the logging level for ordinary informational messages.
      *
@@ -604,6 +797,17 @@ public class PreferenceManager {
                 (null == value) ? getDefaultPathName() : value.toString());
     }
 
+    /**
+     * Sets the time budget of reallocation iterations per account.
+     *
+     * @param quota The time budget of reallocation iterations per account
+     *              in milliseconds, zero or null if there is to be no
+     *              budget per account
+     */
+    public void setQuota(Integer quota) {
+        setInt(CommandLineId.QUOTA, quota);
+    }
+
     /**
      * Sets the source data directory.
      *
@@ -628,6 +832,27 @@ public class PreferenceManager {
         signalChangeToday();
     }
 
+    /**
+     * Sets the time budget of the share solver per account.
+     *
+     * @param wholeShares The time budget of the share solver per account in
+     *                    milliseconds, zero or null if accounts are not to be
+     *                    rebalanced by the share solver
+     */
+    public void setWholeShares(Integer wholeShares) {
+        setInt(CommandLineId.WHOLESHARES, wholeShares);
+    }
+
+    /**
+     * Sets the number of cents of currency interned either side of zero.
+     *
+     * @param zeroCents The number of cents of currency interned either side
+     *                  of zero, or null if a default is to be used
+     */
+    public void setZeroCents(Integer zeroCents) {
+        setInt(CommandLineId.ZEROCENTS, zeroCents);
+    }
+
     /**
      * Signals that the S&P 500 last close has changed.
      */
@@ -12,6 +12,9 @@ public class Reallocator {
     private final ValueExtractor<MutableCountable> forCountables =
             MutableCountable::getValue;
 
+    // The weights as an array, copied once for whole unit reallocation
+    private final double[] weightArray;
+
     // The sum of the weights
     private final double weightSum;
 
@@ -23,7 +26,8 @@ public class Reallocator {
      *
      * @param weights A list of weights to apply to any reallocation operation;
      *                this list may be modified by the caller before any
-     *                subsequent reallocation
+     *                subsequent reallocation of countables, but whole unit
+     *                reallocation uses the weights as they are now
      */
     public Reallocator(@NotNull List<Double> weights) {
 
@@ -33,6 +37,13 @@ public class Reallocator {
         // Create the list of weights.
         final ValueExtractor<Double> forDoubles = object -> object;
         this.weightSum = sum(weights, forDoubles);
+
+        // Copy the weights to an array for whole unit reallocation.
+        final int size = weights.size();
+        weightArray = new double[size];
+        for (int i = 0; i < size; ++i) {
+            weightArray[i] = weights.get(i);
+        }
     }
 
     /**
@@ -62,6 +73,137 @@ public class Reallocator {
         }
     }
 
+    /**
+     * Orders indices of remainders so that the remainders are in descending
+     * order, or in ascending order. Indices with equal remainders keep their
+     * relative order.
+     *
+     * @param remainders The remainders
+     * @param descending True if the remainders are to be in descending order;
+     *                   false if they are to be in ascending order
+     * @return The ordered indices of the remainders
+     */
+    private static int @NotNull [] order(double @NotNull [] remainders,
+                                         boolean descending) {
+
+        /*
+         * Create an array of keys that sort in ascending order; negate the
+         * remainders for descending order.
+         */
+        final int size = remainders.length;
+        final double[] keys = new double[size];
+        for (int i = 0; i < size; ++i) {
+            keys[i] = descending ? -remainders[i] : remainders[i];
+        }
+
+        /*
+         * Cycle for each key. The arrays of remainders are short, so an
+         * insertion sort works well, and keeps equal keys in order.
+         */
+        final int[] indices = new int[size];
+        int j;
+        for (int i = 0; i < size; ++i) {
+
+            // Shift each earlier index with a greater key.
+            for (j = i; (0 < j) && (keys[i] < keys[indices[j - 1]]); --j) {
+                indices[j] = indices[j - 1];
+            }
+
+            // Insert the index.
+            indices[j] = i;
+        }
+
+        // Return the indices.
+        return indices;
+    }
+
+    /**
+     * Reallocates a whole number of units based on an array of weights. Each
+     * weight receives its share of the units rounded to a whole number. Any
+     * units left over, or overdrawn, by rounding go to the weights whose
+     * shares were rounded the most, one unit each, with ties going to the
+     * weight that comes first. The arithmetic is that of reallocating a list
+     * of countables, so the results are the same.
+     *
+     * @param weights An array of weights, none of which may be negative
+     * @param units   A whole number of units to reallocate (e.g., cents)
+     * @param factor  The number of units in one whole value (e.g., 100 for
+     *                cents)
+     * @return The units reallocated to each weight, in the same order
+     */
+    public static long @NotNull [] reallocate(double @NotNull [] weights,
+                                              long units, double factor) {
+
+        /*
+         * Cycle for each weight. Throw a new illegal argument exception if the
+         * first/next weight is negative. Otherwise, add it to the sum.
+         */
+        double weightsSum = 0.;
+        for (int i = 0; i < weights.length; ++i) {
+
+            if (0. > weights[i]) {
+                throw new IllegalArgumentException(String.format("Detected " +
+                        "negative element %f at index %d in list.",
+                        weights[i], i));
+            }
+
+            weightsSum += weights[i];
+        }
+
+        // Throw a new illegal argument exception if the sum is zero.
+        if (0. == weightsSum) {
+            throw new IllegalArgumentException("The sum of weights may not " +
+                    "be zero.");
+        }
+
+        /*
+         * Declare and initialize arrays for the result and the remainders.
+         * Calculate the value to reallocate, the value per weight, and
+         * declare variables to receive the share of each weight, and the sum
+         * of the rounded shares.
+         */
+        final long[] result = new long[weights.length];
+        final double[] remainders = new double[weights.length];
+        final double value = units / factor;
+        final double scale = value / weightsSum;
+        double roundedSum = 0., share;
+
+        /*
+         * Cycle for each weight, and set its share rounded to a whole number
+         * of units. Track the rounding remainder, and sum the rounded shares.
+         */
+        for (int i = 0; i < weights.length; ++i) {
+
+            share = weights[i] * scale;
+            result[i] = Math.round(share * factor);
+            remainders[i] = share - (result[i] / factor);
+            roundedSum += result[i] / factor;
+        }
+
+        /*
+         * Calculate the number of units left over, or overdrawn, by rounding.
+         * Is there such a difference?
+         */
+        final int difference = (int) ((value - roundedSum) * factor);
+        if (0 != difference) {
+
+            /*
+             * There is a difference. If it is positive, add a unit to the
+             * shares that were rounded down the most. If it is negative,
+             * subtract a unit from the shares that were rounded up the most.
+             */
+            final int addOrSubtract = (0 > difference) ? -1 : 1;
+            final int[] indices = order(remainders, 0 < addOrSubtract);
+            final int count = Math.min(Math.abs(difference), indices.length);
+            for (int i = 0; i < count; ++i) {
+                result[indices[i]] += addOrSubtract;
+            }
+        }
+
+        // Return the result.
+        return result;
+    }
+
     /**
      * Sums an iterable given the iterable and a value extractor.
      *
@@ -173,10 +315,9 @@ public class Reallocator {
              * The list from the list builder is not empty. Get the factor of
              * the first countable. The factor will be the same for all the
              * countables since the countable type of this method is
-             * parameterized. Calculate the unit from the factor.
+             * parameterized.
              */
             final double factor = list.get(0).getSecond().getFactor();
-            final double unit = 1. / factor;
 
             /*
              * Use the factor to calculate the number of countables that need
@@ -222,16 +363,29 @@ public class Reallocator {
 
                     /*
                      * Get the first/next countable (making sure to increment
-                     * the index), then add or subtract value.
+                     * the index), then add or subtract one unit.
                      */
                     countable = list.get(i++).getSecond();
-                    countable.set(countable.getValue() + (unit * addOrSubtract));
+                    countable.setUnits(countable.getUnits() + addOrSubtract);
                     difference -= addOrSubtract;
                 }
             }
         }
     }
 
+    /**
+     * Reallocates a whole number of units based on the weights contained in
+     * the reallocator.
+     *
+     * @param units  A whole number of units to reallocate (e.g., cents)
+     * @param factor The number of units in one whole value (e.g., 100 for
+     *               cents)
+     * @return The units reallocated to each weight, in the same order
+     */
+    public long @NotNull [] reallocate(long units, double factor) {
+        return reallocate(weightArray, units, factor);
+    }
+
     @FunctionalInterface
     private interface ValueExtractor<T> {
 
@@ -0,0 +1,307 @@
+package com.garygregg.rebalance.toolkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public final class RecordCache {
+
+    // The size of buffers used for reading and writing
+    private static final int bufferSize = 1 << 16;
+
+    /*
+     * The name of the subdirectory of the data directory that holds caches;
+     * it mirrors the type directories
+     */
+    private static final String cacheDirectoryName = "cache";
+
+    // The extension added to the name of a source file to name its cache
+    private static final String cacheExtension = ".cache";
+
+    // A number identifying a record cache file
+    private static final int magic = 0x52424352;
+
+    // The largest region of a source file that is checksummed at once
+    private static final long maximumRegion = Integer.MAX_VALUE;
+
+    // The extension added to the name of a cache while it is being written
+    private static final String temporaryExtension = ".tmp";
+
+    // The version of the record cache format
+    private static final int version = 3;
+
+    /**
+     * Constructs the record cache object.
+     */
+    private RecordCache() {
+
+        // Nothing to do here currently.
+    }
+
+    /**
+     * Calculates a checksum of the content of a source file. The file is
+     * memory-mapped, and checksummed without being decoded.
+     *
+     * @param source The source file
+     * @return A checksum of the content of the source file
+     * @throws IOException Indicates an I/O exception occurred
+     */
+    private static long checksum(@NotNull File source) throws IOException {
+
+        /*
+         * Create a checksum. Open a channel for the source, and get its size.
+         * Cycle for each region of the source.
+         */
+        final CRC32 checksum = new CRC32();
+        try (final FileChannel channel = FileChannel.open(source.toPath(),
+                StandardOpenOption.READ)) {
+
+            final long size = channel.size();
+            for (long position = 0L; position < size;
+                 position += maximumRegion) {
+
+                // Map the first/next region, and add it to the checksum.
+                checksum.update(channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, Math.min(maximumRegion, size - position)));
+            }
+        }
+
+        // Return the checksum.
+        return checksum.getValue();
+    }
+
+    /**
+     * Gets the name of the subdirectory of the data directory that holds
+     * caches. The subdirectory holds nothing that cannot be recreated, and
+     * need not be backed up.
+     *
+     * @return The name of the subdirectory of the data directory that holds
+     * caches
+     */
+    public static @NotNull String getCacheDirectoryName() {
+        return cacheDirectoryName;
+    }
+
+    /**
+     * Gets the cache file for a source file. The cache is kept in the cache
+     * subdirectory of the data directory, in a directory named for the type
+     * directory of the source file.
+     *
+     * @param source The source file
+     * @return The cache file for the source file
+     */
+    static @NotNull File getCacheFile(@NotNull File source) {
+
+        // Get the type directory of the source, and the data directory.
+        final File typeDirectory = source.getAbsoluteFile().getParentFile();
+        final File dataDirectory = typeDirectory.getParentFile();
+
+        // Return the cache file in the cache subdirectory.
+        return new File(new File(new File(dataDirectory, cacheDirectoryName),
+                typeDirectory.getName()), source.getName() + cacheExtension);
+    }
+
+    static class CacheReader implements Closeable {
+
+        // The input from which records are read
+        private final DataInputStream input;
+
+        /**
+         * Constructs the cache reader.
+         *
+         * @param input An input positioned at the first record
+         */
+        private CacheReader(@NotNull DataInputStream input) {
+            this.input = input;
+        }
+
+        /**
+         * Opens a reader for the cache of a source file.
+         *
+         * @param source The source file
+         * @return A reader for the cache of the source file, or null if the
+         * cache does not exist, or is not current with the source file
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        static CacheReader open(@NotNull File source) throws IOException {
+
+            // Return null if the cache file does not exist.
+            final File cache = getCacheFile(source);
+            if (!cache.isFile()) {
+                return null;
+            }
+
+            /*
+             * The cache file exists. Open it, and declare a flag that will
+             * indicate whether it is current with the source file.
+             */
+            final DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(cache),
+                            bufferSize));
+            boolean current = false;
+            try {
+
+                /*
+                 * The cache is current if it has the expected format, and
+                 * the size, modification time and checksum of the source
+                 * file recorded in it are unchanged. Check the checksum last;
+                 * it is the only check that reads the source file.
+                 */
+                current = (magic == input.readInt()) &&
+                        (version == input.readInt()) &&
+                        (source.length() == input.readLong()) &&
+                        (source.lastModified() == input.readLong()) &&
+                        (checksum(source) == input.readLong());
+            }
+
+            /*
+             * Catch any end-of-file exception that may occur. The cache is
+             * truncated, and therefore not current.
+             */
+            catch (@NotNull EOFException exception) {
+
+                // Nothing to do here; the cache is not current.
+            }
+
+            // Close the cache file if it is not current.
+            finally {
+                if (!current) {
+                    input.close();
+                }
+            }
+
+            // Return a reader if the cache is current, null otherwise.
+            return current ? new CacheReader(input) : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        /**
+         * Reads the first/next record into a field cursor.
+         *
+         * @param cursor The field cursor to receive the record
+         * @return True if a record was read, false if there are no more
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        boolean readRecord(@NotNull FieldCursor cursor) throws IOException {
+
+            /*
+             * Each record is preceded by a flag indicating that it exists.
+             * Read the record into the cursor if the flag is set.
+             */
+            final boolean result = input.readBoolean();
+            if (result) {
+                cursor.read(input);
+            }
+
+            // Return the result.
+            return result;
+        }
+    }
+
+    static class CacheWriter implements Closeable {
+
+        // The cache file
+        private final File cache;
+
+        // The output to which records are written
+        private final DataOutputStream output;
+
+        // The temporary file to which records are written
+        private final File temporary;
+
+        // True if all the records of the source file have been written
+        private boolean complete;
+
+        /**
+         * Constructs the cache writer. The cache will not replace any
+         * existing cache unless the writer is marked complete before it is
+         * closed.
+         *
+         * @param source The source file
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        CacheWriter(@NotNull File source) throws IOException {
+
+            /*
+             * Get the cache file, and a temporary file next to it. Make sure
+             * their directory exists, and open the temporary file for
+             * writing.
+             */
+            cache = getCacheFile(source);
+            temporary = new File(cache.getParentFile(),
+                    cache.getName() + temporaryExtension);
+            Files.createDirectories(temporary.getParentFile().toPath());
+            output = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(temporary), bufferSize));
+
+            // Write the format, and the identity of the source file.
+            output.writeInt(magic);
+            output.writeInt(version);
+            output.writeLong(source.length());
+            output.writeLong(source.lastModified());
+            output.writeLong(checksum(source));
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            /*
+             * Is the cache complete? If so, write the flag indicating there
+             * are no more records.
+             */
+            try {
+                if (complete) {
+                    output.writeBoolean(false);
+                }
+            }
+
+            // Close the output even if an exception occurred.
+            finally {
+                output.close();
+            }
+
+            /*
+             * Replace any existing cache with the temporary file if the cache
+             * is complete. Otherwise, delete the temporary file.
+             */
+            if (complete) {
+                Files.move(temporary.toPath(), cache.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            else {
+                Files.deleteIfExists(temporary.toPath());
+            }
+        }
+
+        /**
+         * Marks the cache complete, indicating that all the records of the
+         * source file have been written.
+         */
+        void setComplete() {
+            complete = true;
+        }
+
+        /**
+         * Writes a record from a field cursor.
+         *
+         * @param cursor The field cursor holding the record
+         * @throws IOException Indicates an I/O exception occurred
+         */
+        void writeRecord(@NotNull FieldCursor cursor) throws IOException {
+
+            // Write the flag indicating the record exists, then the record.
+            output.writeBoolean(true);
+            cursor.write(output);
+        }
+    }
+}